@@ -0,0 +1,75 @@
+package info.teksol.mindcode.benchmarks;
+
+import info.teksol.mindcode.ast.Seq;
+import info.teksol.mindcode.grammar.MindcodeParser;
+import info.teksol.mindcode.mindustry.LogicInstruction;
+import org.antlr.v4.runtime.BufferedTokenStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every stage of the compiler on a single program. Each stage receives the output of the previous stage,
+ * computed once during setup, so the numbers of the individual stages add up to {@link #endToEnd()}.
+ * <p>
+ * Subclasses decide which program is compiled, by implementing {@link #sourceCode()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xss64m"})
+public abstract class AbstractCompilerPipelineBenchmark {
+    private String sourceCode;
+    private MindcodeParser.ProgramContext parseTree;
+    private Seq ast;
+    private List<LogicInstruction> optimized;
+    private List<LogicInstruction> resolved;
+
+    protected abstract String sourceCode();
+
+    @Setup(Level.Trial)
+    public void prepareStageInputs() {
+        sourceCode = sourceCode();
+        parseTree = CompilerStages.parse(sourceCode);
+        ast = CompilerStages.buildAst(parseTree);
+        optimized = CompilerStages.generateAndOptimize(ast);
+        resolved = CompilerStages.resolve(optimized);
+    }
+
+    @Benchmark
+    public BufferedTokenStream lex() {
+        return CompilerStages.lex(sourceCode);
+    }
+
+    @Benchmark
+    public MindcodeParser.ProgramContext lexAndParse() {
+        return CompilerStages.parse(sourceCode);
+    }
+
+    @Benchmark
+    public Seq buildAst() {
+        return CompilerStages.buildAst(parseTree);
+    }
+
+    @Benchmark
+    public List<LogicInstruction> generateAndOptimize() {
+        return CompilerStages.generateAndOptimize(ast);
+    }
+
+    @Benchmark
+    public List<LogicInstruction> resolveLabels() {
+        return CompilerStages.resolve(optimized);
+    }
+
+    @Benchmark
+    public String print() {
+        return CompilerStages.print(resolved);
+    }
+
+    @Benchmark
+    public String endToEnd() {
+        return CompilerStages.compile(sourceCode);
+    }
+}
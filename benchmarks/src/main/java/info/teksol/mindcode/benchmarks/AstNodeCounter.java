@@ -0,0 +1,125 @@
+package info.teksol.mindcode.benchmarks;
+
+import info.teksol.mindcode.ast.*;
+
+import java.util.List;
+
+/**
+ * Walks a whole AST and counts its nodes. Counting is as cheap as visiting gets, which leaves dispatch as the bulk of
+ * the work {@link VisitorDispatchBenchmark} measures.
+ */
+class AstNodeCounter extends BaseAstVisitor<Integer> {
+    @Override
+    public Integer visitRef(Ref node) {
+        return 1;
+    }
+
+    @Override
+    public Integer visitIfExpression(IfExpression node) {
+        return 1 + visit(node.getCondition()) + visit(node.getTrueBranch()) + visit(node.getFalseBranch());
+    }
+
+    @Override
+    public Integer visitHeapAccess(HeapAccess node) {
+        return 1 + visit(node.getAddress());
+    }
+
+    @Override
+    public Integer visitControl(Control node) {
+        return 1 + visit(node.getTarget()) + visitAll(node.getParams());
+    }
+
+    @Override
+    public Integer visitWhileStatement(WhileExpression node) {
+        return 1 + visit(node.getCondition()) + visit(node.getBody());
+    }
+
+    @Override
+    public Integer visitVarRef(VarRef node) {
+        return 1;
+    }
+
+    @Override
+    public Integer visitAssignment(Assignment node) {
+        return 1 + visit(node.getVar()) + visit(node.getValue());
+    }
+
+    @Override
+    public Integer visitUnaryOp(UnaryOp node) {
+        return 1 + visit(node.getExpression());
+    }
+
+    @Override
+    public Integer visitStringLiteral(StringLiteral node) {
+        return 1;
+    }
+
+    @Override
+    public Integer visitNumericLiteral(NumericLiteral node) {
+        return 1;
+    }
+
+    @Override
+    public Integer visitNullLiteral(NullLiteral node) {
+        return 1;
+    }
+
+    @Override
+    public Integer visitNoOp(NoOp node) {
+        return 1;
+    }
+
+    @Override
+    public Integer visitFunctionCall(FunctionCall node) {
+        return 1 + visitAll(node.getParams());
+    }
+
+    @Override
+    public Integer visitBooleanLiteral(BooleanLiteral node) {
+        return 1;
+    }
+
+    @Override
+    public Integer visitBinaryOp(BinaryOp node) {
+        return 1 + visit(node.getLeft()) + visit(node.getRight());
+    }
+
+    @Override
+    public Integer visitSeq(Seq seq) {
+        return 1 + visitAll(seq.getExpressions());
+    }
+
+    @Override
+    public Integer visitPropertyAccess(PropertyAccess node) {
+        return 1 + visit(node.getTarget()) + visit(node.getProperty());
+    }
+
+    @Override
+    public Integer visitCaseExpression(CaseExpression node) {
+        int count = 1 + visit(node.getCondition()) + visit(node.getElseBranch());
+        for (final CaseAlternative alternative : node.getAlternatives()) {
+            count += 1 + visit(alternative.getValue()) + visit(alternative.getBody());
+        }
+
+        return count;
+    }
+
+    @Override
+    public Integer visitFunctionDeclaration(FunctionDeclaration node) {
+        return 1 + visitAll(node.getParams()) + visit(node.getBody());
+    }
+
+    @Override
+    public Integer visitStackAllocation(StackAllocation node) {
+        return 1;
+    }
+
+    private int visitAll(List<AstNode> nodes) {
+        int count = 0;
+        for (final AstNode node : nodes) {
+            count += visit(node);
+        }
+
+        return count;
+    }
+}
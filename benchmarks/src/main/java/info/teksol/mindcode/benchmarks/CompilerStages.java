@@ -0,0 +1,82 @@
+package info.teksol.mindcode.benchmarks;
+
+import info.teksol.mindcode.MindcodeCompiler;
+import info.teksol.mindcode.Tuple2;
+import info.teksol.mindcode.ast.AstNodeBuilder;
+import info.teksol.mindcode.ast.Seq;
+import info.teksol.mindcode.grammar.MindcodeLexer;
+import info.teksol.mindcode.grammar.MindcodeParser;
+import info.teksol.mindcode.mindustry.LogicInstruction;
+import info.teksol.mindcode.mindustry.LogicInstructionGenerator;
+import info.teksol.mindcode.mindustry.LogicInstructionLabelResolver;
+import info.teksol.mindcode.mindustry.LogicInstructionPrinter;
+import org.antlr.v4.runtime.BufferedTokenStream;
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Runs each stage of the path {@code MindcodeCompiler.compile} takes, one stage at a time, so that benchmarks can time
+ * each stage in isolation.
+ */
+final class CompilerStages {
+    private CompilerStages() {
+    }
+
+    static String readSample(String filename) {
+        final InputStream stream = CompilerStages.class.getClassLoader().getResourceAsStream("samples/" + filename);
+        if (stream == null) {
+            throw new IllegalArgumentException("Unknown sample: " + filename);
+        }
+
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            final StringWriter out = new StringWriter();
+            reader.transferTo(out);
+            return out.toString();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read sample: " + filename, e);
+        }
+    }
+
+    static BufferedTokenStream lex(String sourceCode) {
+        final MindcodeLexer lexer = new MindcodeLexer(CharStreams.fromString(sourceCode));
+        final BufferedTokenStream tokens = new BufferedTokenStream(lexer);
+        tokens.fill();
+        return tokens;
+    }
+
+    static MindcodeParser.ProgramContext parse(String sourceCode) {
+        final Tuple2<MindcodeParser.ProgramContext, List<String>> parsed = MindcodeCompiler.parse(sourceCode);
+        if (!parsed._2.isEmpty()) {
+            throw new IllegalStateException("Benchmarked programs must compile cleanly; found " + parsed._2);
+        }
+
+        return parsed._1;
+    }
+
+    static Seq buildAst(MindcodeParser.ProgramContext context) {
+        return AstNodeBuilder.generate(context);
+    }
+
+    static List<LogicInstruction> generateAndOptimize(Seq program) {
+        return LogicInstructionGenerator.generateAndOptimize(program);
+    }
+
+    static List<LogicInstruction> resolve(List<LogicInstruction> program) {
+        return LogicInstructionLabelResolver.resolve(program);
+    }
+
+    static String print(List<LogicInstruction> program) {
+        return LogicInstructionPrinter.toString(program);
+    }
+
+    static String compile(String sourceCode) {
+        return print(resolve(generateAndOptimize(buildAst(parse(sourceCode)))));
+    }
+}
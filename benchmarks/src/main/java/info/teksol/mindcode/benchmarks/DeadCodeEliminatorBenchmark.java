@@ -0,0 +1,38 @@
+package info.teksol.mindcode.benchmarks;
+
+import info.teksol.mindcode.MindcodeCompiler;
+import info.teksol.mindcode.ast.AstNodeBuilder;
+import info.teksol.mindcode.mindustry.LogicInstruction;
+import info.teksol.mindcode.mindustry.LogicInstructionGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the dead code eliminator alone, on the unoptimized output of generated programs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xss64m"})
+public class DeadCodeEliminatorBenchmark {
+    @Param({"1000", "10000", "50000"})
+    public int lines;
+
+    private List<LogicInstruction> program;
+
+    @Setup(Level.Trial)
+    public void generateProgram() {
+        program = LogicInstructionGenerator.generateUnoptimized(
+                AstNodeBuilder.generate(MindcodeCompiler.parse(SyntheticPrograms.generate(lines))._1)
+        );
+    }
+
+    @Benchmark
+    public List<LogicInstruction> eliminateDeadCode() {
+        return LogicInstructionGenerator.eliminateDeadCode(program);
+    }
+}
@@ -0,0 +1,29 @@
+package info.teksol.mindcode.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compiles the samples bundled with the webapp, which are representative of what players write by hand.
+ */
+@State(Scope.Benchmark)
+public class SamplesBenchmark extends AbstractCompilerPipelineBenchmark {
+    @Param({
+            "1-bind-poly-move-to-core.mnd",
+            "2-thorium-reactor-stopper.mnd",
+            "3-multi-thorium-reactor.mnd",
+            "4-demo.mnd",
+            "5-mining-drone.mnd",
+            "6-upgrade-copper-conveyors-to-titanium.mnd",
+            "7-bind-one-unit.mnd",
+            "8-heal-damaged-building.mnd",
+            "9-function-decl.mnd"
+    })
+    public String sample;
+
+    @Override
+    protected String sourceCode() {
+        return CompilerStages.readSample(sample);
+    }
+}
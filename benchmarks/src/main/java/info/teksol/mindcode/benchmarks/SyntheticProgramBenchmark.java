@@ -0,0 +1,20 @@
+package info.teksol.mindcode.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compiles generated programs that are far larger than the samples, to find out which stage dominates as scripts
+ * grow.
+ */
+@State(Scope.Benchmark)
+public class SyntheticProgramBenchmark extends AbstractCompilerPipelineBenchmark {
+    @Param({"1000", "5000", "10000", "50000"})
+    public int lines;
+
+    @Override
+    protected String sourceCode() {
+        return SyntheticPrograms.generate(lines);
+    }
+}
@@ -0,0 +1,86 @@
+package info.teksol.mindcode.benchmarks;
+
+import java.util.List;
+
+/**
+ * Generates large, syntactically valid Mindcode programs of a requested size.
+ * <p>
+ * The programs are built by cycling through a fixed set of snippets that resemble what players actually write:
+ * sensor reads, control statements, heap accesses, loops, conditionals, case expressions and function calls. Every
+ * snippet uses its own variable names, which keeps the dead code eliminator and the label resolver busy the same way
+ * a long hand-written script would. Generation is deterministic, so runs can be compared with one another.
+ */
+public final class SyntheticPrograms {
+    private static final String PROLOGUE = "" +
+            "allocate heap in cell1[0 ... 32], stack in cell2[0 ... 64]\n" +
+            "def scale(value, factor)\n" +
+            "  value * factor + 1\n" +
+            "end\n";
+
+    private static final List<String> SNIPPETS = List.of(
+            "" +
+                    "pct_avail_%1$d = reactor%1$d.cryofluid / reactor%1$d.liquidCapacity\n" +
+                    "reactor%1$d.enabled = pct_avail_%1$d >= 0.25\n",
+            "" +
+                    "x%1$d = @unit.x + %1$d * 2\n" +
+                    "if x%1$d > 100\n" +
+                    "  y%1$d = sqrt(x%1$d) + rand(10)\n" +
+                    "else\n" +
+                    "  y%1$d = x%1$d %% 7\n" +
+                    "end\n",
+            "" +
+                    "n%1$d = 0\n" +
+                    "while n%1$d < 10\n" +
+                    "  n%1$d += 1\n" +
+                    "end\n",
+            "" +
+                    "case $state\n" +
+                    "  when 1\n" +
+                    "    move(@thisx, @thisy)\n" +
+                    "  when 2\n" +
+                    "    approach(10, 20, 5)\n" +
+                    "  else\n" +
+                    "    $state = 1\n" +
+                    "end\n",
+            "" +
+                    "for i%1$d in 0 ... 8\n" +
+                    "  cell3[i%1$d] = cell3[i%1$d] + %1$d\n" +
+                    "end\n",
+            "" +
+                    "$count = scale($count, %1$d)\n" +
+                    "print(\"count: \", $count, \"\\n\")\n" +
+                    "printflush(message1)\n",
+            "" +
+                    "building%1$d = getlink(%1$d %% 10)\n" +
+                    "enabled%1$d = building%1$d.totalItems < building%1$d.itemCapacity ? 1 : 0\n" +
+                    "building%1$d.enabled = enabled%1$d\n"
+    );
+
+    private SyntheticPrograms() {
+    }
+
+    /**
+     * @return a program containing at least {@code lines} lines of source code
+     */
+    public static String generate(int lines) {
+        final StringBuilder buffer = new StringBuilder(lines * 32);
+        buffer.append(PROLOGUE);
+
+        int lineCount = countLines(PROLOGUE);
+        for (int i = 0; lineCount < lines; i++) {
+            final String snippet = String.format(SNIPPETS.get(i % SNIPPETS.size()), i);
+            buffer.append(snippet);
+            lineCount += countLines(snippet);
+        }
+
+        return buffer.toString();
+    }
+
+    private static int countLines(String text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') count++;
+        }
+        return count;
+    }
+}
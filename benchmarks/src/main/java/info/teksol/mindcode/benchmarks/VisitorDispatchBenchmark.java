@@ -0,0 +1,38 @@
+package info.teksol.mindcode.benchmarks;
+
+import info.teksol.mindcode.ast.Seq;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares dispatching AST visits through {@code AstNode.accept} with the chain of {@code instanceof} checks it
+ * replaced, on the ASTs of generated programs. Both visitors do the same work otherwise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xss64m"})
+public class VisitorDispatchBenchmark {
+    @Param({"1000", "10000", "50000"})
+    public int lines;
+
+    private Seq ast;
+
+    @Setup(Level.Trial)
+    public void buildAst() {
+        ast = CompilerStages.buildAst(CompilerStages.parse(SyntheticPrograms.generate(lines)));
+    }
+
+    @Benchmark
+    public int acceptDispatch() {
+        return new AstNodeCounter().visit(ast);
+    }
+
+    @Benchmark
+    public int instanceofChainDispatch() {
+        return new InstanceofChainAstNodeCounter().visit(ast);
+    }
+}
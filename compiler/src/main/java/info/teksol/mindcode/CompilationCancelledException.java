@@ -0,0 +1,23 @@
+package info.teksol.mindcode;
+
+/**
+ * Thrown when the thread running a compilation is interrupted. The parser, generator and optimizers check for
+ * interruption as they go, so that whoever runs the compiler can abandon a compilation, such as one running out of
+ * time, and get the thread back.
+ */
+public class CompilationCancelledException extends MindcodeException {
+    public CompilationCancelledException() {
+        super("Compilation cancelled");
+    }
+
+    /**
+     * Call from loops whose running time grows with the program being compiled.
+     *
+     * @throws CompilationCancelledException if the current thread was interrupted; its interrupted status is kept
+     */
+    public static void throwIfInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CompilationCancelledException();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package info.teksol.mindcode;
+
+/**
+ * Hears how long each phase of a compilation took, and how much it took in and gave out.
+ * <p>
+ * The phases are {@code lex}, {@code parse}, {@code build_ast}, {@code generate}, then each stage of the optimizing
+ * pipeline under its class name, such as {@code OptimizeSetThenSet} or {@code DeadCodeEliminator}, then
+ * {@code resolve_labels} and {@code print}. Sizes count characters going into the lexer, tokens coming out of it and
+ * going into the parser, and instructions from generation onwards; a size that means nothing for a phase is -1.
+ * <p>
+ * Optimizing stages process instructions as they stream by, each one handing its output to the next. A stage's time
+ * excludes the time spent in the stages after it, and {@code generate}'s excludes the time spent in the pipeline.
+ */
+@FunctionalInterface
+public interface CompilationObserver {
+    CompilationObserver NONE = (phase, elapsedNanos, inputSize, outputSize) -> {
+    };
+
+    void phaseCompleted(String phase, long elapsedNanos, int inputSize, int outputSize);
+}
@@ -0,0 +1,117 @@
+package info.teksol.mindcode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Enumeration;
+import java.util.Properties;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * The version of the compiler: the version declared in the compiler's POM, followed by a fingerprint of the
+ * compiler's classes, such as {@code 1.2.0-SNAPSHOT+3f9a0c1b7d2e}.
+ * <p>
+ * Anything that stores or caches compiled Logic keys it by this version. The fingerprint changes whenever the
+ * compiler's code does, so that a change altering the generated code can't be deployed without invalidating them;
+ * still bump the compiler's version for such a change, so that the POM tells which releases compile differently.
+ */
+public final class CompilerVersion {
+    public static final String VERSION = readVersion() + '+' + fingerprint();
+
+    private CompilerVersion() {
+    }
+
+    private static String readVersion() {
+        try (final InputStream stream = CompilerVersion.class.getResourceAsStream("compiler.properties")) {
+            if (stream == null) {
+                throw new IllegalStateException("Missing compiler.properties; was the compiler built by Maven?");
+            }
+
+            final Properties properties = new Properties();
+            properties.load(stream);
+            return properties.getProperty("version");
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read compiler.properties", e);
+        }
+    }
+
+    /**
+     * @return the start of the SHA-256 of the compiler's class files, by name, whether they are in a JAR or in a
+     * directory; their timestamps don't count, so that rebuilding the same code gives the same fingerprint
+     */
+    private static String fingerprint() {
+        final CodeSource codeSource = CompilerVersion.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null) throw new IllegalStateException("Can't locate the compiler's classes");
+
+        try {
+            final URI uri = codeSource.getLocation().toURI();
+            if (!"file".equals(uri.getScheme())) {
+                throw new IllegalStateException("Can't fingerprint the compiler's classes in " + uri);
+            }
+
+            final Path location = Paths.get(uri);
+            final SortedMap<String, byte[]> classes = Files.isDirectory(location)
+                    ? readDirectory(location)
+                    : readJar(location);
+
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (final SortedMap.Entry<String, byte[]> entry : classes.entrySet()) {
+                digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update(entry.getValue());
+            }
+
+            final StringBuilder hex = new StringBuilder();
+            for (final byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.substring(0, 12);
+        } catch (IOException | URISyntaxException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to fingerprint the compiler's classes", e);
+        }
+    }
+
+    private static SortedMap<String, byte[]> readDirectory(Path directory) throws IOException {
+        final SortedMap<String, byte[]> classes = new TreeMap<>();
+        try (final Stream<Path> files = Files.walk(directory)) {
+            files.filter((file) -> file.toString().endsWith(".class")).forEach((file) -> {
+                try {
+                    classes.put(directory.relativize(file).toString().replace('\\', '/'), Files.readAllBytes(file));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return classes;
+    }
+
+    private static SortedMap<String, byte[]> readJar(Path jar) throws IOException {
+        final SortedMap<String, byte[]> classes = new TreeMap<>();
+        try (final JarFile file = new JarFile(jar.toFile())) {
+            final Enumeration<JarEntry> entries = file.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                if (!entry.getName().endsWith(".class")) continue;
+
+                try (final InputStream stream = file.getInputStream(entry)) {
+                    classes.put(entry.getName(), stream.readAllBytes());
+                }
+            }
+        }
+        return classes;
+    }
+}
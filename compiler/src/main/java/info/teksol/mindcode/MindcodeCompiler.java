@@ -0,0 +1,158 @@
+package info.teksol.mindcode;
+
+import info.teksol.mindcode.ast.AstNodeBuilder;
+import info.teksol.mindcode.ast.Seq;
+import info.teksol.mindcode.grammar.MindcodeLexer;
+import info.teksol.mindcode.grammar.MindcodeParser;
+import info.teksol.mindcode.mindustry.LogicInstruction;
+import info.teksol.mindcode.mindustry.LogicInstructionGenerator;
+import info.teksol.mindcode.mindustry.LogicInstructionLabelResolver;
+import info.teksol.mindcode.mindustry.LogicInstructionPrinter;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Entry point to the compiler: turns Mindcode source into Mindustry Logic.
+ */
+public final class MindcodeCompiler {
+    private MindcodeCompiler() {
+    }
+
+    /**
+     * Compiles a program, from source code down to printed Logic.
+     * <p>
+     * Interrupting the compiling thread abandons the compilation with a {@link CompilationCancelledException}.
+     *
+     * @return the compiled Logic, and the syntax and compilation errors that were found; the Logic is empty when
+     * compilation failed
+     */
+    public static Tuple2<String, List<String>> compile(String sourceCode) {
+        return compile(sourceCode, CompilationObserver.NONE);
+    }
+
+    /**
+     * Compiles a program like {@link #compile(String)}, reporting each phase of the compilation to the observer.
+     */
+    public static Tuple2<String, List<String>> compile(String sourceCode, CompilationObserver observer) {
+        final Tuple2<List<LogicInstruction>, List<String>> result = compileToInstructions(sourceCode, observer);
+
+        final long start = System.nanoTime();
+        final String printed = LogicInstructionPrinter.toString(result._1);
+        observer.phaseCompleted("print", System.nanoTime() - start, result._1.size(), result._1.size());
+
+        return new Tuple2<>(printed, result._2);
+    }
+
+    /**
+     * Compiles a program down to resolved Logic instructions, which {@link LogicInstructionPrinter#print} can write
+     * wherever they're needed without first building the whole program as a string.
+     *
+     * @return the compiled instructions, and the syntax and compilation errors that were found; the instructions are
+     * empty when compilation failed
+     */
+    public static Tuple2<List<LogicInstruction>, List<String>> compileToInstructions(String sourceCode) {
+        return compileToInstructions(sourceCode, CompilationObserver.NONE);
+    }
+
+    /**
+     * Compiles a program like {@link #compileToInstructions(String)}, reporting each phase of the compilation to the
+     * observer.
+     */
+    public static Tuple2<List<LogicInstruction>, List<String>> compileToInstructions(String sourceCode, CompilationObserver observer) {
+        List<LogicInstruction> instructions = List.of();
+
+        final Tuple2<MindcodeParser.ProgramContext, List<String>> parsed = parse(sourceCode, observer);
+        final List<String> errors = new ArrayList<>(parsed._2);
+
+        try {
+            long start = System.nanoTime();
+            final Seq prog = AstNodeBuilder.generate(parsed._1);
+            observer.phaseCompleted("build_ast", System.nanoTime() - start, -1, -1);
+
+            final List<LogicInstruction> result = LogicInstructionGenerator.generateAndOptimize(prog, observer);
+
+            start = System.nanoTime();
+            instructions = LogicInstructionLabelResolver.resolve(result);
+            observer.phaseCompleted("resolve_labels", System.nanoTime() - start, result.size(), instructions.size());
+        } catch (CompilationCancelledException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            errors.add(e.getMessage());
+        }
+
+        return new Tuple2<>(instructions, Collections.unmodifiableList(errors));
+    }
+
+    /**
+     * Parses a program in two stages. The first stage uses SLL prediction, which is much cheaper than full LL
+     * prediction on the left-recursive {@code expression} rule, and bails out on the first syntax error. Only when
+     * it bails out is the program parsed again, using full LL prediction and the default error recovery, which is
+     * both exact and able to report every syntax error. A program that parses under SLL yields the same tree it would
+     * under LL, so the result does not depend on which stage produced it.
+     *
+     * @return the parse tree, and the syntax errors that were found
+     */
+    public static Tuple2<MindcodeParser.ProgramContext, List<String>> parse(String sourceCode) {
+        return parse(sourceCode, CompilationObserver.NONE);
+    }
+
+    /**
+     * Parses a program like {@link #parse(String)}, reporting lexing and parsing separately to the observer: the
+     * whole program is lexed before parsing starts.
+     */
+    public static Tuple2<MindcodeParser.ProgramContext, List<String>> parse(String sourceCode, CompilationObserver observer) {
+        final MindcodeLexer lexer = new MindcodeLexer(CharStreams.fromString(sourceCode)) {
+            @Override
+            public Token nextToken() {
+                CompilationCancelledException.throwIfInterrupted();
+                return super.nextToken();
+            }
+        };
+        final BufferedTokenStream tokens = new BufferedTokenStream(lexer);
+
+        final long lexStart = System.nanoTime();
+        tokens.fill();
+        observer.phaseCompleted("lex", System.nanoTime() - lexStart, sourceCode.length(), tokens.size());
+
+        final long parseStart = System.nanoTime();
+        final MindcodeParser parser = new MindcodeParser(tokens) {
+            @Override
+            public Token consume() {
+                CompilationCancelledException.throwIfInterrupted();
+                return super.consume();
+            }
+        };
+
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.removeErrorListeners();
+
+        try {
+            final MindcodeParser.ProgramContext context = parser.program();
+            observer.phaseCompleted("parse", System.nanoTime() - parseStart, tokens.size(), -1);
+            return new Tuple2<>(context, List.of());
+        } catch (ParseCancellationException e) {
+            tokens.seek(0);
+            parser.reset();
+        }
+
+        final List<String> errors = new ArrayList<>();
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.addErrorListener(new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+                errors.add("Syntax error: " + offendingSymbol + " on line " + line + ":" + charPositionInLine + ": " + msg);
+            }
+        });
+
+        final MindcodeParser.ProgramContext context = parser.program();
+        observer.phaseCompleted("parse", System.nanoTime() - parseStart, tokens.size(), -1);
+        return new Tuple2<>(context, errors);
+    }
+}
@@ -19,6 +19,11 @@ public class Assignment implements AstNode {
         return value;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitAssignment(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -4,4 +4,10 @@ import java.util.Set;
 
 public interface AstNode {
     Set<String> RESERVED_KEYWORDS = Set.of("STACK", "HEAP");
+
+    /**
+     * Calls the {@code visitor} method that handles this node's type. The method is picked through the virtual
+     * call itself, which keeps dispatch constant-time however many node types there are.
+     */
+    <T> T accept(AstVisitor<T> visitor);
 }
@@ -1,5 +1,6 @@
 package info.teksol.mindcode.ast;
 
+import info.teksol.mindcode.CompilationCancelledException;
 import info.teksol.mindcode.ParsingException;
 import info.teksol.mindcode.grammar.MindcodeBaseVisitor;
 import info.teksol.mindcode.grammar.MindcodeParser;
@@ -33,17 +34,14 @@ public class AstNodeBuilder extends MindcodeBaseVisitor<AstNode> {
 
     @Override
     public AstNode visitExpression_list(MindcodeParser.Expression_listContext ctx) {
-        if (ctx.expression_list() != null) {
-            final AstNode rest = visit(ctx.expression_list());
-            final AstNode expr = visit(ctx.expression());
-            return new Seq(rest, expr);
-        } else if (ctx.expression() != null) {
-            final AstNode expr = visit(ctx.expression());
-            if (expr instanceof Seq) return expr;
-            return new Seq(expr);
-        } else {
-            return new NoOp();
+        final List<AstNode> expressions = new ArrayList<>(ctx.expression().size());
+        for (MindcodeParser.ExpressionContext expression : ctx.expression()) {
+            CompilationCancelledException.throwIfInterrupted();
+            expressions.add(visit(expression));
         }
+
+        if (expressions.size() == 1 && expressions.get(0) instanceof Seq) return expressions.get(0);
+        return new Seq(expressions);
     }
 
     @Override
@@ -499,9 +497,9 @@ public class AstNodeBuilder extends MindcodeBaseVisitor<AstNode> {
         if (alternative instanceof CaseAlternative) {
             accumulator.add((CaseAlternative) alternative);
         } else if (alternative instanceof Seq) {
-            final Seq seq = (Seq) alternative;
-            gatherAlternatives(seq.getRest(), accumulator);
-            gatherAlternatives(seq.getLast(), accumulator);
+            for (AstNode node : ((Seq) alternative).getExpressions()) {
+                gatherAlternatives(node, accumulator);
+            }
         }
     }
 
@@ -539,9 +537,9 @@ public class AstNodeBuilder extends MindcodeBaseVisitor<AstNode> {
 
     private void gatherArgs(AstNode arg, List<AstNode> accumulator) {
         if (arg instanceof Seq) {
-            final Seq seq = (Seq) arg;
-            gatherArgs(seq.getRest(), accumulator);
-            gatherArgs(seq.getLast(), accumulator);
+            for (AstNode node : ((Seq) arg).getExpressions()) {
+                gatherArgs(node, accumulator);
+            }
         } else if (arg instanceof NoOp) {
             // ignore
         } else {
@@ -25,6 +25,11 @@ public class BinaryOp implements AstNode {
         return right;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitBinaryOp(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
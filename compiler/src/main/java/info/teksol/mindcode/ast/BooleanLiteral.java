@@ -13,6 +13,11 @@ public class BooleanLiteral implements AstNode {
         return value;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitBooleanLiteral(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
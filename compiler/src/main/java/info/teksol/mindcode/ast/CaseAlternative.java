@@ -19,6 +19,11 @@ public class CaseAlternative implements AstNode {
         return body;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        throw new AstWalkerException("Unrecognized node type " + getClass() + ": " + this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
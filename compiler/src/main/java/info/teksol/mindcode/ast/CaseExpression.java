@@ -26,6 +26,11 @@ public class CaseExpression implements AstNode {
         return elseBranch;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitCaseExpression(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -26,6 +26,11 @@ public class Control implements AstNode {
         return params;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitControl(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
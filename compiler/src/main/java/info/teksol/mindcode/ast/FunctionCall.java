@@ -24,6 +24,11 @@ public class FunctionCall implements AstNode {
         return params;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitFunctionCall(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
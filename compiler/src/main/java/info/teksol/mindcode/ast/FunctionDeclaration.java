@@ -26,6 +26,11 @@ public class FunctionDeclaration implements AstNode {
         return body;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitFunctionDeclaration(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
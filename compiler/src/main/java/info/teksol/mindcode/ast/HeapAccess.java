@@ -25,6 +25,11 @@ public class HeapAccess implements AstNode {
         return address;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitHeapAccess(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
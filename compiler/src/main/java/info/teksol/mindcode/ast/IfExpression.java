@@ -25,6 +25,11 @@ public class IfExpression implements AstNode {
         return falseBranch;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitIfExpression(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
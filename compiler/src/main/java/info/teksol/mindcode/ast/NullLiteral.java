@@ -1,6 +1,11 @@
 package info.teksol.mindcode.ast;
 
 public class NullLiteral implements AstNode {
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitNullLiteral(this);
+    }
+
     @Override
     public boolean equals(Object obj) {
         return obj instanceof NullLiteral;
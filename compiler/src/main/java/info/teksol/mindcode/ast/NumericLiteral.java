@@ -17,6 +17,11 @@ public class NumericLiteral implements AstNode {
         return literal;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitNumericLiteral(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -19,6 +19,11 @@ public class PropertyAccess implements AstNode {
         return property;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitPropertyAccess(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
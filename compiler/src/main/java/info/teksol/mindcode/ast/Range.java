@@ -19,6 +19,11 @@ public abstract class Range implements AstNode {
         return lastValue;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        throw new AstWalkerException("Unrecognized node type " + getClass() + ": " + this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -13,6 +13,11 @@ public class Ref implements AstNode {
         return name;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitRef(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,27 +1,26 @@
 package info.teksol.mindcode.ast;
 
+import java.util.List;
 import java.util.Objects;
 
 public class Seq implements AstNode {
-    private final AstNode rest;
-    private final AstNode last;
+    private final List<AstNode> expressions;
 
-    public Seq(AstNode last) {
-        this.rest = new NoOp();
-        this.last = last;
+    public Seq(AstNode... expressions) {
+        this(List.of(expressions));
     }
 
-    public Seq(AstNode rest, AstNode last) {
-        this.rest = rest;
-        this.last = last;
+    public Seq(List<AstNode> expressions) {
+        this.expressions = List.copyOf(expressions);
     }
 
-    public AstNode getRest() {
-        return rest;
+    public List<AstNode> getExpressions() {
+        return expressions;
     }
 
-    public AstNode getLast() {
-        return last;
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitSeq(this);
     }
 
     @Override
@@ -29,20 +28,18 @@ public class Seq implements AstNode {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Seq seq = (Seq) o;
-        return Objects.equals(rest, seq.rest) &&
-                Objects.equals(last, seq.last);
+        return Objects.equals(expressions, seq.expressions);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(rest, last);
+        return Objects.hash(expressions);
     }
 
     @Override
     public String toString() {
         return "Seq{" +
-                "rest=" + rest +
-                ", last=" + last +
+                "expressions=" + expressions +
                 '}';
     }
 }
@@ -49,6 +49,11 @@ public class StackAllocation implements AstNode {
         return last;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitStackAllocation(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
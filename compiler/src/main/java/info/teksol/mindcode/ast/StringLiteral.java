@@ -13,6 +13,11 @@ public class StringLiteral implements AstNode {
         return text;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitStringLiteral(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
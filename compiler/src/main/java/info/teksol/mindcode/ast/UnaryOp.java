@@ -19,6 +19,11 @@ public class UnaryOp implements AstNode {
         return expression;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitUnaryOp(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
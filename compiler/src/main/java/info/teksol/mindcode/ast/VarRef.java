@@ -19,6 +19,11 @@ public class VarRef implements AstNode {
         return name;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitVarRef(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
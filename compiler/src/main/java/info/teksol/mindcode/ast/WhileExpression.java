@@ -19,6 +19,11 @@ public class WhileExpression implements AstNode {
         return body;
     }
 
+    @Override
+    public <T> T accept(AstVisitor<T> visitor) {
+        return visitor.visitWhileStatement(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -4,10 +4,7 @@ program : expression_list EOF
         | EOF
         ;
 
-expression_list : expression
-                | expression SEMICOLON
-                | expression_list expression
-                | expression_list SEMICOLON expression
+expression_list : expression SEMICOLON? ( SEMICOLON? expression )*
                 ;
 
 expression : indirectpropaccess                                                                 # indirect_prop_access
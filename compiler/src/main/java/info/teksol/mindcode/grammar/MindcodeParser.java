@@ -187,7 +187,7 @@ public class MindcodeParser extends Parser {
 				enterOuterAlt(_localctx, 1);
 				{
 				setState(88);
-				expression_list(0);
+				expression_list();
 				setState(89);
 				match(EOF);
 				}
@@ -215,12 +215,15 @@ public class MindcodeParser extends Parser {
 	}
 
 	public static class Expression_listContext extends ParserRuleContext {
-		public ExpressionContext expression() {
-			return getRuleContext(ExpressionContext.class,0);
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		public TerminalNode SEMICOLON() { return getToken(MindcodeParser.SEMICOLON, 0); }
-		public Expression_listContext expression_list() {
-			return getRuleContext(Expression_listContext.class,0);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<TerminalNode> SEMICOLON() { return getTokens(MindcodeParser.SEMICOLON); }
+		public TerminalNode SEMICOLON(int i) {
+			return getToken(MindcodeParser.SEMICOLON, i);
 		}
 		public Expression_listContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -242,76 +245,48 @@ public class MindcodeParser extends Parser {
 	}
 
 	public final Expression_listContext expression_list() throws RecognitionException {
-		return expression_list(0);
-	}
-
-	private Expression_listContext expression_list(int _p) throws RecognitionException {
-		ParserRuleContext _parentctx = _ctx;
-		int _parentState = getState();
-		Expression_listContext _localctx = new Expression_listContext(_ctx, _parentState);
-		Expression_listContext _prevctx = _localctx;
-		int _startState = 2;
-		enterRecursionRule(_localctx, 2, RULE_expression_list, _p);
+		Expression_listContext _localctx = new Expression_listContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_expression_list);
+		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(99);
+			setState(94);
+			expression(0);
+			setState(96);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,1,_ctx) ) {
 			case 1:
 				{
 				setState(95);
-				expression(0);
-				}
-				break;
-			case 2:
-				{
-				setState(96);
-				expression(0);
-				setState(97);
 				match(SEMICOLON);
 				}
 				break;
 			}
-			_ctx.stop = _input.LT(-1);
-			setState(108);
+			setState(104);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
-					if ( _parseListeners!=null ) triggerExitRuleEvent();
-					_prevctx = _localctx;
 					{
-					setState(106);
+					{
+					setState(99);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,2,_ctx) ) {
-					case 1:
-						{
-						_localctx = new Expression_listContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression_list);
-						setState(101);
-						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(102);
-						expression(0);
-						}
-						break;
-					case 2:
+					_la = _input.LA(1);
+					if (_la==SEMICOLON) {
 						{
-						_localctx = new Expression_listContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression_list);
-						setState(103);
-						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(104);
+						setState(98);
 						match(SEMICOLON);
-						setState(105);
-						expression(0);
 						}
-						break;
+					}
+
+					setState(101);
+					expression(0);
 					}
 					} 
 				}
-				setState(110);
+				setState(106);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
 			}
@@ -323,7 +298,7 @@ public class MindcodeParser extends Parser {
 			_errHandler.recover(this, re);
 		}
 		finally {
-			unrollRecursionContexts(_parentctx);
+			exitRule();
 		}
 		return _localctx;
 	}
@@ -973,7 +948,7 @@ public class MindcodeParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(135);
+			setState(131);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
 			case 1:
@@ -982,7 +957,7 @@ public class MindcodeParser extends Parser {
 				_ctx = _localctx;
 				_prevctx = _localctx;
 
-				setState(112);
+				setState(108);
 				indirectpropaccess();
 				}
 				break;
@@ -991,7 +966,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new Property_accessContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(113);
+				setState(109);
 				propaccess();
 				}
 				break;
@@ -1000,7 +975,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new Case_expressionContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(114);
+				setState(110);
 				case_expr();
 				}
 				break;
@@ -1009,7 +984,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new If_expressionContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(115);
+				setState(111);
 				if_expr();
 				}
 				break;
@@ -1018,7 +993,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new Function_callContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(116);
+				setState(112);
 				funcall();
 				}
 				break;
@@ -1027,7 +1002,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new Function_declarationContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(117);
+				setState(113);
 				fundecl();
 				}
 				break;
@@ -1036,7 +1011,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new AllocationContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(118);
+				setState(114);
 				alloc();
 				}
 				break;
@@ -1045,7 +1020,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new AssignmentContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(119);
+				setState(115);
 				assign();
 				}
 				break;
@@ -1054,7 +1029,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new ValueContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(120);
+				setState(116);
 				lvalue();
 				}
 				break;
@@ -1063,7 +1038,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new While_loopContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(121);
+				setState(117);
 				while_expression();
 				}
 				break;
@@ -1072,7 +1047,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new For_loopContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(122);
+				setState(118);
 				for_expression();
 				}
 				break;
@@ -1081,9 +1056,9 @@ public class MindcodeParser extends Parser {
 				_localctx = new Not_exprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(123);
+				setState(119);
 				match(NOT);
-				setState(124);
+				setState(120);
 				expression(15);
 				}
 				break;
@@ -1092,7 +1067,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new Literal_stringContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(125);
+				setState(121);
 				literal_t();
 				}
 				break;
@@ -1101,7 +1076,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new Literal_numericContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(126);
+				setState(122);
 				numeric_t();
 				}
 				break;
@@ -1110,7 +1085,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new Literal_boolContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(127);
+				setState(123);
 				bool_t();
 				}
 				break;
@@ -1119,9 +1094,9 @@ public class MindcodeParser extends Parser {
 				_localctx = new Unary_minusContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(128);
+				setState(124);
 				match(MINUS);
-				setState(129);
+				setState(125);
 				numeric_t();
 				}
 				break;
@@ -1130,7 +1105,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new Literal_nullContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(130);
+				setState(126);
 				null_t();
 				}
 				break;
@@ -1139,17 +1114,17 @@ public class MindcodeParser extends Parser {
 				_localctx = new Parenthesized_expressionContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(131);
+				setState(127);
 				match(LEFT_RBRACKET);
-				setState(132);
+				setState(128);
 				expression(0);
-				setState(133);
+				setState(129);
 				match(RIGHT_RBRACKET);
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(172);
+			setState(168);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -1157,7 +1132,7 @@ public class MindcodeParser extends Parser {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(170);
+					setState(166);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
 					case 1:
@@ -1165,15 +1140,15 @@ public class MindcodeParser extends Parser {
 						_localctx = new Ternary_opContext(new ExpressionContext(_parentctx, _parentState));
 						((Ternary_opContext)_localctx).cond = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(137);
+						setState(133);
 						if (!(precpred(_ctx, 26))) throw new FailedPredicateException(this, "precpred(_ctx, 26)");
-						setState(138);
+						setState(134);
 						match(QUESTION_MARK);
-						setState(139);
+						setState(135);
 						((Ternary_opContext)_localctx).true_branch = expression(0);
-						setState(140);
+						setState(136);
 						match(COLON);
-						setState(141);
+						setState(137);
 						((Ternary_opContext)_localctx).false_branch = expression(27);
 						}
 						break;
@@ -1182,11 +1157,11 @@ public class MindcodeParser extends Parser {
 						_localctx = new Binop_expContext(new ExpressionContext(_parentctx, _parentState));
 						((Binop_expContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(143);
+						setState(139);
 						if (!(precpred(_ctx, 16))) throw new FailedPredicateException(this, "precpred(_ctx, 16)");
-						setState(144);
+						setState(140);
 						((Binop_expContext)_localctx).op = match(EXP);
-						setState(145);
+						setState(141);
 						((Binop_expContext)_localctx).right = expression(17);
 						}
 						break;
@@ -1195,9 +1170,9 @@ public class MindcodeParser extends Parser {
 						_localctx = new Binop_mul_div_modContext(new ExpressionContext(_parentctx, _parentState));
 						((Binop_mul_div_modContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(146);
+						setState(142);
 						if (!(precpred(_ctx, 14))) throw new FailedPredicateException(this, "precpred(_ctx, 14)");
-						setState(147);
+						setState(143);
 						((Binop_mul_div_modContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << DIV) | (1L << IDIV) | (1L << MOD) | (1L << MUL))) != 0)) ) {
@@ -1208,7 +1183,7 @@ public class MindcodeParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(148);
+						setState(144);
 						((Binop_mul_div_modContext)_localctx).right = expression(15);
 						}
 						break;
@@ -1217,9 +1192,9 @@ public class MindcodeParser extends Parser {
 						_localctx = new Binop_plus_minusContext(new ExpressionContext(_parentctx, _parentState));
 						((Binop_plus_minusContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(149);
+						setState(145);
 						if (!(precpred(_ctx, 13))) throw new FailedPredicateException(this, "precpred(_ctx, 13)");
-						setState(150);
+						setState(146);
 						((Binop_plus_minusContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==MINUS || _la==PLUS) ) {
@@ -1230,7 +1205,7 @@ public class MindcodeParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(151);
+						setState(147);
 						((Binop_plus_minusContext)_localctx).right = expression(14);
 						}
 						break;
@@ -1239,9 +1214,9 @@ public class MindcodeParser extends Parser {
 						_localctx = new Binop_shiftContext(new ExpressionContext(_parentctx, _parentState));
 						((Binop_shiftContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(152);
+						setState(148);
 						if (!(precpred(_ctx, 12))) throw new FailedPredicateException(this, "precpred(_ctx, 12)");
-						setState(153);
+						setState(149);
 						((Binop_shiftContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==SHIFT_LEFT || _la==SHIFT_RIGHT) ) {
@@ -1252,7 +1227,7 @@ public class MindcodeParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(154);
+						setState(150);
 						((Binop_shiftContext)_localctx).right = expression(13);
 						}
 						break;
@@ -1261,9 +1236,9 @@ public class MindcodeParser extends Parser {
 						_localctx = new Binop_inequality_comparisonContext(new ExpressionContext(_parentctx, _parentState));
 						((Binop_inequality_comparisonContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(155);
+						setState(151);
 						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
-						setState(156);
+						setState(152);
 						((Binop_inequality_comparisonContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << LESS_THAN) | (1L << LESS_THAN_EQUAL) | (1L << GREATER_THAN_EQUAL) | (1L << GREATER_THAN))) != 0)) ) {
@@ -1274,7 +1249,7 @@ public class MindcodeParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(157);
+						setState(153);
 						((Binop_inequality_comparisonContext)_localctx).right = expression(12);
 						}
 						break;
@@ -1283,9 +1258,9 @@ public class MindcodeParser extends Parser {
 						_localctx = new Binop_equality_comparisonContext(new ExpressionContext(_parentctx, _parentState));
 						((Binop_equality_comparisonContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(158);
+						setState(154);
 						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
-						setState(159);
+						setState(155);
 						((Binop_equality_comparisonContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NOT_EQUAL) | (1L << EQUAL) | (1L << STRICT_EQUAL))) != 0)) ) {
@@ -1296,7 +1271,7 @@ public class MindcodeParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(160);
+						setState(156);
 						((Binop_equality_comparisonContext)_localctx).right = expression(11);
 						}
 						break;
@@ -1305,9 +1280,9 @@ public class MindcodeParser extends Parser {
 						_localctx = new Binop_bitwise_opContext(new ExpressionContext(_parentctx, _parentState));
 						((Binop_bitwise_opContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(161);
+						setState(157);
 						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
-						setState(162);
+						setState(158);
 						((Binop_bitwise_opContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BITWISE_AND) | (1L << BITWISE_OR) | (1L << BITWISE_XOR))) != 0)) ) {
@@ -1318,7 +1293,7 @@ public class MindcodeParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(163);
+						setState(159);
 						((Binop_bitwise_opContext)_localctx).right = expression(10);
 						}
 						break;
@@ -1327,11 +1302,11 @@ public class MindcodeParser extends Parser {
 						_localctx = new Binop_andContext(new ExpressionContext(_parentctx, _parentState));
 						((Binop_andContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(164);
+						setState(160);
 						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
-						setState(165);
+						setState(161);
 						match(AND);
-						setState(166);
+						setState(162);
 						((Binop_andContext)_localctx).right = expression(9);
 						}
 						break;
@@ -1340,18 +1315,18 @@ public class MindcodeParser extends Parser {
 						_localctx = new Binop_orContext(new ExpressionContext(_parentctx, _parentState));
 						((Binop_orContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(167);
+						setState(163);
 						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
-						setState(168);
+						setState(164);
 						match(OR);
-						setState(169);
+						setState(165);
 						((Binop_orContext)_localctx).right = expression(8);
 						}
 						break;
 					}
 					} 
 				}
-				setState(174);
+				setState(170);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
 			}
@@ -1406,17 +1381,17 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(175);
+			setState(171);
 			((IndirectpropaccessContext)_localctx).target = var_ref();
-			setState(176);
+			setState(172);
 			match(DOT);
-			setState(177);
+			setState(173);
 			match(SENSOR);
-			setState(178);
+			setState(174);
 			match(LEFT_RBRACKET);
-			setState(179);
+			setState(175);
 			((IndirectpropaccessContext)_localctx).expr = expression(0);
-			setState(180);
+			setState(176);
 			match(RIGHT_RBRACKET);
 			}
 		}
@@ -1466,28 +1441,28 @@ public class MindcodeParser extends Parser {
 		PropaccessContext _localctx = new PropaccessContext(_ctx, getState());
 		enterRule(_localctx, 8, RULE_propaccess);
 		try {
-			setState(190);
+			setState(186);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case ID:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(182);
+				setState(178);
 				var_ref();
-				setState(183);
+				setState(179);
 				match(DOT);
-				setState(184);
+				setState(180);
 				((PropaccessContext)_localctx).prop = id();
 				}
 				break;
 			case AT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(186);
+				setState(182);
 				unit_ref();
-				setState(187);
+				setState(183);
 				match(DOT);
-				setState(188);
+				setState(184);
 				((PropaccessContext)_localctx).prop = id();
 				}
 				break;
@@ -1536,13 +1511,13 @@ public class MindcodeParser extends Parser {
 		Numeric_tContext _localctx = new Numeric_tContext(_ctx, getState());
 		enterRule(_localctx, 10, RULE_numeric_t);
 		try {
-			setState(194);
+			setState(190);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case FLOAT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(192);
+				setState(188);
 				float_t();
 				}
 				break;
@@ -1550,7 +1525,7 @@ public class MindcodeParser extends Parser {
 			case HEXINT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(193);
+				setState(189);
 				int_t();
 				}
 				break;
@@ -1599,9 +1574,9 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(196);
+			setState(192);
 			match(ALLOCATE);
-			setState(197);
+			setState(193);
 			alloc_list(0);
 			}
 		}
@@ -1667,7 +1642,7 @@ public class MindcodeParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(200);
+			setState(196);
 			((Alloc_listContext)_localctx).type = _input.LT(1);
 			_la = _input.LA(1);
 			if ( !(_la==HEAP || _la==STACK) ) {
@@ -1678,23 +1653,23 @@ public class MindcodeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(201);
+			setState(197);
 			match(IN);
-			setState(202);
+			setState(198);
 			id();
-			setState(204);
+			setState(200);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
 			case 1:
 				{
-				setState(203);
+				setState(199);
 				alloc_range();
 				}
 				break;
 			}
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(216);
+			setState(212);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -1705,11 +1680,11 @@ public class MindcodeParser extends Parser {
 					{
 					_localctx = new Alloc_listContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_alloc_list);
-					setState(206);
+					setState(202);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(207);
+					setState(203);
 					match(COMMA);
-					setState(208);
+					setState(204);
 					((Alloc_listContext)_localctx).type = _input.LT(1);
 					_la = _input.LA(1);
 					if ( !(_la==HEAP || _la==STACK) ) {
@@ -1720,16 +1695,16 @@ public class MindcodeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(209);
+					setState(205);
 					match(IN);
-					setState(210);
+					setState(206);
 					id();
-					setState(212);
+					setState(208);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
 					case 1:
 						{
-						setState(211);
+						setState(207);
 						alloc_range();
 						}
 						break;
@@ -1737,7 +1712,7 @@ public class MindcodeParser extends Parser {
 					}
 					} 
 				}
-				setState(218);
+				setState(214);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
 			}
@@ -1785,11 +1760,11 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(219);
+			setState(215);
 			match(LEFT_SBRACKET);
-			setState(220);
+			setState(216);
 			range();
-			setState(221);
+			setState(217);
 			match(RIGHT_SBRACKET);
 			}
 		}
@@ -1844,38 +1819,38 @@ public class MindcodeParser extends Parser {
 		FundeclContext _localctx = new FundeclContext(_ctx, getState());
 		enterRule(_localctx, 18, RULE_fundecl);
 		try {
-			setState(236);
+			setState(232);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(223);
+				setState(219);
 				match(DEF);
-				setState(224);
+				setState(220);
 				((FundeclContext)_localctx).name = id();
-				setState(225);
+				setState(221);
 				match(LEFT_RBRACKET);
-				setState(226);
+				setState(222);
 				((FundeclContext)_localctx).args = arg_decl_list(0);
-				setState(227);
+				setState(223);
 				match(RIGHT_RBRACKET);
-				setState(228);
-				((FundeclContext)_localctx).body = expression_list(0);
-				setState(229);
+				setState(224);
+				((FundeclContext)_localctx).body = expression_list();
+				setState(225);
 				match(END);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(231);
+				setState(227);
 				match(DEF);
-				setState(232);
+				setState(228);
 				((FundeclContext)_localctx).name = id();
-				setState(233);
-				((FundeclContext)_localctx).body = expression_list(0);
-				setState(234);
+				setState(229);
+				((FundeclContext)_localctx).body = expression_list();
+				setState(230);
 				match(END);
 				}
 				break;
@@ -1935,11 +1910,11 @@ public class MindcodeParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(239);
+			setState(235);
 			lvalue();
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(246);
+			setState(242);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -1950,16 +1925,16 @@ public class MindcodeParser extends Parser {
 					{
 					_localctx = new Arg_decl_listContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_arg_decl_list);
-					setState(241);
+					setState(237);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(242);
+					setState(238);
 					match(COMMA);
-					setState(243);
+					setState(239);
 					lvalue();
 					}
 					} 
 				}
-				setState(248);
+				setState(244);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
 			}
@@ -2011,13 +1986,13 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(249);
+			setState(245);
 			match(WHILE);
-			setState(250);
+			setState(246);
 			((While_expressionContext)_localctx).cond = expression(0);
-			setState(251);
+			setState(247);
 			loop_body(0);
-			setState(252);
+			setState(248);
 			match(END);
 			}
 		}
@@ -2113,24 +2088,24 @@ public class MindcodeParser extends Parser {
 		For_expressionContext _localctx = new For_expressionContext(_ctx, getState());
 		enterRule(_localctx, 24, RULE_for_expression);
 		try {
-			setState(270);
+			setState(266);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
 			case 1:
 				_localctx = new Ranged_forContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(254);
+				setState(250);
 				match(FOR);
-				setState(255);
+				setState(251);
 				lvalue();
-				setState(256);
+				setState(252);
 				match(IN);
-				setState(257);
+				setState(253);
 				range();
-				setState(258);
+				setState(254);
 				loop_body(0);
-				setState(259);
+				setState(255);
 				match(END);
 				}
 				break;
@@ -2138,21 +2113,21 @@ public class MindcodeParser extends Parser {
 				_localctx = new Iterated_forContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(261);
+				setState(257);
 				match(FOR);
-				setState(262);
+				setState(258);
 				((Iterated_forContext)_localctx).init = init_list(0);
-				setState(263);
+				setState(259);
 				match(SEMICOLON);
-				setState(264);
+				setState(260);
 				((Iterated_forContext)_localctx).cond = expression(0);
-				setState(265);
+				setState(261);
 				match(SEMICOLON);
-				setState(266);
+				setState(262);
 				((Iterated_forContext)_localctx).increment = incr_list(0);
-				setState(267);
+				setState(263);
 				loop_body(0);
-				setState(268);
+				setState(264);
 				match(END);
 				}
 				break;
@@ -2216,7 +2191,7 @@ public class MindcodeParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(276);
+			setState(272);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case ALLOCATE:
@@ -2240,19 +2215,19 @@ public class MindcodeParser extends Parser {
 			case HEXINT:
 			case ID:
 				{
-				setState(273);
-				expression_list(0);
+				setState(269);
+				expression_list();
 				}
 				break;
 			case BREAK:
 				{
-				setState(274);
+				setState(270);
 				break_st();
 				}
 				break;
 			case CONTINUE:
 				{
-				setState(275);
+				setState(271);
 				continue_st();
 				}
 				break;
@@ -2260,7 +2235,7 @@ public class MindcodeParser extends Parser {
 				throw new NoViableAltException(this);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(286);
+			setState(282);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -2268,26 +2243,26 @@ public class MindcodeParser extends Parser {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(284);
+					setState(280);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
 					case 1:
 						{
 						_localctx = new Loop_bodyContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_loop_body);
-						setState(278);
+						setState(274);
 						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
-						setState(279);
-						expression_list(0);
+						setState(275);
+						expression_list();
 						}
 						break;
 					case 2:
 						{
 						_localctx = new Loop_bodyContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_loop_body);
-						setState(280);
+						setState(276);
 						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(281);
+						setState(277);
 						break_st();
 						}
 						break;
@@ -2295,16 +2270,16 @@ public class MindcodeParser extends Parser {
 						{
 						_localctx = new Loop_bodyContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_loop_body);
-						setState(282);
+						setState(278);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(283);
+						setState(279);
 						continue_st();
 						}
 						break;
 					}
 					} 
 				}
-				setState(288);
+				setState(284);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			}
@@ -2348,7 +2323,7 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(289);
+			setState(285);
 			match(CONTINUE);
 			}
 		}
@@ -2390,7 +2365,7 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(291);
+			setState(287);
 			match(BREAK);
 			}
 		}
@@ -2477,20 +2452,20 @@ public class MindcodeParser extends Parser {
 		RangeContext _localctx = new RangeContext(_ctx, getState());
 		enterRule(_localctx, 32, RULE_range);
 		try {
-			setState(304);
+			setState(300);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,18,_ctx) ) {
 			case 1:
 				_localctx = new Inclusive_rangeContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(293);
+				setState(289);
 				((Inclusive_rangeContext)_localctx).start = int_t();
-				setState(294);
+				setState(290);
 				match(DOT);
-				setState(295);
+				setState(291);
 				match(DOT);
-				setState(296);
+				setState(292);
 				((Inclusive_rangeContext)_localctx).end = int_t();
 				}
 				break;
@@ -2498,15 +2473,15 @@ public class MindcodeParser extends Parser {
 				_localctx = new Exclusive_rangeContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(298);
+				setState(294);
 				((Exclusive_rangeContext)_localctx).start = int_t();
-				setState(299);
+				setState(295);
 				match(DOT);
-				setState(300);
+				setState(296);
 				match(DOT);
-				setState(301);
+				setState(297);
 				match(DOT);
-				setState(302);
+				setState(298);
 				((Exclusive_rangeContext)_localctx).end = int_t();
 				}
 				break;
@@ -2566,11 +2541,11 @@ public class MindcodeParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(307);
+			setState(303);
 			expression(0);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(314);
+			setState(310);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -2581,16 +2556,16 @@ public class MindcodeParser extends Parser {
 					{
 					_localctx = new Init_listContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_init_list);
-					setState(309);
+					setState(305);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(310);
+					setState(306);
 					match(COMMA);
-					setState(311);
+					setState(307);
 					expression(0);
 					}
 					} 
 				}
-				setState(316);
+				setState(312);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
 			}
@@ -2650,11 +2625,11 @@ public class MindcodeParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(318);
+			setState(314);
 			expression(0);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(325);
+			setState(321);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -2665,16 +2640,16 @@ public class MindcodeParser extends Parser {
 					{
 					_localctx = new Incr_listContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_incr_list);
-					setState(320);
+					setState(316);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(321);
+					setState(317);
 					match(COMMA);
-					setState(322);
+					setState(318);
 					expression(0);
 					}
 					} 
 				}
-				setState(327);
+				setState(323);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
 			}
@@ -2730,54 +2705,54 @@ public class MindcodeParser extends Parser {
 		FuncallContext _localctx = new FuncallContext(_ctx, getState());
 		enterRule(_localctx, 38, RULE_funcall);
 		try {
-			setState(345);
+			setState(341);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,21,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(328);
+				setState(324);
 				match(END);
-				setState(329);
+				setState(325);
 				match(LEFT_RBRACKET);
-				setState(330);
+				setState(326);
 				match(RIGHT_RBRACKET);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(331);
+				setState(327);
 				((FuncallContext)_localctx).name = id();
-				setState(332);
+				setState(328);
 				match(LEFT_RBRACKET);
-				setState(333);
+				setState(329);
 				match(RIGHT_RBRACKET);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(335);
+				setState(331);
 				((FuncallContext)_localctx).name = id();
-				setState(336);
+				setState(332);
 				match(LEFT_RBRACKET);
-				setState(337);
+				setState(333);
 				((FuncallContext)_localctx).params = arg_list(0);
-				setState(338);
+				setState(334);
 				match(RIGHT_RBRACKET);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(340);
+				setState(336);
 				((FuncallContext)_localctx).obj = propaccess();
-				setState(341);
+				setState(337);
 				match(LEFT_RBRACKET);
-				setState(342);
+				setState(338);
 				((FuncallContext)_localctx).params = arg_list(0);
-				setState(343);
+				setState(339);
 				match(RIGHT_RBRACKET);
 				}
 				break;
@@ -2837,11 +2812,11 @@ public class MindcodeParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(348);
+			setState(344);
 			arg();
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(355);
+			setState(351);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,22,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -2852,16 +2827,16 @@ public class MindcodeParser extends Parser {
 					{
 					_localctx = new Arg_listContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_arg_list);
-					setState(350);
+					setState(346);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(351);
+					setState(347);
 					match(COMMA);
-					setState(352);
+					setState(348);
 					arg();
 					}
 					} 
 				}
-				setState(357);
+				setState(353);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,22,_ctx);
 			}
@@ -2907,7 +2882,7 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(358);
+			setState(354);
 			expression(0);
 			}
 		}
@@ -2962,31 +2937,31 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(360);
+			setState(356);
 			match(IF);
-			setState(361);
+			setState(357);
 			((If_exprContext)_localctx).cond = expression(0);
-			setState(363);
+			setState(359);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,23,_ctx) ) {
 			case 1:
 				{
-				setState(362);
-				((If_exprContext)_localctx).true_branch = expression_list(0);
+				setState(358);
+				((If_exprContext)_localctx).true_branch = expression_list();
 				}
 				break;
 			}
-			setState(366);
+			setState(362);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ELSE || _la==ELSIF) {
 				{
-				setState(365);
+				setState(361);
 				if_trailer();
 				}
 			}
 
-			setState(368);
+			setState(364);
 			match(END);
 			}
 		}
@@ -3041,21 +3016,21 @@ public class MindcodeParser extends Parser {
 		enterRule(_localctx, 46, RULE_if_trailer);
 		int _la;
 		try {
-			setState(389);
+			setState(385);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(370);
+				setState(366);
 				match(ELSE);
-				setState(372);
+				setState(368);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
 				case 1:
 					{
-					setState(371);
-					((If_trailerContext)_localctx).false_branch = expression_list(0);
+					setState(367);
+					((If_trailerContext)_localctx).false_branch = expression_list();
 					}
 					break;
 				}
@@ -3064,44 +3039,44 @@ public class MindcodeParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(374);
+				setState(370);
 				match(ELSIF);
-				setState(375);
+				setState(371);
 				((If_trailerContext)_localctx).cond = expression(0);
-				setState(377);
+				setState(373);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ALLOCATE) | (1L << CASE) | (1L << DEF) | (1L << END) | (1L << FALSE) | (1L << FOR) | (1L << IF) | (1L << NULL) | (1L << TRUE) | (1L << WHILE) | (1L << AT) | (1L << DOLLAR) | (1L << MINUS) | (1L << NOT) | (1L << LEFT_RBRACKET) | (1L << LITERAL) | (1L << FLOAT) | (1L << INT))) != 0) || _la==HEXINT || _la==ID) {
 					{
-					setState(376);
-					((If_trailerContext)_localctx).true_branch = expression_list(0);
+					setState(372);
+					((If_trailerContext)_localctx).true_branch = expression_list();
 					}
 				}
 
-				setState(379);
+				setState(375);
 				if_trailer();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(381);
+				setState(377);
 				match(ELSE);
-				setState(382);
+				setState(378);
 				match(IF);
-				setState(383);
+				setState(379);
 				((If_trailerContext)_localctx).cond = expression(0);
-				setState(385);
+				setState(381);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ALLOCATE) | (1L << CASE) | (1L << DEF) | (1L << END) | (1L << FALSE) | (1L << FOR) | (1L << IF) | (1L << NULL) | (1L << TRUE) | (1L << WHILE) | (1L << AT) | (1L << DOLLAR) | (1L << MINUS) | (1L << NOT) | (1L << LEFT_RBRACKET) | (1L << LITERAL) | (1L << FLOAT) | (1L << INT))) != 0) || _la==HEXINT || _la==ID) {
 					{
-					setState(384);
-					((If_trailerContext)_localctx).true_branch = expression_list(0);
+					setState(380);
+					((If_trailerContext)_localctx).true_branch = expression_list();
 					}
 				}
 
-				setState(387);
+				setState(383);
 				if_trailer();
 				}
 				break;
@@ -3159,33 +3134,33 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(391);
+			setState(387);
 			match(CASE);
-			setState(392);
+			setState(388);
 			((Case_exprContext)_localctx).cond = expression(0);
-			setState(394);
+			setState(390);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==WHEN) {
 				{
-				setState(393);
+				setState(389);
 				alternative_list(0);
 				}
 			}
 
-			setState(398);
+			setState(394);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ELSE) {
 				{
-				setState(396);
+				setState(392);
 				match(ELSE);
-				setState(397);
-				((Case_exprContext)_localctx).else_branch = expression_list(0);
+				setState(393);
+				((Case_exprContext)_localctx).else_branch = expression_list();
 				}
 			}
 
-			setState(400);
+			setState(396);
 			match(END);
 			}
 		}
@@ -3242,11 +3217,11 @@ public class MindcodeParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(403);
+			setState(399);
 			alternative();
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(409);
+			setState(405);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -3257,14 +3232,14 @@ public class MindcodeParser extends Parser {
 					{
 					_localctx = new Alternative_listContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_alternative_list);
-					setState(405);
+					setState(401);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(406);
+					setState(402);
 					alternative();
 					}
 					} 
 				}
-				setState(411);
+				setState(407);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
 			}
@@ -3316,17 +3291,17 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(412);
+			setState(408);
 			match(WHEN);
-			setState(413);
+			setState(409);
 			((AlternativeContext)_localctx).value = expression(0);
-			setState(415);
+			setState(411);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
 			case 1:
 				{
-				setState(414);
-				((AlternativeContext)_localctx).body = expression_list(0);
+				setState(410);
+				((AlternativeContext)_localctx).body = expression_list();
 				}
 				break;
 			}
@@ -3464,18 +3439,18 @@ public class MindcodeParser extends Parser {
 		enterRule(_localctx, 54, RULE_assign);
 		int _la;
 		try {
-			setState(433);
+			setState(429);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
 			case 1:
 				_localctx = new Simple_assignContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(417);
+				setState(413);
 				((Simple_assignContext)_localctx).target = lvalue();
-				setState(418);
+				setState(414);
 				match(ASSIGN);
-				setState(419);
+				setState(415);
 				((Simple_assignContext)_localctx).value = expression(0);
 				}
 				break;
@@ -3483,11 +3458,11 @@ public class MindcodeParser extends Parser {
 				_localctx = new Exp_assignContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(421);
+				setState(417);
 				((Exp_assignContext)_localctx).target = lvalue();
-				setState(422);
+				setState(418);
 				match(EXP_ASSIGN);
-				setState(423);
+				setState(419);
 				((Exp_assignContext)_localctx).value = expression(0);
 				}
 				break;
@@ -3495,9 +3470,9 @@ public class MindcodeParser extends Parser {
 				_localctx = new Binop_mul_div_assignContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(425);
+				setState(421);
 				((Binop_mul_div_assignContext)_localctx).target = lvalue();
-				setState(426);
+				setState(422);
 				((Binop_mul_div_assignContext)_localctx).op = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(_la==DIV_ASSIGN || _la==MUL_ASSIGN) ) {
@@ -3508,7 +3483,7 @@ public class MindcodeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(427);
+				setState(423);
 				((Binop_mul_div_assignContext)_localctx).value = expression(0);
 				}
 				break;
@@ -3516,9 +3491,9 @@ public class MindcodeParser extends Parser {
 				_localctx = new Binop_plus_minus_assignContext(_localctx);
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(429);
+				setState(425);
 				((Binop_plus_minus_assignContext)_localctx).target = lvalue();
-				setState(430);
+				setState(426);
 				((Binop_plus_minus_assignContext)_localctx).op = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(_la==MINUS_ASSIGN || _la==PLUS_ASSIGN) ) {
@@ -3529,7 +3504,7 @@ public class MindcodeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(431);
+				setState(427);
 				((Binop_plus_minus_assignContext)_localctx).value = expression(0);
 				}
 				break;
@@ -3585,41 +3560,41 @@ public class MindcodeParser extends Parser {
 		LvalueContext _localctx = new LvalueContext(_ctx, getState());
 		enterRule(_localctx, 56, RULE_lvalue);
 		try {
-			setState(440);
+			setState(436);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(435);
+				setState(431);
 				unit_ref();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(436);
+				setState(432);
 				global_ref();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(437);
+				setState(433);
 				heap_ref();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(438);
+				setState(434);
 				var_ref();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(439);
+				setState(435);
 				propaccess();
 				}
 				break;
@@ -3672,13 +3647,13 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(442);
+			setState(438);
 			((Heap_refContext)_localctx).name = id();
-			setState(443);
+			setState(439);
 			match(LEFT_SBRACKET);
-			setState(444);
+			setState(440);
 			((Heap_refContext)_localctx).address = expression(0);
-			setState(445);
+			setState(441);
 			match(RIGHT_SBRACKET);
 			}
 		}
@@ -3724,9 +3699,9 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(447);
+			setState(443);
 			match(DOLLAR);
-			setState(448);
+			setState(444);
 			((Global_refContext)_localctx).name = id();
 			}
 		}
@@ -3771,9 +3746,9 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(450);
+			setState(446);
 			match(AT);
-			setState(451);
+			setState(447);
 			ref();
 			}
 		}
@@ -3817,7 +3792,7 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(453);
+			setState(449);
 			id();
 			}
 		}
@@ -3859,7 +3834,7 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(455);
+			setState(451);
 			match(ID);
 			}
 		}
@@ -3904,20 +3879,20 @@ public class MindcodeParser extends Parser {
 		Int_tContext _localctx = new Int_tContext(_ctx, getState());
 		enterRule(_localctx, 68, RULE_int_t);
 		try {
-			setState(459);
+			setState(455);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(457);
+				setState(453);
 				decimal_int();
 				}
 				break;
 			case HEXINT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(458);
+				setState(454);
 				hex_int();
 				}
 				break;
@@ -3963,7 +3938,7 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(461);
+			setState(457);
 			match(FLOAT);
 			}
 		}
@@ -4005,7 +3980,7 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(463);
+			setState(459);
 			match(LITERAL);
 			}
 		}
@@ -4047,7 +4022,7 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(465);
+			setState(461);
 			match(NULL);
 			}
 		}
@@ -4116,14 +4091,14 @@ public class MindcodeParser extends Parser {
 		Bool_tContext _localctx = new Bool_tContext(_ctx, getState());
 		enterRule(_localctx, 76, RULE_bool_t);
 		try {
-			setState(469);
+			setState(465);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 				_localctx = new True_bool_literalContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(467);
+				setState(463);
 				true_t();
 				}
 				break;
@@ -4131,7 +4106,7 @@ public class MindcodeParser extends Parser {
 				_localctx = new False_bool_literalContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(468);
+				setState(464);
 				false_t();
 				}
 				break;
@@ -4177,7 +4152,7 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(471);
+			setState(467);
 			match(TRUE);
 			}
 		}
@@ -4219,7 +4194,7 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(473);
+			setState(469);
 			match(FALSE);
 			}
 		}
@@ -4261,7 +4236,7 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(475);
+			setState(471);
 			match(ID);
 			}
 		}
@@ -4303,7 +4278,7 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(477);
+			setState(473);
 			match(INT);
 			}
 		}
@@ -4345,7 +4320,7 @@ public class MindcodeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(479);
+			setState(475);
 			match(HEXINT);
 			}
 		}
@@ -4362,8 +4337,6 @@ public class MindcodeParser extends Parser {
 
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
-		case 1:
-			return expression_list_sempred((Expression_listContext)_localctx, predIndex);
 		case 2:
 			return expression_sempred((ExpressionContext)_localctx, predIndex);
 		case 7:
@@ -4383,269 +4356,259 @@ public class MindcodeParser extends Parser {
 		}
 		return true;
 	}
-	private boolean expression_list_sempred(Expression_listContext _localctx, int predIndex) {
-		switch (predIndex) {
-		case 0:
-			return precpred(_ctx, 2);
-		case 1:
-			return precpred(_ctx, 1);
-		}
-		return true;
-	}
 	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
 		switch (predIndex) {
-		case 2:
+		case 0:
 			return precpred(_ctx, 26);
-		case 3:
+		case 1:
 			return precpred(_ctx, 16);
-		case 4:
+		case 2:
 			return precpred(_ctx, 14);
-		case 5:
+		case 3:
 			return precpred(_ctx, 13);
-		case 6:
+		case 4:
 			return precpred(_ctx, 12);
-		case 7:
+		case 5:
 			return precpred(_ctx, 11);
-		case 8:
+		case 6:
 			return precpred(_ctx, 10);
-		case 9:
+		case 7:
 			return precpred(_ctx, 9);
-		case 10:
+		case 8:
 			return precpred(_ctx, 8);
-		case 11:
+		case 9:
 			return precpred(_ctx, 7);
 		}
 		return true;
 	}
 	private boolean alloc_list_sempred(Alloc_listContext _localctx, int predIndex) {
 		switch (predIndex) {
-		case 12:
+		case 10:
 			return precpred(_ctx, 1);
 		}
 		return true;
 	}
 	private boolean arg_decl_list_sempred(Arg_decl_listContext _localctx, int predIndex) {
 		switch (predIndex) {
-		case 13:
+		case 11:
 			return precpred(_ctx, 1);
 		}
 		return true;
 	}
 	private boolean loop_body_sempred(Loop_bodyContext _localctx, int predIndex) {
 		switch (predIndex) {
-		case 14:
+		case 12:
 			return precpred(_ctx, 6);
-		case 15:
+		case 13:
 			return precpred(_ctx, 5);
-		case 16:
+		case 14:
 			return precpred(_ctx, 4);
 		}
 		return true;
 	}
 	private boolean init_list_sempred(Init_listContext _localctx, int predIndex) {
 		switch (predIndex) {
-		case 17:
+		case 15:
 			return precpred(_ctx, 1);
 		}
 		return true;
 	}
 	private boolean incr_list_sempred(Incr_listContext _localctx, int predIndex) {
 		switch (predIndex) {
-		case 18:
+		case 16:
 			return precpred(_ctx, 1);
 		}
 		return true;
 	}
 	private boolean arg_list_sempred(Arg_listContext _localctx, int predIndex) {
 		switch (predIndex) {
-		case 19:
+		case 17:
 			return precpred(_ctx, 1);
 		}
 		return true;
 	}
 	private boolean alternative_list_sempred(Alternative_listContext _localctx, int predIndex) {
 		switch (predIndex) {
-		case 20:
+		case 18:
 			return precpred(_ctx, 1);
 		}
 		return true;
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3E\u01e4\4\2\t\2\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3E\u01e0\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
 		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
 		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
-		",\t,\4-\t-\3\2\3\2\3\2\3\2\5\2_\n\2\3\3\3\3\3\3\3\3\3\3\5\3f\n\3\3\3\3"+
-		"\3\3\3\3\3\3\3\7\3m\n\3\f\3\16\3p\13\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4"+
-		"\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\5\4\u008a"+
-		"\n\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3"+
-		"\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\7\4"+
-		"\u00ad\n\4\f\4\16\4\u00b0\13\4\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\6"+
-		"\3\6\3\6\3\6\3\6\3\6\5\6\u00c1\n\6\3\7\3\7\5\7\u00c5\n\7\3\b\3\b\3\b\3"+
-		"\t\3\t\3\t\3\t\3\t\5\t\u00cf\n\t\3\t\3\t\3\t\3\t\3\t\3\t\5\t\u00d7\n\t"+
-		"\7\t\u00d9\n\t\f\t\16\t\u00dc\13\t\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13"+
-		"\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\5\13\u00ef\n\13\3\f\3\f"+
-		"\3\f\3\f\3\f\3\f\7\f\u00f7\n\f\f\f\16\f\u00fa\13\f\3\r\3\r\3\r\3\r\3\r"+
+		",\t,\4-\t-\3\2\3\2\3\2\3\2\5\2_\n\2\3\3\3\3\5\3c\n\3\3\3\5\3f\n\3\3\3"+
+		"\7\3i\n\3\f\3\16\3l\13\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3"+
+		"\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\5\4\u0086\n\4\3\4\3"+
+		"\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4"+
+		"\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\7\4\u00a9\n\4"+
+		"\f\4\16\4\u00ac\13\4\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3"+
+		"\6\3\6\3\6\5\6\u00bd\n\6\3\7\3\7\5\7\u00c1\n\7\3\b\3\b\3\b\3\t\3\t\3\t"+
+		"\3\t\3\t\5\t\u00cb\n\t\3\t\3\t\3\t\3\t\3\t\3\t\5\t\u00d3\n\t\7\t\u00d5"+
+		"\n\t\f\t\16\t\u00d8\13\t\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\13\3\13"+
+		"\3\13\3\13\3\13\3\13\3\13\3\13\3\13\5\13\u00eb\n\13\3\f\3\f\3\f\3\f\3"+
+		"\f\3\f\7\f\u00f3\n\f\f\f\16\f\u00f6\13\f\3\r\3\r\3\r\3\r\3\r\3\16\3\16"+
 		"\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16"+
-		"\3\16\3\16\5\16\u0111\n\16\3\17\3\17\3\17\3\17\5\17\u0117\n\17\3\17\3"+
-		"\17\3\17\3\17\3\17\3\17\7\17\u011f\n\17\f\17\16\17\u0122\13\17\3\20\3"+
-		"\20\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\5"+
-		"\22\u0133\n\22\3\23\3\23\3\23\3\23\3\23\3\23\7\23\u013b\n\23\f\23\16\23"+
-		"\u013e\13\23\3\24\3\24\3\24\3\24\3\24\3\24\7\24\u0146\n\24\f\24\16\24"+
-		"\u0149\13\24\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3"+
-		"\25\3\25\3\25\3\25\3\25\3\25\5\25\u015c\n\25\3\26\3\26\3\26\3\26\3\26"+
-		"\3\26\7\26\u0164\n\26\f\26\16\26\u0167\13\26\3\27\3\27\3\30\3\30\3\30"+
-		"\5\30\u016e\n\30\3\30\5\30\u0171\n\30\3\30\3\30\3\31\3\31\5\31\u0177\n"+
-		"\31\3\31\3\31\3\31\5\31\u017c\n\31\3\31\3\31\3\31\3\31\3\31\3\31\5\31"+
-		"\u0184\n\31\3\31\3\31\5\31\u0188\n\31\3\32\3\32\3\32\5\32\u018d\n\32\3"+
-		"\32\3\32\5\32\u0191\n\32\3\32\3\32\3\33\3\33\3\33\3\33\3\33\7\33\u019a"+
-		"\n\33\f\33\16\33\u019d\13\33\3\34\3\34\3\34\5\34\u01a2\n\34\3\35\3\35"+
-		"\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35"+
-		"\5\35\u01b4\n\35\3\36\3\36\3\36\3\36\3\36\5\36\u01bb\n\36\3\37\3\37\3"+
-		"\37\3\37\3\37\3 \3 \3 \3!\3!\3!\3\"\3\"\3#\3#\3$\3$\5$\u01ce\n$\3%\3%"+
-		"\3&\3&\3\'\3\'\3(\3(\5(\u01d8\n(\3)\3)\3*\3*\3+\3+\3,\3,\3-\3-\3-\2\13"+
-		"\4\6\20\26\34$&*\64.\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60"+
-		"\62\64\668:<>@BDFHJLNPRTVX\2\13\4\2\32\33 !\4\2\37\37##\3\2\64\65\4\2"+
-		"+,\60\61\3\2-/\3\2\668\4\2\r\r\22\22\4\2&&))\4\2((**\2\u01fe\2^\3\2\2"+
-		"\2\4e\3\2\2\2\6\u0089\3\2\2\2\b\u00b1\3\2\2\2\n\u00c0\3\2\2\2\f\u00c4"+
-		"\3\2\2\2\16\u00c6\3\2\2\2\20\u00c9\3\2\2\2\22\u00dd\3\2\2\2\24\u00ee\3"+
-		"\2\2\2\26\u00f0\3\2\2\2\30\u00fb\3\2\2\2\32\u0110\3\2\2\2\34\u0116\3\2"+
-		"\2\2\36\u0123\3\2\2\2 \u0125\3\2\2\2\"\u0132\3\2\2\2$\u0134\3\2\2\2&\u013f"+
-		"\3\2\2\2(\u015b\3\2\2\2*\u015d\3\2\2\2,\u0168\3\2\2\2.\u016a\3\2\2\2\60"+
-		"\u0187\3\2\2\2\62\u0189\3\2\2\2\64\u0194\3\2\2\2\66\u019e\3\2\2\28\u01b3"+
-		"\3\2\2\2:\u01ba\3\2\2\2<\u01bc\3\2\2\2>\u01c1\3\2\2\2@\u01c4\3\2\2\2B"+
-		"\u01c7\3\2\2\2D\u01c9\3\2\2\2F\u01cd\3\2\2\2H\u01cf\3\2\2\2J\u01d1\3\2"+
-		"\2\2L\u01d3\3\2\2\2N\u01d7\3\2\2\2P\u01d9\3\2\2\2R\u01db\3\2\2\2T\u01dd"+
-		"\3\2\2\2V\u01df\3\2\2\2X\u01e1\3\2\2\2Z[\5\4\3\2[\\\7\2\2\3\\_\3\2\2\2"+
-		"]_\7\2\2\3^Z\3\2\2\2^]\3\2\2\2_\3\3\2\2\2`a\b\3\1\2af\5\6\4\2bc\5\6\4"+
-		"\2cd\7%\2\2df\3\2\2\2e`\3\2\2\2eb\3\2\2\2fn\3\2\2\2gh\f\4\2\2hm\5\6\4"+
-		"\2ij\f\3\2\2jk\7%\2\2km\5\6\4\2lg\3\2\2\2li\3\2\2\2mp\3\2\2\2nl\3\2\2"+
-		"\2no\3\2\2\2o\5\3\2\2\2pn\3\2\2\2qr\b\4\1\2r\u008a\5\b\5\2s\u008a\5\n"+
-		"\6\2t\u008a\5\62\32\2u\u008a\5.\30\2v\u008a\5(\25\2w\u008a\5\24\13\2x"+
-		"\u008a\5\16\b\2y\u008a\58\35\2z\u008a\5:\36\2{\u008a\5\30\r\2|\u008a\5"+
-		"\32\16\2}~\7\"\2\2~\u008a\5\6\4\21\177\u008a\5J&\2\u0080\u008a\5\f\7\2"+
-		"\u0081\u008a\5N(\2\u0082\u0083\7\37\2\2\u0083\u008a\5\f\7\2\u0084\u008a"+
-		"\5L\'\2\u0085\u0086\7;\2\2\u0086\u0087\5\6\4\2\u0087\u0088\7<\2\2\u0088"+
-		"\u008a\3\2\2\2\u0089q\3\2\2\2\u0089s\3\2\2\2\u0089t\3\2\2\2\u0089u\3\2"+
-		"\2\2\u0089v\3\2\2\2\u0089w\3\2\2\2\u0089x\3\2\2\2\u0089y\3\2\2\2\u0089"+
-		"z\3\2\2\2\u0089{\3\2\2\2\u0089|\3\2\2\2\u0089}\3\2\2\2\u0089\177\3\2\2"+
-		"\2\u0089\u0080\3\2\2\2\u0089\u0081\3\2\2\2\u0089\u0082\3\2\2\2\u0089\u0084"+
-		"\3\2\2\2\u0089\u0085\3\2\2\2\u008a\u00ae\3\2\2\2\u008b\u008c\f\34\2\2"+
-		"\u008c\u008d\7$\2\2\u008d\u008e\5\6\4\2\u008e\u008f\7\30\2\2\u008f\u0090"+
-		"\5\6\4\35\u0090\u00ad\3\2\2\2\u0091\u0092\f\22\2\2\u0092\u0093\7\36\2"+
-		"\2\u0093\u00ad\5\6\4\23\u0094\u0095\f\20\2\2\u0095\u0096\t\2\2\2\u0096"+
-		"\u00ad\5\6\4\21\u0097\u0098\f\17\2\2\u0098\u0099\t\3\2\2\u0099\u00ad\5"+
-		"\6\4\20\u009a\u009b\f\16\2\2\u009b\u009c\t\4\2\2\u009c\u00ad\5\6\4\17"+
-		"\u009d\u009e\f\r\2\2\u009e\u009f\t\5\2\2\u009f\u00ad\5\6\4\16\u00a0\u00a1"+
-		"\f\f\2\2\u00a1\u00a2\t\6\2\2\u00a2\u00ad\5\6\4\r\u00a3\u00a4\f\13\2\2"+
-		"\u00a4\u00a5\t\7\2\2\u00a5\u00ad\5\6\4\f\u00a6\u00a7\f\n\2\2\u00a7\u00a8"+
-		"\7\62\2\2\u00a8\u00ad\5\6\4\13\u00a9\u00aa\f\t\2\2\u00aa\u00ab\7\63\2"+
-		"\2\u00ab\u00ad\5\6\4\n\u00ac\u008b\3\2\2\2\u00ac\u0091\3\2\2\2\u00ac\u0094"+
-		"\3\2\2\2\u00ac\u0097\3\2\2\2\u00ac\u009a\3\2\2\2\u00ac\u009d\3\2\2\2\u00ac"+
-		"\u00a0\3\2\2\2\u00ac\u00a3\3\2\2\2\u00ac\u00a6\3\2\2\2\u00ac\u00a9\3\2"+
-		"\2\2\u00ad\u00b0\3\2\2\2\u00ae\u00ac\3\2\2\2\u00ae\u00af\3\2\2\2\u00af"+
-		"\7\3\2\2\2\u00b0\u00ae\3\2\2\2\u00b1\u00b2\5B\"\2\u00b2\u00b3\7\35\2\2"+
-		"\u00b3\u00b4\7\21\2\2\u00b4\u00b5\7;\2\2\u00b5\u00b6\5\6\4\2\u00b6\u00b7"+
-		"\7<\2\2\u00b7\t\3\2\2\2\u00b8\u00b9\5B\"\2\u00b9\u00ba\7\35\2\2\u00ba"+
-		"\u00bb\5T+\2\u00bb\u00c1\3\2\2\2\u00bc\u00bd\5@!\2\u00bd\u00be\7\35\2"+
-		"\2\u00be\u00bf\5T+\2\u00bf\u00c1\3\2\2\2\u00c0\u00b8\3\2\2\2\u00c0\u00bc"+
-		"\3\2\2\2\u00c1\13\3\2\2\2\u00c2\u00c5\5H%\2\u00c3\u00c5\5F$\2\u00c4\u00c2"+
-		"\3\2\2\2\u00c4\u00c3\3\2\2\2\u00c5\r\3\2\2\2\u00c6\u00c7\7\3\2\2\u00c7"+
-		"\u00c8\5\20\t\2\u00c8\17\3\2\2\2\u00c9\u00ca\b\t\1\2\u00ca\u00cb\t\b\2"+
-		"\2\u00cb\u00cc\7\17\2\2\u00cc\u00ce\5T+\2\u00cd\u00cf\5\22\n\2\u00ce\u00cd"+
-		"\3\2\2\2\u00ce\u00cf\3\2\2\2\u00cf\u00da\3\2\2\2\u00d0\u00d1\f\3\2\2\u00d1"+
-		"\u00d2\7\31\2\2\u00d2\u00d3\t\b\2\2\u00d3\u00d4\7\17\2\2\u00d4\u00d6\5"+
-		"T+\2\u00d5\u00d7\5\22\n\2\u00d6\u00d5\3\2\2\2\u00d6\u00d7\3\2\2\2\u00d7"+
-		"\u00d9\3\2\2\2\u00d8\u00d0\3\2\2\2\u00d9\u00dc\3\2\2\2\u00da\u00d8\3\2"+
-		"\2\2\u00da\u00db\3\2\2\2\u00db\21\3\2\2\2\u00dc\u00da\3\2\2\2\u00dd\u00de"+
-		"\79\2\2\u00de\u00df\5\"\22\2\u00df\u00e0\7:\2\2\u00e0\23\3\2\2\2\u00e1"+
-		"\u00e2\7\7\2\2\u00e2\u00e3\5T+\2\u00e3\u00e4\7;\2\2\u00e4\u00e5\5\26\f"+
-		"\2\u00e5\u00e6\7<\2\2\u00e6\u00e7\5\4\3\2\u00e7\u00e8\7\n\2\2\u00e8\u00ef"+
-		"\3\2\2\2\u00e9\u00ea\7\7\2\2\u00ea\u00eb\5T+\2\u00eb\u00ec\5\4\3\2\u00ec"+
-		"\u00ed\7\n\2\2\u00ed\u00ef\3\2\2\2\u00ee\u00e1\3\2\2\2\u00ee\u00e9\3\2"+
-		"\2\2\u00ef\25\3\2\2\2\u00f0\u00f1\b\f\1\2\u00f1\u00f2\5:\36\2\u00f2\u00f8"+
-		"\3\2\2\2\u00f3\u00f4\f\3\2\2\u00f4\u00f5\7\31\2\2\u00f5\u00f7\5:\36\2"+
-		"\u00f6\u00f3\3\2\2\2\u00f7\u00fa\3\2\2\2\u00f8\u00f6\3\2\2\2\u00f8\u00f9"+
-		"\3\2\2\2\u00f9\27\3\2\2\2\u00fa\u00f8\3\2\2\2\u00fb\u00fc\7\25\2\2\u00fc"+
-		"\u00fd\5\6\4\2\u00fd\u00fe\5\34\17\2\u00fe\u00ff\7\n\2\2\u00ff\31\3\2"+
-		"\2\2\u0100\u0101\7\f\2\2\u0101\u0102\5:\36\2\u0102\u0103\7\17\2\2\u0103"+
-		"\u0104\5\"\22\2\u0104\u0105\5\34\17\2\u0105\u0106\7\n\2\2\u0106\u0111"+
-		"\3\2\2\2\u0107\u0108\7\f\2\2\u0108\u0109\5$\23\2\u0109\u010a\7%\2\2\u010a"+
-		"\u010b\5\6\4\2\u010b\u010c\7%\2\2\u010c\u010d\5&\24\2\u010d\u010e\5\34"+
-		"\17\2\u010e\u010f\7\n\2\2\u010f\u0111\3\2\2\2\u0110\u0100\3\2\2\2\u0110"+
-		"\u0107\3\2\2\2\u0111\33\3\2\2\2\u0112\u0113\b\17\1\2\u0113\u0117\5\4\3"+
-		"\2\u0114\u0117\5 \21\2\u0115\u0117\5\36\20\2\u0116\u0112\3\2\2\2\u0116"+
-		"\u0114\3\2\2\2\u0116\u0115\3\2\2\2\u0117\u0120\3\2\2\2\u0118\u0119\f\b"+
-		"\2\2\u0119\u011f\5\4\3\2\u011a\u011b\f\7\2\2\u011b\u011f\5 \21\2\u011c"+
-		"\u011d\f\6\2\2\u011d\u011f\5\36\20\2\u011e\u0118\3\2\2\2\u011e\u011a\3"+
-		"\2\2\2\u011e\u011c\3\2\2\2\u011f\u0122\3\2\2\2\u0120\u011e\3\2\2\2\u0120"+
-		"\u0121\3\2\2\2\u0121\35\3\2\2\2\u0122\u0120\3\2\2\2\u0123\u0124\7\6\2"+
-		"\2\u0124\37\3\2\2\2\u0125\u0126\7\4\2\2\u0126!\3\2\2\2\u0127\u0128\5F"+
-		"$\2\u0128\u0129\7\35\2\2\u0129\u012a\7\35\2\2\u012a\u012b\5F$\2\u012b"+
-		"\u0133\3\2\2\2\u012c\u012d\5F$\2\u012d\u012e\7\35\2\2\u012e\u012f\7\35"+
-		"\2\2\u012f\u0130\7\35\2\2\u0130\u0131\5F$\2\u0131\u0133\3\2\2\2\u0132"+
-		"\u0127\3\2\2\2\u0132\u012c\3\2\2\2\u0133#\3\2\2\2\u0134\u0135\b\23\1\2"+
-		"\u0135\u0136\5\6\4\2\u0136\u013c\3\2\2\2\u0137\u0138\f\3\2\2\u0138\u0139"+
-		"\7\31\2\2\u0139\u013b\5\6\4\2\u013a\u0137\3\2\2\2\u013b\u013e\3\2\2\2"+
-		"\u013c\u013a\3\2\2\2\u013c\u013d\3\2\2\2\u013d%\3\2\2\2\u013e\u013c\3"+
-		"\2\2\2\u013f\u0140\b\24\1\2\u0140\u0141\5\6\4\2\u0141\u0147\3\2\2\2\u0142"+
-		"\u0143\f\3\2\2\u0143\u0144\7\31\2\2\u0144\u0146\5\6\4\2\u0145\u0142\3"+
-		"\2\2\2\u0146\u0149\3\2\2\2\u0147\u0145\3\2\2\2\u0147\u0148\3\2\2\2\u0148"+
-		"\'\3\2\2\2\u0149\u0147\3\2\2\2\u014a\u014b\7\n\2\2\u014b\u014c\7;\2\2"+
-		"\u014c\u015c\7<\2\2\u014d\u014e\5T+\2\u014e\u014f\7;\2\2\u014f\u0150\7"+
-		"<\2\2\u0150\u015c\3\2\2\2\u0151\u0152\5T+\2\u0152\u0153\7;\2\2\u0153\u0154"+
-		"\5*\26\2\u0154\u0155\7<\2\2\u0155\u015c\3\2\2\2\u0156\u0157\5\n\6\2\u0157"+
-		"\u0158\7;\2\2\u0158\u0159\5*\26\2\u0159\u015a\7<\2\2\u015a\u015c\3\2\2"+
-		"\2\u015b\u014a\3\2\2\2\u015b\u014d\3\2\2\2\u015b\u0151\3\2\2\2\u015b\u0156"+
-		"\3\2\2\2\u015c)\3\2\2\2\u015d\u015e\b\26\1\2\u015e\u015f\5,\27\2\u015f"+
-		"\u0165\3\2\2\2\u0160\u0161\f\3\2\2\u0161\u0162\7\31\2\2\u0162\u0164\5"+
-		",\27\2\u0163\u0160\3\2\2\2\u0164\u0167\3\2\2\2\u0165\u0163\3\2\2\2\u0165"+
-		"\u0166\3\2\2\2\u0166+\3\2\2\2\u0167\u0165\3\2\2\2\u0168\u0169\5\6\4\2"+
-		"\u0169-\3\2\2\2\u016a\u016b\7\16\2\2\u016b\u016d\5\6\4\2\u016c\u016e\5"+
-		"\4\3\2\u016d\u016c\3\2\2\2\u016d\u016e\3\2\2\2\u016e\u0170\3\2\2\2\u016f"+
-		"\u0171\5\60\31\2\u0170\u016f\3\2\2\2\u0170\u0171\3\2\2\2\u0171\u0172\3"+
-		"\2\2\2\u0172\u0173\7\n\2\2\u0173/\3\2\2\2\u0174\u0176\7\b\2\2\u0175\u0177"+
-		"\5\4\3\2\u0176\u0175\3\2\2\2\u0176\u0177\3\2\2\2\u0177\u0188\3\2\2\2\u0178"+
-		"\u0179\7\t\2\2\u0179\u017b\5\6\4\2\u017a\u017c\5\4\3\2\u017b\u017a\3\2"+
-		"\2\2\u017b\u017c\3\2\2\2\u017c\u017d\3\2\2\2\u017d\u017e\5\60\31\2\u017e"+
-		"\u0188\3\2\2\2\u017f\u0180\7\b\2\2\u0180\u0181\7\16\2\2\u0181\u0183\5"+
-		"\6\4\2\u0182\u0184\5\4\3\2\u0183\u0182\3\2\2\2\u0183\u0184\3\2\2\2\u0184"+
-		"\u0185\3\2\2\2\u0185\u0186\5\60\31\2\u0186\u0188\3\2\2\2\u0187\u0174\3"+
-		"\2\2\2\u0187\u0178\3\2\2\2\u0187\u017f\3\2\2\2\u0188\61\3\2\2\2\u0189"+
-		"\u018a\7\5\2\2\u018a\u018c\5\6\4\2\u018b\u018d\5\64\33\2\u018c\u018b\3"+
-		"\2\2\2\u018c\u018d\3\2\2\2\u018d\u0190\3\2\2\2\u018e\u018f\7\b\2\2\u018f"+
-		"\u0191\5\4\3\2\u0190\u018e\3\2\2\2\u0190\u0191\3\2\2\2\u0191\u0192\3\2"+
-		"\2\2\u0192\u0193\7\n\2\2\u0193\63\3\2\2\2\u0194\u0195\b\33\1\2\u0195\u0196"+
-		"\5\66\34\2\u0196\u019b\3\2\2\2\u0197\u0198\f\3\2\2\u0198\u019a\5\66\34"+
-		"\2\u0199\u0197\3\2\2\2\u019a\u019d\3\2\2\2\u019b\u0199\3\2\2\2\u019b\u019c"+
-		"\3\2\2\2\u019c\65\3\2\2\2\u019d\u019b\3\2\2\2\u019e\u019f\7\24\2\2\u019f"+
-		"\u01a1\5\6\4\2\u01a0\u01a2\5\4\3\2\u01a1\u01a0\3\2\2\2\u01a1\u01a2\3\2"+
-		"\2\2\u01a2\67\3\2\2\2\u01a3\u01a4\5:\36\2\u01a4\u01a5\7\26\2\2\u01a5\u01a6"+
-		"\5\6\4\2\u01a6\u01b4\3\2\2\2\u01a7\u01a8\5:\36\2\u01a8\u01a9\7\'\2\2\u01a9"+
-		"\u01aa\5\6\4\2\u01aa\u01b4\3\2\2\2\u01ab\u01ac\5:\36\2\u01ac\u01ad\t\t"+
-		"\2\2\u01ad\u01ae\5\6\4\2\u01ae\u01b4\3\2\2\2\u01af\u01b0\5:\36\2\u01b0"+
-		"\u01b1\t\n\2\2\u01b1\u01b2\5\6\4\2\u01b2\u01b4\3\2\2\2\u01b3\u01a3\3\2"+
-		"\2\2\u01b3\u01a7\3\2\2\2\u01b3\u01ab\3\2\2\2\u01b3\u01af\3\2\2\2\u01b4"+
-		"9\3\2\2\2\u01b5\u01bb\5@!\2\u01b6\u01bb\5> \2\u01b7\u01bb\5<\37\2\u01b8"+
-		"\u01bb\5B\"\2\u01b9\u01bb\5\n\6\2\u01ba\u01b5\3\2\2\2\u01ba\u01b6\3\2"+
-		"\2\2\u01ba\u01b7\3\2\2\2\u01ba\u01b8\3\2\2\2\u01ba\u01b9\3\2\2\2\u01bb"+
-		";\3\2\2\2\u01bc\u01bd\5T+\2\u01bd\u01be\79\2\2\u01be\u01bf\5\6\4\2\u01bf"+
-		"\u01c0\7:\2\2\u01c0=\3\2\2\2\u01c1\u01c2\7\34\2\2\u01c2\u01c3\5T+\2\u01c3"+
-		"?\3\2\2\2\u01c4\u01c5\7\27\2\2\u01c5\u01c6\5D#\2\u01c6A\3\2\2\2\u01c7"+
-		"\u01c8\5T+\2\u01c8C\3\2\2\2\u01c9\u01ca\7C\2\2\u01caE\3\2\2\2\u01cb\u01ce"+
-		"\5V,\2\u01cc\u01ce\5X-\2\u01cd\u01cb\3\2\2\2\u01cd\u01cc\3\2\2\2\u01ce"+
-		"G\3\2\2\2\u01cf\u01d0\7@\2\2\u01d0I\3\2\2\2\u01d1\u01d2\7?\2\2\u01d2K"+
-		"\3\2\2\2\u01d3\u01d4\7\20\2\2\u01d4M\3\2\2\2\u01d5\u01d8\5P)\2\u01d6\u01d8"+
-		"\5R*\2\u01d7\u01d5\3\2\2\2\u01d7\u01d6\3\2\2\2\u01d8O\3\2\2\2\u01d9\u01da"+
-		"\7\23\2\2\u01daQ\3\2\2\2\u01db\u01dc\7\13\2\2\u01dcS\3\2\2\2\u01dd\u01de"+
-		"\7C\2\2\u01deU\3\2\2\2\u01df\u01e0\7A\2\2\u01e0W\3\2\2\2\u01e1\u01e2\7"+
-		"B\2\2\u01e2Y\3\2\2\2\'^eln\u0089\u00ac\u00ae\u00c0\u00c4\u00ce\u00d6\u00da"+
-		"\u00ee\u00f8\u0110\u0116\u011e\u0120\u0132\u013c\u0147\u015b\u0165\u016d"+
-		"\u0170\u0176\u017b\u0183\u0187\u018c\u0190\u019b\u01a1\u01b3\u01ba\u01cd"+
-		"\u01d7";
+		"\5\16\u010d\n\16\3\17\3\17\3\17\3\17\5\17\u0113\n\17\3\17\3\17\3\17\3"+
+		"\17\3\17\3\17\7\17\u011b\n\17\f\17\16\17\u011e\13\17\3\20\3\20\3\21\3"+
+		"\21\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\5\22\u012f"+
+		"\n\22\3\23\3\23\3\23\3\23\3\23\3\23\7\23\u0137\n\23\f\23\16\23\u013a\13"+
+		"\23\3\24\3\24\3\24\3\24\3\24\3\24\7\24\u0142\n\24\f\24\16\24\u0145\13"+
+		"\24\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3"+
+		"\25\3\25\3\25\3\25\5\25\u0158\n\25\3\26\3\26\3\26\3\26\3\26\3\26\7\26"+
+		"\u0160\n\26\f\26\16\26\u0163\13\26\3\27\3\27\3\30\3\30\3\30\5\30\u016a"+
+		"\n\30\3\30\5\30\u016d\n\30\3\30\3\30\3\31\3\31\5\31\u0173\n\31\3\31\3"+
+		"\31\3\31\5\31\u0178\n\31\3\31\3\31\3\31\3\31\3\31\3\31\5\31\u0180\n\31"+
+		"\3\31\3\31\5\31\u0184\n\31\3\32\3\32\3\32\5\32\u0189\n\32\3\32\3\32\5"+
+		"\32\u018d\n\32\3\32\3\32\3\33\3\33\3\33\3\33\3\33\7\33\u0196\n\33\f\33"+
+		"\16\33\u0199\13\33\3\34\3\34\3\34\5\34\u019e\n\34\3\35\3\35\3\35\3\35"+
+		"\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\5\35\u01b0"+
+		"\n\35\3\36\3\36\3\36\3\36\3\36\5\36\u01b7\n\36\3\37\3\37\3\37\3\37\3\37"+
+		"\3 \3 \3 \3!\3!\3!\3\"\3\"\3#\3#\3$\3$\5$\u01ca\n$\3%\3%\3&\3&\3\'\3\'"+
+		"\3(\3(\5(\u01d4\n(\3)\3)\3*\3*\3+\3+\3,\3,\3-\3-\3-\2\n\6\20\26\34$&*"+
+		"\64.\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@"+
+		"BDFHJLNPRTVX\2\13\4\2\32\33 !\4\2\37\37##\3\2\64\65\4\2+,\60\61\3\2-/"+
+		"\3\2\668\4\2\r\r\22\22\4\2&&))\4\2((**\2\u01fa\2^\3\2\2\2\4`\3\2\2\2\6"+
+		"\u0085\3\2\2\2\b\u00ad\3\2\2\2\n\u00bc\3\2\2\2\f\u00c0\3\2\2\2\16\u00c2"+
+		"\3\2\2\2\20\u00c5\3\2\2\2\22\u00d9\3\2\2\2\24\u00ea\3\2\2\2\26\u00ec\3"+
+		"\2\2\2\30\u00f7\3\2\2\2\32\u010c\3\2\2\2\34\u0112\3\2\2\2\36\u011f\3\2"+
+		"\2\2 \u0121\3\2\2\2\"\u012e\3\2\2\2$\u0130\3\2\2\2&\u013b\3\2\2\2(\u0157"+
+		"\3\2\2\2*\u0159\3\2\2\2,\u0164\3\2\2\2.\u0166\3\2\2\2\60\u0183\3\2\2\2"+
+		"\62\u0185\3\2\2\2\64\u0190\3\2\2\2\66\u019a\3\2\2\28\u01af\3\2\2\2:\u01b6"+
+		"\3\2\2\2<\u01b8\3\2\2\2>\u01bd\3\2\2\2@\u01c0\3\2\2\2B\u01c3\3\2\2\2D"+
+		"\u01c5\3\2\2\2F\u01c9\3\2\2\2H\u01cb\3\2\2\2J\u01cd\3\2\2\2L\u01cf\3\2"+
+		"\2\2N\u01d3\3\2\2\2P\u01d5\3\2\2\2R\u01d7\3\2\2\2T\u01d9\3\2\2\2V\u01db"+
+		"\3\2\2\2X\u01dd\3\2\2\2Z[\5\4\3\2[\\\7\2\2\3\\_\3\2\2\2]_\7\2\2\3^Z\3"+
+		"\2\2\2^]\3\2\2\2_\3\3\2\2\2`b\5\6\4\2ac\7%\2\2ba\3\2\2\2bc\3\2\2\2cj\3"+
+		"\2\2\2df\7%\2\2ed\3\2\2\2ef\3\2\2\2fg\3\2\2\2gi\5\6\4\2he\3\2\2\2il\3"+
+		"\2\2\2jh\3\2\2\2jk\3\2\2\2k\5\3\2\2\2lj\3\2\2\2mn\b\4\1\2n\u0086\5\b\5"+
+		"\2o\u0086\5\n\6\2p\u0086\5\62\32\2q\u0086\5.\30\2r\u0086\5(\25\2s\u0086"+
+		"\5\24\13\2t\u0086\5\16\b\2u\u0086\58\35\2v\u0086\5:\36\2w\u0086\5\30\r"+
+		"\2x\u0086\5\32\16\2yz\7\"\2\2z\u0086\5\6\4\21{\u0086\5J&\2|\u0086\5\f"+
+		"\7\2}\u0086\5N(\2~\177\7\37\2\2\177\u0086\5\f\7\2\u0080\u0086\5L\'\2\u0081"+
+		"\u0082\7;\2\2\u0082\u0083\5\6\4\2\u0083\u0084\7<\2\2\u0084\u0086\3\2\2"+
+		"\2\u0085m\3\2\2\2\u0085o\3\2\2\2\u0085p\3\2\2\2\u0085q\3\2\2\2\u0085r"+
+		"\3\2\2\2\u0085s\3\2\2\2\u0085t\3\2\2\2\u0085u\3\2\2\2\u0085v\3\2\2\2\u0085"+
+		"w\3\2\2\2\u0085x\3\2\2\2\u0085y\3\2\2\2\u0085{\3\2\2\2\u0085|\3\2\2\2"+
+		"\u0085}\3\2\2\2\u0085~\3\2\2\2\u0085\u0080\3\2\2\2\u0085\u0081\3\2\2\2"+
+		"\u0086\u00aa\3\2\2\2\u0087\u0088\f\34\2\2\u0088\u0089\7$\2\2\u0089\u008a"+
+		"\5\6\4\2\u008a\u008b\7\30\2\2\u008b\u008c\5\6\4\35\u008c\u00a9\3\2\2\2"+
+		"\u008d\u008e\f\22\2\2\u008e\u008f\7\36\2\2\u008f\u00a9\5\6\4\23\u0090"+
+		"\u0091\f\20\2\2\u0091\u0092\t\2\2\2\u0092\u00a9\5\6\4\21\u0093\u0094\f"+
+		"\17\2\2\u0094\u0095\t\3\2\2\u0095\u00a9\5\6\4\20\u0096\u0097\f\16\2\2"+
+		"\u0097\u0098\t\4\2\2\u0098\u00a9\5\6\4\17\u0099\u009a\f\r\2\2\u009a\u009b"+
+		"\t\5\2\2\u009b\u00a9\5\6\4\16\u009c\u009d\f\f\2\2\u009d\u009e\t\6\2\2"+
+		"\u009e\u00a9\5\6\4\r\u009f\u00a0\f\13\2\2\u00a0\u00a1\t\7\2\2\u00a1\u00a9"+
+		"\5\6\4\f\u00a2\u00a3\f\n\2\2\u00a3\u00a4\7\62\2\2\u00a4\u00a9\5\6\4\13"+
+		"\u00a5\u00a6\f\t\2\2\u00a6\u00a7\7\63\2\2\u00a7\u00a9\5\6\4\n\u00a8\u0087"+
+		"\3\2\2\2\u00a8\u008d\3\2\2\2\u00a8\u0090\3\2\2\2\u00a8\u0093\3\2\2\2\u00a8"+
+		"\u0096\3\2\2\2\u00a8\u0099\3\2\2\2\u00a8\u009c\3\2\2\2\u00a8\u009f\3\2"+
+		"\2\2\u00a8\u00a2\3\2\2\2\u00a8\u00a5\3\2\2\2\u00a9\u00ac\3\2\2\2\u00aa"+
+		"\u00a8\3\2\2\2\u00aa\u00ab\3\2\2\2\u00ab\7\3\2\2\2\u00ac\u00aa\3\2\2\2"+
+		"\u00ad\u00ae\5B\"\2\u00ae\u00af\7\35\2\2\u00af\u00b0\7\21\2\2\u00b0\u00b1"+
+		"\7;\2\2\u00b1\u00b2\5\6\4\2\u00b2\u00b3\7<\2\2\u00b3\t\3\2\2\2\u00b4\u00b5"+
+		"\5B\"\2\u00b5\u00b6\7\35\2\2\u00b6\u00b7\5T+\2\u00b7\u00bd\3\2\2\2\u00b8"+
+		"\u00b9\5@!\2\u00b9\u00ba\7\35\2\2\u00ba\u00bb\5T+\2\u00bb\u00bd\3\2\2"+
+		"\2\u00bc\u00b4\3\2\2\2\u00bc\u00b8\3\2\2\2\u00bd\13\3\2\2\2\u00be\u00c1"+
+		"\5H%\2\u00bf\u00c1\5F$\2\u00c0\u00be\3\2\2\2\u00c0\u00bf\3\2\2\2\u00c1"+
+		"\r\3\2\2\2\u00c2\u00c3\7\3\2\2\u00c3\u00c4\5\20\t\2\u00c4\17\3\2\2\2\u00c5"+
+		"\u00c6\b\t\1\2\u00c6\u00c7\t\b\2\2\u00c7\u00c8\7\17\2\2\u00c8\u00ca\5"+
+		"T+\2\u00c9\u00cb\5\22\n\2\u00ca\u00c9\3\2\2\2\u00ca\u00cb\3\2\2\2\u00cb"+
+		"\u00d6\3\2\2\2\u00cc\u00cd\f\3\2\2\u00cd\u00ce\7\31\2\2\u00ce\u00cf\t"+
+		"\b\2\2\u00cf\u00d0\7\17\2\2\u00d0\u00d2\5T+\2\u00d1\u00d3\5\22\n\2\u00d2"+
+		"\u00d1\3\2\2\2\u00d2\u00d3\3\2\2\2\u00d3\u00d5\3\2\2\2\u00d4\u00cc\3\2"+
+		"\2\2\u00d5\u00d8\3\2\2\2\u00d6\u00d4\3\2\2\2\u00d6\u00d7\3\2\2\2\u00d7"+
+		"\21\3\2\2\2\u00d8\u00d6\3\2\2\2\u00d9\u00da\79\2\2\u00da\u00db\5\"\22"+
+		"\2\u00db\u00dc\7:\2\2\u00dc\23\3\2\2\2\u00dd\u00de\7\7\2\2\u00de\u00df"+
+		"\5T+\2\u00df\u00e0\7;\2\2\u00e0\u00e1\5\26\f\2\u00e1\u00e2\7<\2\2\u00e2"+
+		"\u00e3\5\4\3\2\u00e3\u00e4\7\n\2\2\u00e4\u00eb\3\2\2\2\u00e5\u00e6\7\7"+
+		"\2\2\u00e6\u00e7\5T+\2\u00e7\u00e8\5\4\3\2\u00e8\u00e9\7\n\2\2\u00e9\u00eb"+
+		"\3\2\2\2\u00ea\u00dd\3\2\2\2\u00ea\u00e5\3\2\2\2\u00eb\25\3\2\2\2\u00ec"+
+		"\u00ed\b\f\1\2\u00ed\u00ee\5:\36\2\u00ee\u00f4\3\2\2\2\u00ef\u00f0\f\3"+
+		"\2\2\u00f0\u00f1\7\31\2\2\u00f1\u00f3\5:\36\2\u00f2\u00ef\3\2\2\2\u00f3"+
+		"\u00f6\3\2\2\2\u00f4\u00f2\3\2\2\2\u00f4\u00f5\3\2\2\2\u00f5\27\3\2\2"+
+		"\2\u00f6\u00f4\3\2\2\2\u00f7\u00f8\7\25\2\2\u00f8\u00f9\5\6\4\2\u00f9"+
+		"\u00fa\5\34\17\2\u00fa\u00fb\7\n\2\2\u00fb\31\3\2\2\2\u00fc\u00fd\7\f"+
+		"\2\2\u00fd\u00fe\5:\36\2\u00fe\u00ff\7\17\2\2\u00ff\u0100\5\"\22\2\u0100"+
+		"\u0101\5\34\17\2\u0101\u0102\7\n\2\2\u0102\u010d\3\2\2\2\u0103\u0104\7"+
+		"\f\2\2\u0104\u0105\5$\23\2\u0105\u0106\7%\2\2\u0106\u0107\5\6\4\2\u0107"+
+		"\u0108\7%\2\2\u0108\u0109\5&\24\2\u0109\u010a\5\34\17\2\u010a\u010b\7"+
+		"\n\2\2\u010b\u010d\3\2\2\2\u010c\u00fc\3\2\2\2\u010c\u0103\3\2\2\2\u010d"+
+		"\33\3\2\2\2\u010e\u010f\b\17\1\2\u010f\u0113\5\4\3\2\u0110\u0113\5 \21"+
+		"\2\u0111\u0113\5\36\20\2\u0112\u010e\3\2\2\2\u0112\u0110\3\2\2\2\u0112"+
+		"\u0111\3\2\2\2\u0113\u011c\3\2\2\2\u0114\u0115\f\b\2\2\u0115\u011b\5\4"+
+		"\3\2\u0116\u0117\f\7\2\2\u0117\u011b\5 \21\2\u0118\u0119\f\6\2\2\u0119"+
+		"\u011b\5\36\20\2\u011a\u0114\3\2\2\2\u011a\u0116\3\2\2\2\u011a\u0118\3"+
+		"\2\2\2\u011b\u011e\3\2\2\2\u011c\u011a\3\2\2\2\u011c\u011d\3\2\2\2\u011d"+
+		"\35\3\2\2\2\u011e\u011c\3\2\2\2\u011f\u0120\7\6\2\2\u0120\37\3\2\2\2\u0121"+
+		"\u0122\7\4\2\2\u0122!\3\2\2\2\u0123\u0124\5F$\2\u0124\u0125\7\35\2\2\u0125"+
+		"\u0126\7\35\2\2\u0126\u0127\5F$\2\u0127\u012f\3\2\2\2\u0128\u0129\5F$"+
+		"\2\u0129\u012a\7\35\2\2\u012a\u012b\7\35\2\2\u012b\u012c\7\35\2\2\u012c"+
+		"\u012d\5F$\2\u012d\u012f\3\2\2\2\u012e\u0123\3\2\2\2\u012e\u0128\3\2\2"+
+		"\2\u012f#\3\2\2\2\u0130\u0131\b\23\1\2\u0131\u0132\5\6\4\2\u0132\u0138"+
+		"\3\2\2\2\u0133\u0134\f\3\2\2\u0134\u0135\7\31\2\2\u0135\u0137\5\6\4\2"+
+		"\u0136\u0133\3\2\2\2\u0137\u013a\3\2\2\2\u0138\u0136\3\2\2\2\u0138\u0139"+
+		"\3\2\2\2\u0139%\3\2\2\2\u013a\u0138\3\2\2\2\u013b\u013c\b\24\1\2\u013c"+
+		"\u013d\5\6\4\2\u013d\u0143\3\2\2\2\u013e\u013f\f\3\2\2\u013f\u0140\7\31"+
+		"\2\2\u0140\u0142\5\6\4\2\u0141\u013e\3\2\2\2\u0142\u0145\3\2\2\2\u0143"+
+		"\u0141\3\2\2\2\u0143\u0144\3\2\2\2\u0144\'\3\2\2\2\u0145\u0143\3\2\2\2"+
+		"\u0146\u0147\7\n\2\2\u0147\u0148\7;\2\2\u0148\u0158\7<\2\2\u0149\u014a"+
+		"\5T+\2\u014a\u014b\7;\2\2\u014b\u014c\7<\2\2\u014c\u0158\3\2\2\2\u014d"+
+		"\u014e\5T+\2\u014e\u014f\7;\2\2\u014f\u0150\5*\26\2\u0150\u0151\7<\2\2"+
+		"\u0151\u0158\3\2\2\2\u0152\u0153\5\n\6\2\u0153\u0154\7;\2\2\u0154\u0155"+
+		"\5*\26\2\u0155\u0156\7<\2\2\u0156\u0158\3\2\2\2\u0157\u0146\3\2\2\2\u0157"+
+		"\u0149\3\2\2\2\u0157\u014d\3\2\2\2\u0157\u0152\3\2\2\2\u0158)\3\2\2\2"+
+		"\u0159\u015a\b\26\1\2\u015a\u015b\5,\27\2\u015b\u0161\3\2\2\2\u015c\u015d"+
+		"\f\3\2\2\u015d\u015e\7\31\2\2\u015e\u0160\5,\27\2\u015f\u015c\3\2\2\2"+
+		"\u0160\u0163\3\2\2\2\u0161\u015f\3\2\2\2\u0161\u0162\3\2\2\2\u0162+\3"+
+		"\2\2\2\u0163\u0161\3\2\2\2\u0164\u0165\5\6\4\2\u0165-\3\2\2\2\u0166\u0167"+
+		"\7\16\2\2\u0167\u0169\5\6\4\2\u0168\u016a\5\4\3\2\u0169\u0168\3\2\2\2"+
+		"\u0169\u016a\3\2\2\2\u016a\u016c\3\2\2\2\u016b\u016d\5\60\31\2\u016c\u016b"+
+		"\3\2\2\2\u016c\u016d\3\2\2\2\u016d\u016e\3\2\2\2\u016e\u016f\7\n\2\2\u016f"+
+		"/\3\2\2\2\u0170\u0172\7\b\2\2\u0171\u0173\5\4\3\2\u0172\u0171\3\2\2\2"+
+		"\u0172\u0173\3\2\2\2\u0173\u0184\3\2\2\2\u0174\u0175\7\t\2\2\u0175\u0177"+
+		"\5\6\4\2\u0176\u0178\5\4\3\2\u0177\u0176\3\2\2\2\u0177\u0178\3\2\2\2\u0178"+
+		"\u0179\3\2\2\2\u0179\u017a\5\60\31\2\u017a\u0184\3\2\2\2\u017b\u017c\7"+
+		"\b\2\2\u017c\u017d\7\16\2\2\u017d\u017f\5\6\4\2\u017e\u0180\5\4\3\2\u017f"+
+		"\u017e\3\2\2\2\u017f\u0180\3\2\2\2\u0180\u0181\3\2\2\2\u0181\u0182\5\60"+
+		"\31\2\u0182\u0184\3\2\2\2\u0183\u0170\3\2\2\2\u0183\u0174\3\2\2\2\u0183"+
+		"\u017b\3\2\2\2\u0184\61\3\2\2\2\u0185\u0186\7\5\2\2\u0186\u0188\5\6\4"+
+		"\2\u0187\u0189\5\64\33\2\u0188\u0187\3\2\2\2\u0188\u0189\3\2\2\2\u0189"+
+		"\u018c\3\2\2\2\u018a\u018b\7\b\2\2\u018b\u018d\5\4\3\2\u018c\u018a\3\2"+
+		"\2\2\u018c\u018d\3\2\2\2\u018d\u018e\3\2\2\2\u018e\u018f\7\n\2\2\u018f"+
+		"\63\3\2\2\2\u0190\u0191\b\33\1\2\u0191\u0192\5\66\34\2\u0192\u0197\3\2"+
+		"\2\2\u0193\u0194\f\3\2\2\u0194\u0196\5\66\34\2\u0195\u0193\3\2\2\2\u0196"+
+		"\u0199\3\2\2\2\u0197\u0195\3\2\2\2\u0197\u0198\3\2\2\2\u0198\65\3\2\2"+
+		"\2\u0199\u0197\3\2\2\2\u019a\u019b\7\24\2\2\u019b\u019d\5\6\4\2\u019c"+
+		"\u019e\5\4\3\2\u019d\u019c\3\2\2\2\u019d\u019e\3\2\2\2\u019e\67\3\2\2"+
+		"\2\u019f\u01a0\5:\36\2\u01a0\u01a1\7\26\2\2\u01a1\u01a2\5\6\4\2\u01a2"+
+		"\u01b0\3\2\2\2\u01a3\u01a4\5:\36\2\u01a4\u01a5\7\'\2\2\u01a5\u01a6\5\6"+
+		"\4\2\u01a6\u01b0\3\2\2\2\u01a7\u01a8\5:\36\2\u01a8\u01a9\t\t\2\2\u01a9"+
+		"\u01aa\5\6\4\2\u01aa\u01b0\3\2\2\2\u01ab\u01ac\5:\36\2\u01ac\u01ad\t\n"+
+		"\2\2\u01ad\u01ae\5\6\4\2\u01ae\u01b0\3\2\2\2\u01af\u019f\3\2\2\2\u01af"+
+		"\u01a3\3\2\2\2\u01af\u01a7\3\2\2\2\u01af\u01ab\3\2\2\2\u01b09\3\2\2\2"+
+		"\u01b1\u01b7\5@!\2\u01b2\u01b7\5> \2\u01b3\u01b7\5<\37\2\u01b4\u01b7\5"+
+		"B\"\2\u01b5\u01b7\5\n\6\2\u01b6\u01b1\3\2\2\2\u01b6\u01b2\3\2\2\2\u01b6"+
+		"\u01b3\3\2\2\2\u01b6\u01b4\3\2\2\2\u01b6\u01b5\3\2\2\2\u01b7;\3\2\2\2"+
+		"\u01b8\u01b9\5T+\2\u01b9\u01ba\79\2\2\u01ba\u01bb\5\6\4\2\u01bb\u01bc"+
+		"\7:\2\2\u01bc=\3\2\2\2\u01bd\u01be\7\34\2\2\u01be\u01bf\5T+\2\u01bf?\3"+
+		"\2\2\2\u01c0\u01c1\7\27\2\2\u01c1\u01c2\5D#\2\u01c2A\3\2\2\2\u01c3\u01c4"+
+		"\5T+\2\u01c4C\3\2\2\2\u01c5\u01c6\7C\2\2\u01c6E\3\2\2\2\u01c7\u01ca\5"+
+		"V,\2\u01c8\u01ca\5X-\2\u01c9\u01c7\3\2\2\2\u01c9\u01c8\3\2\2\2\u01caG"+
+		"\3\2\2\2\u01cb\u01cc\7@\2\2\u01ccI\3\2\2\2\u01cd\u01ce\7?\2\2\u01ceK\3"+
+		"\2\2\2\u01cf\u01d0\7\20\2\2\u01d0M\3\2\2\2\u01d1\u01d4\5P)\2\u01d2\u01d4"+
+		"\5R*\2\u01d3\u01d1\3\2\2\2\u01d3\u01d2\3\2\2\2\u01d4O\3\2\2\2\u01d5\u01d6"+
+		"\7\23\2\2\u01d6Q\3\2\2\2\u01d7\u01d8\7\13\2\2\u01d8S\3\2\2\2\u01d9\u01da"+
+		"\7C\2\2\u01daU\3\2\2\2\u01db\u01dc\7A\2\2\u01dcW\3\2\2\2\u01dd\u01de\7"+
+		"B\2\2\u01deY\3\2\2\2\'^bej\u0085\u00a8\u00aa\u00bc\u00c0\u00ca\u00d2\u00d6"+
+		"\u00ea\u00f4\u010c\u0112\u011a\u011c\u012e\u0138\u0143\u0157\u0161\u0169"+
+		"\u016c\u0172\u0177\u017f\u0183\u0188\u018c\u0197\u019d\u01af\u01b6\u01c9"+
+		"\u01d3";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
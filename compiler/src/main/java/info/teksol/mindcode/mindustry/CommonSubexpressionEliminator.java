@@ -0,0 +1,259 @@
+package info.teksol.mindcode.mindustry;
+
+import info.teksol.mindcode.CompilationCancelledException;
+
+import java.util.*;
+
+/**
+ * Reuses the result of an earlier {@code sensor}, {@code op} or {@code read} computing the same thing out of the same
+ * operands, rather than computing it again: the later instruction becomes a {@code set} of the earlier result, and
+ * the instructions that follow read the earlier result directly. The {@link DeadCodeEliminator} removes the
+ * {@code set}s nobody reads anymore; it must come next.
+ * <p>
+ * Only straight-line code is considered: everything known is forgotten at each label. For the same reason, results
+ * going into a variable that is also used in another stretch of straight-line code are computed again: the
+ * {@code set} replacing them would stay, costing as much as the instruction it replaced. A result is forgotten as soon
+ * as any of its operands, or the variable holding it, is written to. The world may change under the processor's feet
+ * too: sensed values are forgotten whenever the processor acts on a block or a unit, and read values whenever it
+ * writes to memory. {@code rand}, and what depends on {@code @tick}, {@code @time} or {@code @counter}, are never
+ * reused.
+ */
+class CommonSubexpressionEliminator implements LogicInstructionPipeline {
+    private static final Set<String> VOLATILE = Set.of("@tick", "@time", "@counter");
+
+    private final LogicInstructionPipeline next;
+
+    private final List<LogicInstruction> program = new ArrayList<>();
+
+    // The variables used in more than one stretch of straight-line code
+    private final Set<String> shared = new HashSet<>();
+
+    // The expression each key stands for, such as "sensor reactor1 @heat", and the expressions using each variable,
+    // either as an operand or to hold their result
+    private final Map<String, Expression> available = new HashMap<>();
+    private final Map<String, List<Expression>> users = new HashMap<>();
+
+    // The variables set to an earlier result, and the variable holding it
+    private final Map<String, String> copies = new HashMap<>();
+
+    CommonSubexpressionEliminator(LogicInstructionPipeline next) {
+        this.next = next;
+    }
+
+    @Override
+    public void emit(LogicInstruction instruction) {
+        program.add(instruction);
+    }
+
+    @Override
+    public void flush() {
+        findSharedVariables();
+        for (final LogicInstruction instruction : program) {
+            CompilationCancelledException.throwIfInterrupted();
+            eliminate(instruction);
+        }
+
+        program.clear();
+        shared.clear();
+        forgetAll();
+        next.flush();
+    }
+
+    private void findSharedVariables() {
+        final Map<String, Integer> blocks = new HashMap<>();
+        int block = 0;
+        for (final LogicInstruction instruction : program) {
+            if (instruction.isLabel()) block++;
+
+            for (final String arg : instruction.getArgs()) {
+                final Integer previous = blocks.putIfAbsent(arg, block);
+                if (previous != null && previous != block) shared.add(arg);
+            }
+
+            if (instruction.getOpcode() == Opcode.END) block++;
+        }
+    }
+
+    private void eliminate(LogicInstruction instruction) {
+        switch (instruction.getOpcode()) {
+            case LABEL:
+            case END:
+                forgetAll();
+                next.emit(instruction);
+                break;
+
+            case SENSOR:
+                // sensor result target property
+                emitExpression(propagate(instruction, 1), 0, 1);
+                break;
+
+            case READ:
+                // read result cell address
+                emitExpression(propagate(instruction, 1), 0, 1);
+                break;
+
+            case OP:
+                // op operation result a b
+                if (instruction.getArgs().get(0).equals("rand")) {
+                    written(instruction.getArgs().get(1));
+                    next.emit(propagate(instruction, 2));
+                } else {
+                    emitExpression(propagate(instruction, 2), 1, 2);
+                }
+                break;
+
+            case SET:
+                written(instruction.getArgs().get(0));
+                next.emit(propagate(instruction, 1));
+                break;
+
+            case GETLINK:
+                written(instruction.getArgs().get(0));
+                next.emit(instruction);
+                break;
+
+            case WRITE:
+                forget(Opcode.READ);
+                next.emit(propagate(instruction, 0));
+                break;
+
+            case JUMP:
+                next.emit(propagate(instruction, 2));
+                break;
+
+            case PRINT:
+                next.emit(propagate(instruction, 0));
+                break;
+
+            case UBIND:
+                written("@unit");
+                forget(Opcode.SENSOR);
+                next.emit(instruction);
+                break;
+
+            case CONTROL:
+            case UCONTROL:
+            case ULOCATE:
+            case URADAR:
+                // These write operands their roles don't tell, and act on the world
+                for (final String arg : instruction.getArgs()) {
+                    written(arg);
+                }
+                forget(Opcode.SENSOR);
+                forget(Opcode.READ);
+                next.emit(instruction);
+                break;
+
+            default:
+                // printflush, draw and drawflush write nothing
+                next.emit(instruction);
+                break;
+        }
+    }
+
+    /**
+     * @param result   the position of the operand receiving the result
+     * @param operands the position of the first operand the result is computed from; the operands before the
+     *                 result, such as the name of an operation, are part of what is computed too
+     */
+    private void emitExpression(LogicInstruction instruction, int result, int operands) {
+        final List<String> args = instruction.getArgs();
+        final String target = args.get(result);
+        final String key = keyOf(instruction, result);
+        final Expression earlier = key == null || shared.contains(target) ? null : available.get(key);
+        if (earlier != null && earlier.holder.equals(target)) {
+            // Already holds the result
+            return;
+        }
+
+        written(target);
+        if (earlier != null) {
+            next.emit(new LogicInstruction(Opcode.SET, target, earlier.holder));
+            if (!target.startsWith("@")) copies.put(target, earlier.holder);
+            return;
+        }
+
+        next.emit(instruction);
+        if (key == null) return;
+
+        final List<String> inputs = args.subList(operands, args.size());
+        if (inputs.contains(target) || target.startsWith("@")) return;
+
+        final Expression expression = new Expression(instruction.getOpcode(), key, target);
+        available.put(key, expression);
+        users.computeIfAbsent(target, (variable) -> new ArrayList<>()).add(expression);
+        for (final String input : inputs) {
+            users.computeIfAbsent(input, (variable) -> new ArrayList<>()).add(expression);
+        }
+    }
+
+    /**
+     * @return what the instruction computes, independently of where it puts the result, or null when it can't be
+     * reused
+     */
+    private static String keyOf(LogicInstruction instruction, int result) {
+        final StringBuilder key = new StringBuilder(instruction.getOpcode().getMnemonic());
+        final List<String> args = instruction.getArgs();
+        for (int i = 0; i < args.size(); i++) {
+            if (i == result) continue;
+            if (VOLATILE.contains(args.get(i))) return null;
+            key.append(' ').append(args.get(i));
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * @return the instruction, with every copy of an earlier result at or after {@code from} replaced by the variable
+     * holding that result
+     */
+    private LogicInstruction propagate(LogicInstruction instruction, int from) {
+        if (copies.isEmpty()) return instruction;
+
+        final List<String> args = instruction.getArgs();
+        String[] propagated = null;
+        for (int i = from; i < args.size(); i++) {
+            final String holder = copies.get(args.get(i));
+            if (holder == null) continue;
+
+            if (propagated == null) propagated = args.toArray(new String[0]);
+            propagated[i] = holder;
+        }
+
+        return propagated == null ? instruction : new LogicInstruction(instruction.getOpcode(), propagated);
+    }
+
+    private void written(String variable) {
+        copies.remove(variable);
+        if (copies.containsValue(variable)) copies.values().removeIf(variable::equals);
+
+        final List<Expression> expressions = users.remove(variable);
+        if (expressions == null) return;
+
+        for (final Expression expression : expressions) {
+            available.remove(expression.key, expression);
+        }
+    }
+
+    private void forget(Opcode opcode) {
+        available.values().removeIf((expression) -> expression.opcode == opcode);
+    }
+
+    private void forgetAll() {
+        available.clear();
+        users.clear();
+        copies.clear();
+    }
+
+    private static class Expression {
+        private final Opcode opcode;
+        private final String key;
+        private final String holder;
+
+        Expression(Opcode opcode, String key, String holder) {
+            this.opcode = opcode;
+            this.key = key;
+            this.holder = holder;
+        }
+    }
+}
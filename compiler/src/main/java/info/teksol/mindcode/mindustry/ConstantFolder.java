@@ -0,0 +1,202 @@
+package info.teksol.mindcode.mindustry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes at compile time what only depends on numeric literals, as Mindustry would compute it at run time.
+ * <p>
+ * Within straight-line code, the value of every variable last {@code set} to a number is known: operands reading
+ * such a variable are replaced with the number itself, an {@code op} whose operands are all numbers becomes a
+ * {@code set} of its result, and a {@code jump} whose operands are all numbers either always jumps or is dropped.
+ * The {@code set}s nobody reads anymore are left for the {@link DeadCodeEliminator}, which must run later in the
+ * pipeline.
+ * <p>
+ * Everything known is forgotten at each label, since execution may come from elsewhere, including a function
+ * returning. {@code rand} and {@code noise} are never folded, nor are results Mindustry would turn into null, nor
+ * results that can't be written without an exponent, which Mindustry doesn't parse.
+ */
+class ConstantFolder implements LogicInstructionPipeline {
+    private final LogicInstructionPipeline next;
+
+    // The numeric literal each variable is known to hold
+    private final Map<String, String> constants = new HashMap<>();
+
+    ConstantFolder(LogicInstructionPipeline next) {
+        this.next = next;
+    }
+
+    @Override
+    public void emit(LogicInstruction instruction) {
+        switch (instruction.getOpcode()) {
+            case LABEL:
+            case END:
+                constants.clear();
+                next.emit(instruction);
+                break;
+
+            case SET:
+                emitSet(instruction);
+                break;
+
+            case OP:
+                emitOp(instruction);
+                break;
+
+            case JUMP:
+                emitJump(instruction);
+                break;
+
+            case PRINT:
+            case WRITE:
+                // Only read their operands
+                next.emit(propagate(instruction, 0));
+                break;
+
+            case READ:
+                constants.remove(instruction.getArgs().get(0));
+                next.emit(propagate(instruction, 1));
+                break;
+
+            default:
+                // ucontrol, ulocate and the like write operands their roles don't tell: forget about all of them
+                for (final String arg : instruction.getArgs()) {
+                    constants.remove(arg);
+                }
+                next.emit(instruction);
+                break;
+        }
+    }
+
+    @Override
+    public void flush() {
+        constants.clear();
+        next.flush();
+    }
+
+    private void emitSet(LogicInstruction instruction) {
+        final LogicInstruction set = propagate(instruction, 1);
+        assign(set.getArgs().get(0), set.getArgs().get(1));
+        next.emit(set);
+    }
+
+    private void emitOp(LogicInstruction instruction) {
+        final LogicInstruction op = propagate(instruction, 2);
+        final List<String> args = op.getArgs();
+        final String result = args.get(1);
+        final String folded = fold(args.get(0), args.subList(2, args.size()));
+        if (folded == null) {
+            constants.remove(result);
+            next.emit(op);
+        } else {
+            assign(result, folded);
+            next.emit(new LogicInstruction(Opcode.SET, result, folded));
+        }
+    }
+
+    private void emitJump(LogicInstruction instruction) {
+        final LogicInstruction jump = propagate(instruction, 2);
+        final List<String> args = jump.getArgs();
+        if (args.size() < 4 || args.get(1).equals("always")) {
+            next.emit(jump);
+            return;
+        }
+
+        final String folded = fold(args.get(1), args.subList(2, 4));
+        if (folded == null) {
+            next.emit(jump);
+        } else if (!folded.equals("0")) {
+            next.emit(new LogicInstruction(Opcode.JUMP, args.get(0), "always"));
+        }
+        // else the jump is never taken
+    }
+
+    private void assign(String variable, String value) {
+        if (variable.startsWith("@")) return;
+
+        if (valueOf(value) != null) {
+            constants.put(variable, value);
+        } else {
+            constants.remove(variable);
+        }
+    }
+
+    /**
+     * @return the instruction, with every variable known to hold a number at or after {@code from} replaced by that
+     * number
+     */
+    private LogicInstruction propagate(LogicInstruction instruction, int from) {
+        final List<String> args = instruction.getArgs();
+        String[] propagated = null;
+        for (int i = from; i < args.size(); i++) {
+            final String constant = constants.get(args.get(i));
+            if (constant == null) continue;
+
+            if (propagated == null) propagated = args.toArray(new String[0]);
+            propagated[i] = constant;
+        }
+
+        return propagated == null ? instruction : new LogicInstruction(instruction.getOpcode(), propagated);
+    }
+
+    /**
+     * @return the literal result of the operation, or null when it can't be computed at compile time
+     */
+    private static String fold(String name, List<String> operands) {
+        final Operation operation;
+        try {
+            operation = Operation.fromName(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        if (!operation.isDeterministic()) return null;
+
+        final Double a = valueOf(operands.get(0));
+        final Double b = operands.size() > 1 ? valueOf(operands.get(1)) : Double.valueOf(0);
+        if (a == null || b == null) return null;
+
+        return literalOf(operation.apply(a, b));
+    }
+
+    /**
+     * @return the value of a numeric or boolean literal, or null when it is anything else
+     */
+    static Double valueOf(String literal) {
+        switch (literal) {
+            case "true":
+                return 1.0;
+
+            case "false":
+                return 0.0;
+        }
+
+        if (literal.isEmpty()) return null;
+        final char first = literal.charAt(0);
+        if (first != '-' && first != '.' && !Character.isDigit(first)) return null;
+
+        try {
+            if (literal.startsWith("0x")) return (double) Long.parseLong(literal.substring(2), 16);
+            if (literal.startsWith("-0x")) return (double) -Long.parseLong(literal.substring(3), 16);
+            if (literal.indexOf('e') >= 0 || literal.indexOf('E') >= 0) return null;
+            return Double.parseDouble(literal);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return how to write the value in Logic, or null when Mindustry would store null instead, or wouldn't parse it
+     */
+    static String literalOf(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) return null;
+
+        if (value == Math.rint(value) && Math.abs(value) < 1L << 53) {
+            return Long.toString((long) value);
+        }
+
+        final String literal = Double.toString(value);
+        return literal.indexOf('E') >= 0 ? null : literal;
+    }
+}
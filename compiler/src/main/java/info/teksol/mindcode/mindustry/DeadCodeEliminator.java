@@ -1,13 +1,24 @@
 package info.teksol.mindcode.mindustry;
 
-import java.util.*;
+import info.teksol.mindcode.CompilationCancelledException;
+
+import java.util.Arrays;
+import java.util.List;
 
 class DeadCodeEliminator implements LogicInstructionPipeline {
     private final LogicInstructionPipeline next;
 
-    private final List<LogicInstruction> program = new ArrayList<>();
-    private final Set<String> reads = new HashSet<>();
-    private final Map<String, List<LogicInstruction>> writes = new HashMap<>();
+    private final InstructionBuffer program = new InstructionBuffer();
+
+    // Symbols read by each instruction: those of instruction i are readSymbols[readStarts[i] .. readStarts[i + 1])
+    private int readCount;
+    private int[] readSymbols = new int[256];
+    private int[] readStarts;
+
+    // Instruction index and symbol of each write
+    private int writeCount;
+    private int[] writeInstructions = new int[256];
+    private int[] writeSymbols = new int[256];
 
     DeadCodeEliminator(LogicInstructionPipeline next) {
         this.next = next;
@@ -20,135 +31,158 @@ class DeadCodeEliminator implements LogicInstructionPipeline {
 
     @Override
     public void flush() {
-        do {
-            analyzeDataflow();
-        } while (removeUselessWrites());
+        // instruction pointer is *always* read -- and our implementation of call/return depends on this
+        final int counter = program.getSymbols().id("@counter");
+
+        analyzeDataflow();
 
-        for (LogicInstruction instruction : program) {
-            next.emit(instruction);
+        final int symbolCount = program.getSymbols().size();
+        final int[] readCounts = new int[symbolCount];
+        for (int i = 0; i < readCount; i++) {
+            readCounts[readSymbols[i]]++;
+        }
+        readCounts[counter]++;
+
+        // Writers of each symbol: those of symbol s are writers[writerStarts[s] .. writerStarts[s + 1])
+        final int[] writerStarts = new int[symbolCount + 1];
+        for (int i = 0; i < writeCount; i++) {
+            writerStarts[writeSymbols[i] + 1]++;
+        }
+        for (int s = 0; s < symbolCount; s++) {
+            writerStarts[s + 1] += writerStarts[s];
+        }
+        final int[] writers = new int[writeCount];
+        final int[] fill = Arrays.copyOf(writerStarts, symbolCount);
+        for (int i = 0; i < writeCount; i++) {
+            writers[fill[writeSymbols[i]]++] = writeInstructions[i];
         }
-        program.clear();
+
+        removeUselessWrites(readCounts, writerStarts, writers);
+
+        program.emitTo(next);
     }
 
     private void analyzeDataflow() {
-        reads.clear();
-        writes.clear();
-        reads.add("@counter"); // instruction pointer is *always* read -- and our implementation of call/return depends on this
-        program.forEach(this::examineInstruction);
+        readCount = 0;
+        writeCount = 0;
+        readStarts = new int[program.size() + 1];
+        for (int index = 0; index < program.size(); index++) {
+            CompilationCancelledException.throwIfInterrupted();
+            examineInstruction(index);
+            readStarts[index + 1] = readCount;
+        }
     }
 
     /**
-     * @return true if we need to do another round of dataflow analysis.
+     * Removes every instruction writing a symbol nobody reads. Removing an instruction drops its reads, which may in
+     * turn leave other symbols unread: those are put on the worklist, so each instruction is looked at once.
      */
-    private boolean removeUselessWrites() {
-        final Set<String> uselessWrites = new HashSet<>(writes.keySet());
-        uselessWrites.removeAll(reads);
-        for (String key : uselessWrites) {
-            final List<LogicInstruction> deadInstructions = writes.get(key);
-            program.removeAll(deadInstructions);
+    private void removeUselessWrites(int[] readCounts, int[] writerStarts, int[] writers) {
+        int[] worklist = new int[16];
+        int pending = 0;
+        for (int s = 0; s < readCounts.length; s++) {
+            if (readCounts[s] == 0 && writerStarts[s] < writerStarts[s + 1]) {
+                if (pending == worklist.length) worklist = Arrays.copyOf(worklist, pending * 2);
+                worklist[pending++] = s;
+            }
         }
 
-        return !uselessWrites.isEmpty();
-    }
-
-    private void addWrite(LogicInstruction instruction, int index) {
-        final String varName = instruction.getArgs().get(index);
-        final List<LogicInstruction> ls = writes.getOrDefault(varName, new ArrayList<>());
-        ls.add(instruction);
-        writes.put(varName, ls);
+        while (pending > 0) {
+            CompilationCancelledException.throwIfInterrupted();
+            final int symbol = worklist[--pending];
+            for (int w = writerStarts[symbol]; w < writerStarts[symbol + 1]; w++) {
+                final int index = writers[w];
+                if (program.isRemoved(index)) continue;
+
+                program.remove(index);
+                for (int r = readStarts[index]; r < readStarts[index + 1]; r++) {
+                    final int read = readSymbols[r];
+                    if (--readCounts[read] == 0 && writerStarts[read] < writerStarts[read + 1]) {
+                        if (pending == worklist.length) worklist = Arrays.copyOf(worklist, pending * 2);
+                        worklist[pending++] = read;
+                    }
+                }
+            }
+        }
     }
 
-    private void examineInstruction(LogicInstruction instruction) {
-        switch (instruction.getOpcode()) {
-            case "set":
-                visitSet(instruction);
-                break;
-
-            case "write":
-                visitWrite(instruction);
-                break;
-
-            case "read":
-                visitRead(instruction);
-                break;
-
-            case "jump":
-                visitJump(instruction);
-                break;
-
-            case "op":
-                visitOp(instruction);
-                break;
-
-            case "ucontrol":
-                visitUcontrol(instruction);
-                break;
-
-            case "sensor":
-                visitSensor(instruction);
-                break;
-
-            case "ubind":
-                visitUbind(instruction);
-                break;
-
-            case "control":
-                visitControl(instruction);
-                break;
+    private void read(int index, int position) {
+        if (readCount == readSymbols.length) {
+            readSymbols = Arrays.copyOf(readSymbols, readCount * 2);
+        }
 
-            case "getlink":
-                visitGetlink(instruction);
-                break;
+        readSymbols[readCount++] = program.arg(index, position);
+    }
 
-            case "print":
-                visitPrint(instruction);
-                break;
+    private void addWrite(int index, int position) {
+        if (writeCount == writeInstructions.length) {
+            writeInstructions = Arrays.copyOf(writeInstructions, writeCount * 2);
+            writeSymbols = Arrays.copyOf(writeSymbols, writeCount * 2);
+        }
 
-            case "printflush":
-                visitPrintflush(instruction);
-                break;
+        writeInstructions[writeCount] = index;
+        writeSymbols[writeCount] = program.arg(index, position);
+        writeCount++;
+    }
 
-            case "ulocate":
-                visitUlocate(instruction);
+    private void examineInstruction(int index) {
+        switch (program.opcode(index)) {
+            case UCONTROL:
+                visitUcontrol(index);
                 break;
 
-            case "uradar":
-                visitUradar(instruction);
+            case ULOCATE:
+                visitUlocate(index);
                 break;
 
-            case "draw":
-                visitDraw(instruction);
+            // These don't follow their operand roles: changing them would change which instructions get eliminated
+            case CONTROL:
+                visitControl(index);
                 break;
 
-            case "drawflush":
-                visitDrawflush(instruction);
+            case GETLINK:
+                visitGetlink(index);
                 break;
 
-            case "label":
-            case "end":
-                // These don't have useful args
+            case URADAR:
+                visitUradar(index);
                 break;
 
             default:
-                throw new GenerationException("Unvisited opcode [" + instruction.getOpcode() + "]");
+                visitOperands(index);
+                break;
         }
     }
 
-    private void visitDrawflush(LogicInstruction instruction) {
-        reads.add(instruction.getArgs().get(0));
-    }
+    private void visitOperands(int index) {
+        final List<Opcode.Role> roles = program.opcode(index).getRoles();
+        final int count = Math.min(roles.size(), program.argCount(index));
+        for (int i = 0; i < count; i++) {
+            switch (roles.get(i)) {
+                case IN:
+                    read(index, i);
+                    break;
+
+                case OUT:
+                    addWrite(index, i);
+                    break;
 
-    private void visitDraw(LogicInstruction instruction) {
-        reads.addAll(instruction.getArgs().subList(1, instruction.getArgs().size()));
+                default:
+                    // Labels and keywords aren't variables
+                    break;
+            }
+        }
     }
 
-    private void visitUradar(LogicInstruction instruction) {
+    private void visitUradar(int index) {
         // uradar enemy attacker ground armor 0 order result
-        reads.addAll(instruction.getArgs().subList(0, 5));
-        addWrite(instruction, 6);
+        for (int i = 0; i < 5; i++) {
+            read(index, i);
+        }
+        addWrite(index, 6);
     }
 
-    private void visitUlocate(LogicInstruction instruction) {
+    private void visitUlocate(int index) {
         /*
             found = ulocate(ore, @surge-alloy, outx, outy)
                     ulocate ore core true @surge-alloy outx outy found building
@@ -162,26 +196,26 @@ class DeadCodeEliminator implements LogicInstructionPipeline {
             found = ulocate(damaged, outx, outy, outbuilding)
                     ulocate damaged core true @copper outx outy found building
          */
-        switch (instruction.getArgs().get(0)) {
+        switch (program.argName(index, 0)) {
             case "ore":
-                visitUlocateOre(instruction);
+                visitUlocateOre(index);
                 break;
 
             case "building":
-                visitUlocateBuilding(instruction);
+                visitUlocateBuilding(index);
                 break;
 
             case "spawn":
-                visitUlocateSpawn(instruction);
+                visitUlocateSpawn(index);
                 break;
 
             case "damaged":
-                visitUlocateDamaged(instruction);
+                visitUlocateDamaged(index);
                 break;
         }
     }
 
-    private void visitUlocateDamaged(LogicInstruction instruction) {
+    private void visitUlocateDamaged(int index) {
         /*
             found = ulocate(damaged, outx, outy, outbuilding)
                     ulocate damaged core true @copper outx outy found building
@@ -195,164 +229,118 @@ class DeadCodeEliminator implements LogicInstructionPipeline {
         //
         // If we do naïve deadcode elimination, if 4, 5 and 6 aren't used by the written code, the whole instruction
         // will be eliminated.
-        addWrite(instruction, 4);
-        addWrite(instruction, 5);
-        addWrite(instruction, 6);
-        reads.add(instruction.getArgs().get(4));
-        reads.add(instruction.getArgs().get(5));
-        reads.add(instruction.getArgs().get(6));
+        addWrite(index, 4);
+        addWrite(index, 5);
+        addWrite(index, 6);
+        read(index, 4);
+        read(index, 5);
+        read(index, 6);
     }
 
-    private void visitUlocateSpawn(LogicInstruction instruction) {
+    private void visitUlocateSpawn(int index) {
         /*
             found = ulocate(spawn, outx, outy, outbuilding)
                     ulocate spawn core true @copper outx outy found building
          */
-        addWrite(instruction, 4);
-        addWrite(instruction, 5);
-        addWrite(instruction, 6);
-        reads.add(instruction.getArgs().get(4));
-        reads.add(instruction.getArgs().get(5));
-        reads.add(instruction.getArgs().get(6));
-        reads.add(instruction.getArgs().get(7));
+        addWrite(index, 4);
+        addWrite(index, 5);
+        addWrite(index, 6);
+        read(index, 4);
+        read(index, 5);
+        read(index, 6);
+        read(index, 7);
     }
 
-    private void visitUlocateBuilding(LogicInstruction instruction) {
+    private void visitUlocateBuilding(int index) {
         /*
             found = ulocate(building, core, ENEMY, outx, outy, outbuilding)
                     ulocate building core true @copper outx outy found building
          */
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
-        addWrite(instruction, 4);
-        addWrite(instruction, 5);
-        addWrite(instruction, 7);
-        reads.add(instruction.getArgs().get(4));
-        reads.add(instruction.getArgs().get(5));
-        reads.add(instruction.getArgs().get(7));
+        read(index, 1);
+        read(index, 2);
+        addWrite(index, 4);
+        addWrite(index, 5);
+        addWrite(index, 7);
+        read(index, 4);
+        read(index, 5);
+        read(index, 7);
     }
 
-    private void visitUlocateOre(LogicInstruction instruction) {
+    private void visitUlocateOre(int index) {
         /*
             found = ulocate(ore, @surge-alloy, outx, outy)
                     ulocate ore core true @surge-alloy outx outy found building
          */
-        reads.add(instruction.getArgs().get(3));
-        addWrite(instruction, 4);
-        addWrite(instruction, 5);
-        reads.add(instruction.getArgs().get(4));
-        reads.add(instruction.getArgs().get(5));
-    }
-
-    private void visitPrintflush(LogicInstruction instruction) {
-        reads.add(instruction.getArgs().get(0));
-    }
-
-    private void visitPrint(LogicInstruction instruction) {
-        reads.add(instruction.getArgs().get(0));
+        read(index, 3);
+        addWrite(index, 4);
+        addWrite(index, 5);
+        read(index, 4);
+        read(index, 5);
     }
 
-    private void visitGetlink(LogicInstruction instruction) {
-        reads.add(instruction.getArgs().get(0));
+    private void visitGetlink(int index) {
+        read(index, 0);
     }
 
-    private void visitControl(LogicInstruction instruction) {
-        reads.addAll(instruction.getArgs());
-    }
-
-    private void visitUbind(LogicInstruction instruction) {
-        // ubind type
-        reads.add(instruction.getArgs().get(0));
-    }
-
-    private void visitSensor(LogicInstruction instruction) {
-        // sensor out target property
-        addWrite(instruction, 0);
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
-    }
-
-    private void visitSet(LogicInstruction instruction) {
-        addWrite(instruction, 0);
-        reads.add(instruction.getArgs().get(1));
-    }
-
-    private void visitWrite(LogicInstruction instruction) {
-        reads.add(instruction.getArgs().get(0));
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
-    }
-
-    private void visitRead(LogicInstruction instruction) {
-        addWrite(instruction, 0);
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
-    }
-
-    private void visitJump(LogicInstruction instruction) {
-        if (instruction.getArgs().size() > 2) reads.add(instruction.getArgs().get(2));
-        if (instruction.getArgs().size() > 3) reads.add(instruction.getArgs().get(3));
-    }
-
-    private void visitOp(LogicInstruction instruction) {
-        addWrite(instruction, 1);
-        if (instruction.getArgs().size() > 2) reads.add(instruction.getArgs().get(2));
-        if (instruction.getArgs().size() > 3) reads.add(instruction.getArgs().get(3));
+    private void visitControl(int index) {
+        for (int i = 0; i < program.argCount(index); i++) {
+            read(index, i);
+        }
     }
 
-    private void visitUcontrol(LogicInstruction instruction) {
-        switch (instruction.getArgs().get(0)) {
+    private void visitUcontrol(int index) {
+        switch (program.argName(index, 0)) {
             case "mine":
-                visitUcontrolMine(instruction);
+                visitUcontrolMine(index);
                 break;
 
             case "move":
-                visitUcontrolMove(instruction);
+                visitUcontrolMove(index);
                 break;
 
             case "approach":
-                visitUcontrolApproach(instruction);
+                visitUcontrolApproach(index);
                 break;
 
             case "within":
-                visitUcontrolWithin(instruction);
+                visitUcontrolWithin(index);
                 break;
 
             case "getBlock":
-                visitUcontrolGetBlock(instruction);
+                visitUcontrolGetBlock(index);
                 break;
 
             case "build":
-                visitUcontrolBuild(instruction);
+                visitUcontrolBuild(index);
                 break;
 
             case "flag":
-                visitUcontrolFlag(instruction);
+                visitUcontrolFlag(index);
                 break;
 
             case "itemDrop":
-                visitUcontrolItemDrop(instruction);
+                visitUcontrolItemDrop(index);
                 break;
 
 
             case "target":
-                visitTarget(instruction);
+                visitTarget(index);
                 break;
 
             case "targetp":
-                visitTargetp(instruction);
+                visitTargetp(index);
                 break;
 
             case "itemTake":
-                visitUcontrolItemTake(instruction);
+                visitUcontrolItemTake(index);
                 break;
 
             case "payTake":
-                visitUcontrolPayTake(instruction);
+                visitUcontrolPayTake(index);
                 break;
 
             case "boost":
-                visitUcontrolBoost(instruction);
+                visitUcontrolBoost(index);
                 break;
 
             case "payDrop":
@@ -363,87 +351,87 @@ class DeadCodeEliminator implements LogicInstructionPipeline {
                 break;
 
             default:
-                throw new GenerationException("Unknown ucontrol opcode [" + instruction.getArgs().get(0) + "]");
+                throw new GenerationException("Unknown ucontrol opcode [" + program.argName(index, 0) + "]");
         }
     }
 
-    private void visitUcontrolBoost(LogicInstruction instruction) {
-        reads.add(instruction.getArgs().get(1));
+    private void visitUcontrolBoost(int index) {
+        read(index, 1);
     }
 
-    private void visitUcontrolPayTake(LogicInstruction instruction) {
-        reads.add(instruction.getArgs().get(1));
+    private void visitUcontrolPayTake(int index) {
+        read(index, 1);
     }
 
-    private void visitTargetp(LogicInstruction instruction) {
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
+    private void visitTargetp(int index) {
+        read(index, 1);
+        read(index, 2);
     }
 
-    private void visitTarget(LogicInstruction instruction) {
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
-        reads.add(instruction.getArgs().get(3));
+    private void visitTarget(int index) {
+        read(index, 1);
+        read(index, 2);
+        read(index, 3);
     }
 
-    private void visitUcontrolMine(LogicInstruction instruction) {
+    private void visitUcontrolMine(int index) {
         // ucontrol mine x y
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
+        read(index, 1);
+        read(index, 2);
     }
 
-    private void visitUcontrolMove(LogicInstruction instruction) {
+    private void visitUcontrolMove(int index) {
         // ucontrol move x y
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
+        read(index, 1);
+        read(index, 2);
     }
 
-    private void visitUcontrolApproach(LogicInstruction instruction) {
+    private void visitUcontrolApproach(int index) {
         // ucontrol approach x y radius
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
-        reads.add(instruction.getArgs().get(3));
+        read(index, 1);
+        read(index, 2);
+        read(index, 3);
     }
 
-    private void visitUcontrolWithin(LogicInstruction instruction) {
+    private void visitUcontrolWithin(int index) {
         // ucontrol within x y radius
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
-        reads.add(instruction.getArgs().get(3));
+        read(index, 1);
+        read(index, 2);
+        read(index, 3);
     }
 
-    private void visitUcontrolGetBlock(LogicInstruction instruction) {
+    private void visitUcontrolGetBlock(int index) {
         // ucontrol getBlock x y resultType resultBuilding
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
-        addWrite(instruction, 3);
-        addWrite(instruction, 4);
+        read(index, 1);
+        read(index, 2);
+        addWrite(index, 3);
+        addWrite(index, 4);
     }
 
-    private void visitUcontrolBuild(LogicInstruction instruction) {
+    private void visitUcontrolBuild(int index) {
         // ucontrol build x y block rotation config
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
-        reads.add(instruction.getArgs().get(3));
-        reads.add(instruction.getArgs().get(4));
+        read(index, 1);
+        read(index, 2);
+        read(index, 3);
+        read(index, 4);
     }
 
-    private void visitUcontrolFlag(LogicInstruction instruction) {
+    private void visitUcontrolFlag(int index) {
         // ucontrol flag value
-        reads.add(instruction.getArgs().get(1));
+        read(index, 1);
     }
 
-    private void visitUcontrolItemDrop(LogicInstruction instruction) {
+    private void visitUcontrolItemDrop(int index) {
         // ucontrol itemDrop to amount
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
+        read(index, 1);
+        read(index, 2);
     }
 
-    private void visitUcontrolItemTake(LogicInstruction instruction) {
+    private void visitUcontrolItemTake(int index) {
         // ucontrol itemTake from item amount
-        reads.add(instruction.getArgs().get(1));
-        reads.add(instruction.getArgs().get(2));
-        reads.add(instruction.getArgs().get(3));
+        read(index, 1);
+        read(index, 2);
+        read(index, 3);
     }
 
 }
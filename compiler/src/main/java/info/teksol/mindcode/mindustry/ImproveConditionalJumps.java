@@ -67,7 +67,7 @@ public class ImproveConditionalJumps implements LogicInstructionPipeline {
 
         next.emit(
                 new LogicInstruction(
-                        "jump",
+                        Opcode.JUMP,
                         instruction.getArgs().get(0),
                         inverses.get(previous.getArgs().get(0)),
                         previous.getArgs().get(2),
@@ -0,0 +1,115 @@
+package info.teksol.mindcode.mindustry;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Holds a whole program in a few primitive arrays rather than as one object and one list per instruction: the opcode
+ * of each instruction, where its operands start, and the operands themselves as {@link SymbolTable} ids.
+ * <p>
+ * Passes address instructions by index and rewrite operands or remove instructions in place. Removed instructions
+ * keep their index until the buffer is emitted. Instructions that were never rewritten are emitted as the very
+ * objects that were added, so a pass only allocates for what it changes.
+ */
+class InstructionBuffer {
+    private static final Opcode[] OPCODES = Opcode.values();
+    private static final int REMOVED = -1;
+
+    private final SymbolTable symbols = new SymbolTable();
+
+    private int size;
+    private int[] opcodes = new int[256];
+    private int[] operandStarts = new int[257];
+    private int[] operands = new int[1024];
+    private LogicInstruction[] originals = new LogicInstruction[256];
+
+    void add(LogicInstruction instruction) {
+        if (size == opcodes.length) {
+            opcodes = Arrays.copyOf(opcodes, size * 2);
+            operandStarts = Arrays.copyOf(operandStarts, size * 2 + 1);
+            originals = Arrays.copyOf(originals, size * 2);
+        }
+
+        final int start = operandStarts[size];
+        final int end = start + instruction.getArgs().size();
+        if (end > operands.length) {
+            operands = Arrays.copyOf(operands, Math.max(end, operands.length * 2));
+        }
+
+        for (int i = start; i < end; i++) {
+            operands[i] = symbols.id(instruction.getArgs().get(i - start));
+        }
+
+        opcodes[size] = instruction.getOpcode().ordinal();
+        originals[size] = instruction;
+        operandStarts[++size] = end;
+    }
+
+    SymbolTable getSymbols() {
+        return symbols;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isRemoved(int index) {
+        return opcodes[Objects.checkIndex(index, size)] == REMOVED;
+    }
+
+    void remove(int index) {
+        opcodes[Objects.checkIndex(index, size)] = REMOVED;
+        originals[index] = null;
+    }
+
+    Opcode opcode(int index) {
+        final int opcode = opcodes[Objects.checkIndex(index, size)];
+        if (opcode == REMOVED) {
+            throw new IllegalStateException("Instruction " + index + " was removed");
+        }
+
+        return OPCODES[opcode];
+    }
+
+    int argCount(int index) {
+        return operandStarts[Objects.checkIndex(index, size) + 1] - operandStarts[index];
+    }
+
+    /**
+     * @return the {@link SymbolTable} id of an operand
+     */
+    int arg(int index, int position) {
+        return operands[operandStarts[index] + Objects.checkIndex(position, argCount(index))];
+    }
+
+    String argName(int index, int position) {
+        return symbols.name(arg(index, position));
+    }
+
+    void setArg(int index, int position, int symbol) {
+        operands[operandStarts[index] + Objects.checkIndex(position, argCount(index))] = symbol;
+        originals[index] = null;
+    }
+
+    /**
+     * Emits every instruction that wasn't removed, in order, and empties the buffer.
+     */
+    void emitTo(LogicInstructionPipeline next) {
+        for (int i = 0; i < size; i++) {
+            if (opcodes[i] == REMOVED) continue;
+            next.emit(originals[i] != null ? originals[i] : rebuild(i));
+        }
+
+        Arrays.fill(originals, 0, size, null);
+        size = 0;
+    }
+
+    private LogicInstruction rebuild(int index) {
+        final String[] args = new String[argCount(index)];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = argName(index, i);
+        }
+
+        return new LogicInstruction(OPCODES[opcodes[index]], args);
+    }
+}
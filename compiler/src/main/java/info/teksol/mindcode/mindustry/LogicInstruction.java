@@ -4,63 +4,75 @@ import java.util.List;
 import java.util.Objects;
 
 public class LogicInstruction {
-    private final String opcode;
+    private final Opcode opcode;
     private final List<String> args;
 
     public LogicInstruction(String opcode) {
-        this(opcode, List.of());
+        this(Opcode.fromMnemonic(opcode));
     }
 
     public LogicInstruction(String opcode, String... args) {
-        this(opcode, List.of(args));
+        this(Opcode.fromMnemonic(opcode), args);
     }
 
     public LogicInstruction(String opcode, List<String> args) {
+        this(Opcode.fromMnemonic(opcode), args);
+    }
+
+    public LogicInstruction(Opcode opcode) {
+        this(opcode, List.of());
+    }
+
+    public LogicInstruction(Opcode opcode, String... args) {
+        this(opcode, List.of(args));
+    }
+
+    public LogicInstruction(Opcode opcode, List<String> args) {
         this.opcode = opcode;
         this.args = args;
     }
 
     public boolean isWrite() {
-        return opcode.equals("write");
+        return opcode == Opcode.WRITE;
     }
 
     public boolean isPrint() {
-        return opcode.equals("print");
+        return opcode == Opcode.PRINT;
     }
 
     public boolean isJump() {
-        return opcode.equals("jump");
+        return opcode == Opcode.JUMP;
     }
 
     public boolean isSet() {
-        return opcode.equals("set");
+        return opcode == Opcode.SET;
     }
 
     public boolean isOp() {
-        return opcode.equals("op");
+        return opcode == Opcode.OP;
     }
 
     public boolean isRead() {
-        return opcode.equals("read");
+        return opcode == Opcode.READ;
     }
 
     public boolean isUControl() {
-        return opcode.equals("ucontrol");
+        return opcode == Opcode.UCONTROL;
     }
 
     public boolean isLabel() {
-        return opcode.equals("label");
+        return opcode == Opcode.LABEL;
     }
 
     public boolean isGetlink() {
-        return opcode.equals("getlink");
+        return opcode == Opcode.GETLINK;
     }
 
     public boolean isSensor() {
-        return opcode.equals("sensor");
+        return opcode == Opcode.SENSOR;
     }
 
-    public String getOpcode() {
+    public Opcode getOpcode() {
         return opcode;
     }
 
@@ -73,7 +85,7 @@ public class LogicInstruction {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         LogicInstruction that = (LogicInstruction) o;
-        return Objects.equals(opcode, that.opcode) &&
+        return opcode == that.opcode &&
                 Objects.equals(args, that.args);
     }
 
@@ -85,7 +97,7 @@ public class LogicInstruction {
     @Override
     public String toString() {
         return "LogicInstruction{" +
-                "opcode='" + opcode + '\'' +
+                "opcode='" + opcode.getMnemonic() + '\'' +
                 ", args=" + args +
                 '}';
     }
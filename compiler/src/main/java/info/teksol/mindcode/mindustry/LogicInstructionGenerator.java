@@ -1,8 +1,11 @@
 package info.teksol.mindcode.mindustry;
 
+import info.teksol.mindcode.CompilationCancelledException;
+import info.teksol.mindcode.CompilationObserver;
 import info.teksol.mindcode.ast.*;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -12,6 +15,24 @@ import java.util.stream.Collectors;
  */
 public class LogicInstructionGenerator extends BaseAstVisitor<String> {
     static final String TMP_PREFIX = "__tmp";
+    static final String LABEL_PREFIX = "__label";
+
+    // The optimizing pipeline, in the order instructions flow through it: the generator emits into the first stage
+    private static final List<Function<LogicInstructionPipeline, LogicInstructionPipeline>> OPTIMIZERS = List.of(
+            ConstantFolder::new,
+            CommonSubexpressionEliminator::new,
+            DeadCodeEliminator::new,
+            OptimizeSensorThenSet::new,
+            OptimizeOpThenSet::new,
+            OptimizeSetThenWrite::new,
+            OptimizeReadThenSet::new,
+            OptimizeSetThenRead::new,
+            OptimizeSetThenOp::new,
+            OptimizeSetThenSet::new,
+            OptimizeSetThenPrint::new,
+            OptimizeGetlinkThenSet::new,
+            ImproveConditionalJumps::new
+    );
 
     private final LogicInstructionPipeline pipeline;
     private int tmp;
@@ -20,40 +41,52 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
     private Map<String, FunctionDeclaration> declaredFunctions = new HashMap<>();
     private Map<String, String> functionLabels = new HashMap<>();
 
+    // Operands that spell the same name share a single String, so that later passes compare them by reference
+    private final Map<String, String> symbols = new HashMap<>();
+
     LogicInstructionGenerator(LogicInstructionPipeline pipeline) {
         this.pipeline = pipeline;
     }
 
     public static List<LogicInstruction> generateAndOptimize(Seq program) {
         final AccumulatingLogicInstructionPipeline terminus = new AccumulatingLogicInstructionPipeline();
-        final LogicInstructionPipeline pipeline =
-                new DeadCodeEliminator(
-                        new OptimizeSensorThenSet(
-                                new OptimizeOpThenSet(
-                                        new OptimizeSetThenWrite(
-                                                new OptimizeReadThenSet(
-                                                        new OptimizeSetThenRead(
-                                                                new OptimizeSetThenOp(
-                                                                        new OptimizeSetThenSet(
-                                                                                new OptimizeSetThenPrint(
-                                                                                        new OptimizeGetlinkThenSet(
-                                                                                                new ImproveConditionalJumps(
-                                                                                                        terminus
-                                                                                                )
-                                                                                        )
-                                                                                )
-                                                                        )
-                                                                )
-                                                        )
-                                                )
-                                        )
-                                )
-                        )
-                );
+        LogicInstructionPipeline pipeline = terminus;
+        for (int i = OPTIMIZERS.size() - 1; i >= 0; i--) {
+            pipeline = OPTIMIZERS.get(i).apply(pipeline);
+        }
 
-        LogicInstructionGenerator generator = new LogicInstructionGenerator(pipeline);
-        generator.start(program);
-        pipeline.flush();
+        generateInto(pipeline, program);
+
+        return terminus.getResult();
+    }
+
+    /**
+     * Generates and optimizes the program, reporting the time spent generating, and in each optimizing stage.
+     */
+    public static List<LogicInstruction> generateAndOptimize(Seq program, CompilationObserver observer) {
+        if (observer == CompilationObserver.NONE) return generateAndOptimize(program);
+
+        final AccumulatingLogicInstructionPipeline terminus = new AccumulatingLogicInstructionPipeline();
+
+        // stages[i] wraps the i-th optimizer; the last one wraps the terminus, so that it counts what the last
+        // optimizer emits, and accounts for the little time the terminus takes
+        final TimedLogicInstructionPipeline[] stages = new TimedLogicInstructionPipeline[OPTIMIZERS.size() + 1];
+        stages[OPTIMIZERS.size()] = new TimedLogicInstructionPipeline(terminus);
+        for (int i = OPTIMIZERS.size() - 1; i >= 0; i--) {
+            stages[i] = new TimedLogicInstructionPipeline(OPTIMIZERS.get(i).apply(stages[i + 1]));
+        }
+
+        final long start = System.nanoTime();
+        generateInto(stages[0], program);
+        final long elapsed = System.nanoTime() - start;
+
+        observer.phaseCompleted("generate", elapsed - stages[0].getElapsedNanos(), -1, stages[0].getReceived());
+        for (int i = 0; i < OPTIMIZERS.size(); i++) {
+            observer.phaseCompleted(stages[i].getPhase(),
+                    stages[i].getElapsedNanos() - stages[i + 1].getElapsedNanos(),
+                    stages[i].getReceived(),
+                    stages[i + 1].getReceived());
+        }
 
         return terminus.getResult();
     }
@@ -74,6 +107,18 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
         return terminus.getResult();
     }
 
+    /**
+     * Runs the dead code eliminator alone over a program, such as the output of {@link #generateUnoptimized(Seq)}.
+     */
+    public static List<LogicInstruction> eliminateDeadCode(List<LogicInstruction> program) {
+        final AccumulatingLogicInstructionPipeline terminus = new AccumulatingLogicInstructionPipeline();
+        final DeadCodeEliminator eliminator = new DeadCodeEliminator(terminus);
+        program.forEach(eliminator::emit);
+        eliminator.flush();
+
+        return terminus.getResult();
+    }
+
     private void start(Seq program) {
         visit(program);
         appendFunctionDeclarations();
@@ -82,10 +127,10 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
     private void appendFunctionDeclarations() {
         // TODO: pass parameters through local variables? This would save a ton of instructions when going through the stack
 
-        pipeline.emit(new LogicInstruction("end"));
+        emit(Opcode.END);
         for (Map.Entry<String, FunctionDeclaration> pair : declaredFunctions.entrySet()) {
             final String label = functionLabels.get(pair.getKey());
-            pipeline.emit(new LogicInstruction("label", label));
+            emit(Opcode.LABEL, label);
             // caller pushes arguments left-to-right
             // we have to pop right-to-left, hence the reverse iteration here
             final ListIterator<AstNode> iterator = pair.getValue().getParams().listIterator(pair.getValue().getParams().size());
@@ -100,17 +145,27 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
             final String returnAddress = nextTemp();
             popValueFromStack(returnAddress);
             pushValueOnStack(body);
-            pipeline.emit(new LogicInstruction("set", "@counter", returnAddress));
-            pipeline.emit(new LogicInstruction("end"));
+            emit(Opcode.SET, "@counter", returnAddress);
+            emit(Opcode.END);
         }
 
     }
 
+    private void emit(Opcode opcode, String... args) {
+        CompilationCancelledException.throwIfInterrupted();
+        for (int i = 0; i < args.length; i++) {
+            final String symbol = symbols.putIfAbsent(args[i], args[i]);
+            if (symbol != null) args[i] = symbol;
+        }
+
+        pipeline.emit(new LogicInstruction(opcode, args));
+    }
+
     @Override
     public String visitHeapAccess(HeapAccess node) {
         final String addr = visit(node.getAddress());
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("read", tmp, node.getCellName(), addr));
+        emit(Opcode.READ, tmp, node.getCellName(), addr);
         return tmp;
     }
 
@@ -122,24 +177,28 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
         final String elseBranch = nextLabel();
         final String endBranch = nextLabel();
 
-        pipeline.emit(new LogicInstruction("jump", elseBranch, "notEqual", cond, "true"));
+        emit(Opcode.JUMP, elseBranch, "notEqual", cond, "true");
 
         final String trueBranch = visit(node.getTrueBranch());
-        pipeline.emit(new LogicInstruction("set", tmp, trueBranch));
-        pipeline.emit(new LogicInstruction("jump", endBranch, "always"));
+        emit(Opcode.SET, tmp, trueBranch);
+        emit(Opcode.JUMP, endBranch, "always");
 
-        pipeline.emit(new LogicInstruction("label", elseBranch));
+        emit(Opcode.LABEL, elseBranch);
         final String falseBranch = visit(node.getFalseBranch());
-        pipeline.emit(new LogicInstruction("set", tmp, falseBranch));
-        pipeline.emit(new LogicInstruction("label", endBranch));
+        emit(Opcode.SET, tmp, falseBranch);
+        emit(Opcode.LABEL, endBranch);
 
         return tmp;
     }
 
     @Override
     public String visitSeq(Seq seq) {
-        visit(seq.getRest());
-        return visit(seq.getLast());
+        String result = "null";
+        for (AstNode node : seq.getExpressions()) {
+            result = visit(node);
+        }
+
+        return result;
     }
 
     @Override
@@ -154,16 +213,16 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
         if (node.getVar() instanceof HeapAccess) {
             final HeapAccess heapAccess = (HeapAccess) node.getVar();
             final String address = visit(heapAccess.getAddress());
-            pipeline.emit(new LogicInstruction("write", rvalue, heapAccess.getCellName(), address));
+            emit(Opcode.WRITE, rvalue, heapAccess.getCellName(), address);
         } else if (node.getVar() instanceof PropertyAccess) {
             final PropertyAccess propertyAccess = (PropertyAccess) node.getVar();
             final String propTarget = visit(propertyAccess.getTarget());
             String prop = visit(propertyAccess.getProperty());
             if (prop.startsWith("@")) prop = prop.replaceFirst("@", "");
-            pipeline.emit(new LogicInstruction("control", prop, propTarget, rvalue));
+            emit(Opcode.CONTROL, prop, propTarget, rvalue);
         } else if (node.getVar() instanceof VarRef) {
             final String target = visit(node.getVar());
-            pipeline.emit(new LogicInstruction("set", List.of(target, rvalue)));
+            emit(Opcode.SET, target, rvalue);
         } else {
             throw new GenerationException("Unhandled assignment target in " + node);
         }
@@ -176,7 +235,7 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
         final String expression = visit(node.getExpression());
 
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("op", List.of(translateUnaryOpToCode(node.getOp()), tmp, expression)));
+        emit(Opcode.OP, translateUnaryOpToCode(node.getOp()), tmp, expression);
         return tmp;
     }
 
@@ -185,12 +244,12 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
 
         final String condLabel = nextLabel();
         final String doneLabel = nextLabel();
-        pipeline.emit(new LogicInstruction("label", List.of(condLabel)));
+        emit(Opcode.LABEL, condLabel);
         final String cond = visit(node.getCondition());
-        pipeline.emit(new LogicInstruction("jump", List.of(doneLabel, "notEqual", cond, "true")));
+        emit(Opcode.JUMP, doneLabel, "notEqual", cond, "true");
         visit(node.getBody());
-        pipeline.emit(new LogicInstruction("jump", List.of(condLabel, "always")));
-        pipeline.emit(new LogicInstruction("label", List.of(doneLabel)));
+        emit(Opcode.JUMP, condLabel, "always");
+        emit(Opcode.LABEL, doneLabel);
 
         return "null";
     }
@@ -351,43 +410,43 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
 
     private String handleNoise(List<String> params) {
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("op", "noise", tmp, params.get(0), params.get(1)));
+        emit(Opcode.OP, "noise", tmp, params.get(0), params.get(1));
         return tmp;
     }
 
     private String handleLog10(List<String> params) {
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("op", "log10", tmp, params.get(0)));
+        emit(Opcode.OP, "log10", tmp, params.get(0));
         return tmp;
     }
 
     private String handleAngle(List<String> params) {
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("op", "angle", tmp, params.get(0), params.get(1)));
+        emit(Opcode.OP, "angle", tmp, params.get(0), params.get(1));
         return tmp;
     }
 
     private String handleLen(List<String> params) {
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("op", "len", tmp, params.get(0), params.get(1)));
+        emit(Opcode.OP, "len", tmp, params.get(0), params.get(1));
         return tmp;
     }
 
     private String handleMax(List<String> params) {
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("op", "max", tmp, params.get(0), params.get(1)));
+        emit(Opcode.OP, "max", tmp, params.get(0), params.get(1));
         return tmp;
     }
 
     private String handleMin(List<String> params) {
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("op", "min", tmp, params.get(0), params.get(1)));
+        emit(Opcode.OP, "min", tmp, params.get(0), params.get(1));
         return tmp;
     }
 
     private String handleSqrt(List<String> params) {
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("op", "sqrt", tmp, params.get(0)));
+        emit(Opcode.OP, "sqrt", tmp, params.get(0));
         return tmp;
     }
 
@@ -401,8 +460,8 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
         for (final String param : params) {
             pushValueOnStack(param);
         }
-        pipeline.emit(new LogicInstruction("set", "@counter", functionLabels.get(functionName))); // actually call function
-        pipeline.emit(new LogicInstruction("label", returnLabel)); // where the function must return
+        emit(Opcode.SET, "@counter", functionLabels.get(functionName)); // actually call function
+        emit(Opcode.LABEL, returnLabel); // where the function must return
 
         final String returnValue = nextTemp();
         popValueFromStack(returnValue);
@@ -413,14 +472,11 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
         final String stackPointer = nextTemp();
         visit(
                 new Seq(
-                        new Seq(
-                                new Assignment(new VarRef(stackPointer), new HeapAccess(stackName(), new NumericLiteral(stackTop()))),
-                                new Assignment(new VarRef(stackPointer), new BinaryOp(new VarRef(stackPointer), "-", new NumericLiteral(1)))
-                        ), // if we checked for stack overflows, this is where we'd do it
-                        new Seq(
-                                new Assignment(new HeapAccess(stackName(), new VarRef(stackPointer)), new VarRef(value)),
-                                new Assignment(new HeapAccess(stackName(), new NumericLiteral(stackTop())), new VarRef(stackPointer))
-                        )
+                        new Assignment(new VarRef(stackPointer), new HeapAccess(stackName(), new NumericLiteral(stackTop()))),
+                        new Assignment(new VarRef(stackPointer), new BinaryOp(new VarRef(stackPointer), "-", new NumericLiteral(1))),
+                        // if we checked for stack overflows, this is where we'd do it
+                        new Assignment(new HeapAccess(stackName(), new VarRef(stackPointer)), new VarRef(value)),
+                        new Assignment(new HeapAccess(stackName(), new NumericLiteral(stackTop())), new VarRef(stackPointer))
                 )
         );
     }
@@ -429,14 +485,11 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
         final String stackPointer = nextTemp();
         visit(
                 new Seq(
-                        new Seq(
-                                new Assignment(new VarRef(stackPointer), new HeapAccess(stackName(), new NumericLiteral(stackTop()))),
-                                new Assignment(new VarRef(value), new HeapAccess(stackName(), new VarRef(stackPointer)))
-                        ), // if we checked for stack underflow, this is where we'd do it
-                        new Seq(
-                                new Assignment(new VarRef(stackPointer), new BinaryOp(new VarRef(stackPointer), "+", new NumericLiteral(1))),
-                                new Assignment(new HeapAccess(stackName(), new NumericLiteral(stackTop())), new VarRef(stackPointer))
-                        )
+                        new Assignment(new VarRef(stackPointer), new HeapAccess(stackName(), new NumericLiteral(stackTop()))),
+                        new Assignment(new VarRef(value), new HeapAccess(stackName(), new VarRef(stackPointer))),
+                        // if we checked for stack underflow, this is where we'd do it
+                        new Assignment(new VarRef(stackPointer), new BinaryOp(new VarRef(stackPointer), "+", new NumericLiteral(1))),
+                        new Assignment(new HeapAccess(stackName(), new NumericLiteral(stackTop())), new VarRef(stackPointer))
                 )
         );
     }
@@ -450,7 +503,7 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
     }
 
     private String handleEnd() {
-        pipeline.emit(new LogicInstruction("end"));
+        emit(Opcode.END);
         return "null";
     }
 
@@ -475,14 +528,14 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
                     throw new InsufficientArgumentsException("ulocate(ore) requires 4 arguments, received " + params.size());
                 }
 
-                pipeline.emit(new LogicInstruction("ulocate", "ore", "core", "true", params.get(1), params.get(2), params.get(3), tmp, nextTemp()));
+                emit(Opcode.ULOCATE, "ore", "core", "true", params.get(1), params.get(2), params.get(3), tmp, nextTemp());
                 break;
             case "building":
                 if (params.size() < 6) {
                     throw new InsufficientArgumentsException("ulocate(building) requires 6 arguments, received " + params.size());
                 }
 
-                pipeline.emit(new LogicInstruction("ulocate", "building", params.get(1), params.get(2), "@copper", params.get(3), params.get(4), tmp, params.get(5)));
+                emit(Opcode.ULOCATE, "building", params.get(1), params.get(2), "@copper", params.get(3), params.get(4), tmp, params.get(5));
                 break;
 
             case "spawn":
@@ -490,7 +543,7 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
                     throw new InsufficientArgumentsException("ulocate(spawn) requires 4 arguments, received " + params.size());
                 }
 
-                pipeline.emit(new LogicInstruction("ulocate", "spawn", "core", "true", "@copper", params.get(1), params.get(2), tmp, params.get(3)));
+                emit(Opcode.ULOCATE, "spawn", "core", "true", "@copper", params.get(1), params.get(2), tmp, params.get(3));
                 break;
 
             case "damaged":
@@ -498,7 +551,7 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
                     throw new InsufficientArgumentsException("ulocate(damaged) requires 4 arguments, received " + params.size());
                 }
 
-                pipeline.emit(new LogicInstruction("ulocate", "damaged", "core", "true", "@copper", params.get(1), params.get(2), tmp, params.get(3)));
+                emit(Opcode.ULOCATE, "damaged", "core", "true", "@copper", params.get(1), params.get(2), tmp, params.get(3));
                 break;
 
             default:
@@ -511,202 +564,202 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
     private String handleURadar(List<String> params) {
         // uradar enemy attacker ground armor 0 order result
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("uradar", params.get(0), params.get(1), params.get(2), params.get(3), params.get(4), params.get(5), tmp));
+        emit(Opcode.URADAR, params.get(0), params.get(1), params.get(2), params.get(3), params.get(4), params.get(5), tmp);
         return tmp;
     }
 
     private String handleDrawflush(List<String> params) {
-        pipeline.emit(new LogicInstruction("drawflush", params.get(0)));
+        emit(Opcode.DRAWFLUSH, params.get(0));
         return params.get(0);
     }
 
     private String handleImage(List<String> params) {
-        pipeline.emit(new LogicInstruction("draw", "image", params.get(0), params.get(1), params.get(2), params.get(3), params.get(4)));
+        emit(Opcode.DRAW, "image", params.get(0), params.get(1), params.get(2), params.get(3), params.get(4));
         return "null";
     }
 
     private String handleTriangle(List<String> params) {
-        pipeline.emit(new LogicInstruction("draw", "triangle", params.get(0), params.get(1), params.get(2), params.get(3), params.get(4), params.get(5)));
+        emit(Opcode.DRAW, "triangle", params.get(0), params.get(1), params.get(2), params.get(3), params.get(4), params.get(5));
         return "null";
     }
 
     private String handleLinePoly(List<String> params) {
-        pipeline.emit(new LogicInstruction("draw", "linePoly", params.get(0), params.get(1), params.get(2), params.get(3), params.get(4)));
+        emit(Opcode.DRAW, "linePoly", params.get(0), params.get(1), params.get(2), params.get(3), params.get(4));
         return "null";
     }
 
     private String handlePoly(List<String> params) {
-        pipeline.emit(new LogicInstruction("draw", "poly", params.get(0), params.get(1), params.get(2), params.get(3), params.get(4)));
+        emit(Opcode.DRAW, "poly", params.get(0), params.get(1), params.get(2), params.get(3), params.get(4));
         return "null";
     }
 
     private String handleLineRect(List<String> params) {
-        pipeline.emit(new LogicInstruction("draw", "lineRect", params.get(0), params.get(1), params.get(2), params.get(3)));
+        emit(Opcode.DRAW, "lineRect", params.get(0), params.get(1), params.get(2), params.get(3));
         return "null";
     }
 
     private String handleRect(List<String> params) {
-        pipeline.emit(new LogicInstruction("draw", "rect", params.get(0), params.get(1), params.get(2), params.get(3)));
+        emit(Opcode.DRAW, "rect", params.get(0), params.get(1), params.get(2), params.get(3));
         return "null";
     }
 
     private String handleLine(List<String> params) {
-        pipeline.emit(new LogicInstruction("draw", "line", params.get(0), params.get(1), params.get(2), params.get(3)));
+        emit(Opcode.DRAW, "line", params.get(0), params.get(1), params.get(2), params.get(3));
         return "null";
     }
 
     private String handleStroke(List<String> params) {
-        pipeline.emit(new LogicInstruction("draw", "stroke", params.get(0)));
+        emit(Opcode.DRAW, "stroke", params.get(0));
         return "null";
     }
 
     private String handleColor(List<String> params) {
-        pipeline.emit(new LogicInstruction("draw", "color", params.get(0), params.get(1), params.get(2), params.get(3)));
+        emit(Opcode.DRAW, "color", params.get(0), params.get(1), params.get(2), params.get(3));
         return "null";
     }
 
     private String handleClear(List<String> params) {
-        pipeline.emit(new LogicInstruction("draw", "clear", params.get(0), params.get(1), params.get(2)));
+        emit(Opcode.DRAW, "clear", params.get(0), params.get(1), params.get(2));
         return "null";
     }
 
     private String handleMath(String functionName, List<String> params) {
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("op", functionName, tmp, params.get(0)));
+        emit(Opcode.OP, functionName, tmp, params.get(0));
         return tmp;
     }
 
     private String handleWithin(List<String> params) {
         // ucontrol within x y radius result 0
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("ucontrol", "within", params.get(0), params.get(1), params.get(2), tmp));
+        emit(Opcode.UCONTROL, "within", params.get(0), params.get(1), params.get(2), tmp);
         return tmp;
     }
 
     private String handleGetBlock(List<String> params) {
         // ucontrol getBlock x y resultType resultBuilding 0
         // TODO: either handle multiple return values, or provide a better abstraction over getBlock
-        pipeline.emit(new LogicInstruction("ucontrol", "getBlock", params.get(0), params.get(1), params.get(2), params.get(3)));
+        emit(Opcode.UCONTROL, "getBlock", params.get(0), params.get(1), params.get(2), params.get(3));
         return "null";
     }
 
     private String handleBuild(List<String> params) {
         // ucontrol build x y block rotation config
-        pipeline.emit(new LogicInstruction("ucontrol", "build", params.get(0), params.get(1), params.get(2), params.get(3), params.get(4)));
+        emit(Opcode.UCONTROL, "build", params.get(0), params.get(1), params.get(2), params.get(3), params.get(4));
         return "null";
     }
 
     private String handlePayTake(List<String> params) {
         // ucontrol payTake takeUnits 0 0 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "payTake", params.get(0)));
+        emit(Opcode.UCONTROL, "payTake", params.get(0));
         return "null";
     }
 
     private String handlePayDrop() {
         // ucontrol payDrop 0 0 0 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "payDrop"));
+        emit(Opcode.UCONTROL, "payDrop");
         return "null";
     }
 
     private String handleItemTake(List<String> params) {
         // ucontrol itemTake from item amount 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "itemTake", params.get(0), params.get(1), params.get(2)));
+        emit(Opcode.UCONTROL, "itemTake", params.get(0), params.get(1), params.get(2));
         return "null";
     }
 
     private String handleTargetp(List<String> params) {
         // ucontrol targetp unit shoot 0 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "targetp", params.get(0), params.get(1)));
+        emit(Opcode.UCONTROL, "targetp", params.get(0), params.get(1));
         return "null";
     }
 
     private String handleTarget(List<String> params) {
         // ucontrol target x y shoot 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "target", params.get(0), params.get(1), params.get(2)));
+        emit(Opcode.UCONTROL, "target", params.get(0), params.get(1), params.get(2));
         return "null";
     }
 
     private String handleBoost(List<String> params) {
         // ucontrol boost enable 0 0 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "boost", params.get(0)));
+        emit(Opcode.UCONTROL, "boost", params.get(0));
         return params.get(0);
     }
 
     private String handlePathfind() {
         // ucontrol pathfind 0 0 0 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "pathfind"));
+        emit(Opcode.UCONTROL, "pathfind");
         return "null";
     }
 
     private String handleIdle() {
         // ucontrol idle 0 0 0 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "idle"));
+        emit(Opcode.UCONTROL, "idle");
         return "null";
     }
 
     private String handleStop() {
         // ucontrol stop 0 0 0 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "stop"));
+        emit(Opcode.UCONTROL, "stop");
         return "null";
     }
 
     private String handleApproach(List<String> params) {
         // ucontrol approach x y radius 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "approach", params.get(0), params.get(1), params.get(2)));
+        emit(Opcode.UCONTROL, "approach", params.get(0), params.get(1), params.get(2));
         return "null";
     }
 
     private String handleFlag(List<String> params) {
         // ucontrol flag value 0 0 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "flag", params.get(0)));
+        emit(Opcode.UCONTROL, "flag", params.get(0));
         return params.get(0);
     }
 
     private String handleItemDrop(List<String> params) {
         // ucontrol itemDrop to amount 0 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "itemDrop", params.get(0), params.get(1)));
+        emit(Opcode.UCONTROL, "itemDrop", params.get(0), params.get(1));
         return "null";
     }
 
     private String handleMine(List<String> params) {
         // ucontrol mine x y 0 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "mine", params.get(0), params.get(1)));
+        emit(Opcode.UCONTROL, "mine", params.get(0), params.get(1));
         return "null";
     }
 
     private String handleGetlink(List<String> params) {
         // getlink result 0
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("getlink", tmp, params.get(0)));
+        emit(Opcode.GETLINK, tmp, params.get(0));
         return tmp;
     }
 
     private String handleRand(List<String> params) {
         // op rand result 200 0
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("op", "rand", tmp, params.get(0)));
+        emit(Opcode.OP, "rand", tmp, params.get(0));
         return tmp;
     }
 
     private String handleMove(List<String> params) {
         // ucontrol move 14 15 0 0 0
-        pipeline.emit(new LogicInstruction("ucontrol", "move", params.get(0), params.get(1)));
+        emit(Opcode.UCONTROL, "move", params.get(0), params.get(1));
         return "null";
     }
 
     private String handleUbind(List<String> params) {
         // ubind @poly
-        pipeline.emit(new LogicInstruction("ubind", params.get(0)));
+        emit(Opcode.UBIND, params.get(0));
         return "null";
     }
 
     private String handlePrintflush(List<String> params) {
-        params.forEach((param) -> pipeline.emit(new LogicInstruction("printflush", List.of(param))));
+        params.forEach((param) -> emit(Opcode.PRINTFLUSH, param));
         return "null";
     }
 
     private String handlePrint(List<String> params) {
-        params.forEach((param) -> pipeline.emit(new LogicInstruction("print", List.of(param))));
+        params.forEach((param) -> emit(Opcode.PRINT, param));
         return params.get(params.size() - 1);
     }
 
@@ -716,12 +769,7 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
         final String right = visit(node.getRight());
 
         final String tmp = nextTemp();
-        pipeline.emit(
-                new LogicInstruction(
-                        "op",
-                        List.of(translateBinaryOpToCode(node.getOp()), tmp, left, right)
-                )
-        );
+        emit(Opcode.OP, translateBinaryOpToCode(node.getOp()), tmp, left, right);
 
         return tmp;
     }
@@ -749,22 +797,14 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
     @Override
     public String visitStringLiteral(StringLiteral node) {
         final String tmp = nextTemp();
-        pipeline.emit(
-                new LogicInstruction(
-                        "set",
-                        List.of(
-                                tmp,
-                                "\"" + node.getText().replaceAll("\"", "\\\"") + "\""
-                        )
-                )
-        );
+        emit(Opcode.SET, tmp, "\"" + node.getText().replaceAll("\"", "\\\"") + "\"");
         return tmp;
     }
 
     @Override
     public String visitNumericLiteral(NumericLiteral node) {
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("set", List.of(tmp, node.getLiteral())));
+        emit(Opcode.SET, tmp, node.getLiteral());
         return tmp;
     }
 
@@ -773,7 +813,7 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
         final String target = visit(node.getTarget());
         final String prop = visit(node.getProperty());
         final String tmp = nextTemp();
-        pipeline.emit(new LogicInstruction("sensor", tmp, target, prop));
+        emit(Opcode.SENSOR, tmp, target, prop);
         return tmp;
     }
 
@@ -787,18 +827,18 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
             final String nextCond = nextLabel();
 
             final String whenValue = visit(alternative.getValue());
-            pipeline.emit(new LogicInstruction("jump", nextCond, "notEqual", caseValue, whenValue));
+            emit(Opcode.JUMP, nextCond, "notEqual", caseValue, whenValue);
 
             final String body = visit(alternative.getBody());
-            pipeline.emit(new LogicInstruction("set", resultVar, body));
-            pipeline.emit(new LogicInstruction("jump", exitLabel, "always"));
+            emit(Opcode.SET, resultVar, body);
+            emit(Opcode.JUMP, exitLabel, "always");
 
-            pipeline.emit(new LogicInstruction("label", nextCond));
+            emit(Opcode.LABEL, nextCond);
         }
 
         final String elseBranch = visit(node.getElseBranch());
-        pipeline.emit(new LogicInstruction("set", resultVar, elseBranch));
-        pipeline.emit(new LogicInstruction("label", exitLabel));
+        emit(Opcode.SET, resultVar, elseBranch);
+        emit(Opcode.LABEL, exitLabel);
 
         return resultVar;
     }
@@ -843,7 +883,7 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
             args.add(arg);
         }
 
-        pipeline.emit(new LogicInstruction("control", args));
+        emit(Opcode.CONTROL, args.toArray(new String[0]));
         return "null";
     }
 
@@ -931,7 +971,7 @@ public class LogicInstructionGenerator extends BaseAstVisitor<String> {
     }
 
     private String nextLabel() {
-        return "__label" + label++;
+        return LABEL_PREFIX + label++;
     }
 
     private String nextTemp() {
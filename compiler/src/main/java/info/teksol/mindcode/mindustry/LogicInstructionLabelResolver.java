@@ -1,79 +1,209 @@
 package info.teksol.mindcode.mindustry;
 
+import info.teksol.mindcode.CompilationCancelledException;
+
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
+/**
+ * Replaces labels with the address of the instruction following them, and drops the labels themselves.
+ * <p>
+ * The generator numbers its labels densely ({@code __label0}, {@code __label1}, ...), so the addresses live in an
+ * {@code int[]} indexed by that number, sized by the highest label the program defines. The program is resolved in a
+ * single pass: references to labels seen earlier are resolved on the spot, while references to labels further down are
+ * remembered and patched once the label is reached.
+ * <p>
+ * Besides jump targets, the value of a {@code set} or {@code write} may name a label: this is how return addresses are
+ * stored ({@code set __tmp0 __label3}, {@code write __label3 cell1 __tmp1}). So may the operands of an {@code op}
+ * assigning {@code @counter}, which computes a jump: {@code op add @counter __label5 index} jumps {@code index}
+ * instructions past {@code __label5}. Programs may name their own variables like labels, though: such operands are
+ * only replaced when the program defines the label, and left alone otherwise. Names numbered past the highest label
+ * aren't looked up at all, so that they can't grow the tables.
+ */
 public class LogicInstructionLabelResolver {
+    private static final int UNRESOLVED = -1;
+
     public static List<LogicInstruction> resolve(List<LogicInstruction> program) {
-        final Map<String, Integer> addresses = calculateAddresses(program);
-        return resolveAddresses(program, addresses);
+        return new LogicInstructionLabelResolver(program).resolve();
     }
 
-    private static List<LogicInstruction> resolveAddresses(List<LogicInstruction> program, Map<String, Integer> addresses) {
-        final List<LogicInstruction> result = new ArrayList<>();
+    /**
+     * @return the number of the label the argument is named like, or -1 when it isn't named like the labels the
+     * generator creates; numbers too long to be one of them don't count either
+     */
+    static int labelNumber(String arg) {
+        final String prefix = LogicInstructionGenerator.LABEL_PREFIX;
+        final int digits = arg.length() - prefix.length();
+        if (digits <= 0 || digits > 9 || !arg.startsWith(prefix)) return -1;
+        if (digits > 1 && arg.charAt(prefix.length()) == '0') return -1;
+
+        int number = 0;
+        for (int i = prefix.length(); i < arg.length(); i++) {
+            final char c = arg.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            number = number * 10 + (c - '0');
+        }
+
+        return number;
+    }
+
+    /**
+     * @return one past the highest label the program defines
+     */
+    private static int countLabels(List<LogicInstruction> program) {
+        int count = 0;
         for (final LogicInstruction instruction : program) {
-            if (instruction.getOpcode().equals("label")) continue;
-            switch (instruction.getOpcode()) {
-                case "jump":
-                    final String label = instruction.getArgs().get(0);
-                    if (!addresses.containsKey(label)) {
-                        throw new GenerationException("Unknown jump label target: [" + label + "] was not previously discovered in " + program);
-                    }
-
-                    resolveJump(label, instruction, addresses, result);
-                    break;
-
-                case "set":
-                    if (addresses.containsKey(instruction.getArgs().get(1))) {
-                        result.add(new LogicInstruction("set", instruction.getArgs().get(0), addresses.get(instruction.getArgs().get(1)).toString()));
-                    } else {
-                        result.add(instruction);
-                    }
-                    break;
-
-                case "write":
-                    if (addresses.containsKey(instruction.getArgs().get(0))) {
-                        result.add(new LogicInstruction("write", addresses.get(instruction.getArgs().get(0)).toString(), instruction.getArgs().get(1), instruction.getArgs().get(2)));
-                    } else {
-                        result.add(instruction);
-                    }
-                    break;
-
-                default:
-                    result.add(instruction);
-                    break;
+            if (instruction.isLabel()) {
+                count = Math.max(count, labelNumber(instruction.getArgs().get(0)) + 1);
             }
         }
 
-        return result;
+        return count;
     }
 
-    private static void resolveJump(String label, LogicInstruction instruction, Map<String, Integer> addresses, List<LogicInstruction> result) {
-        final List<String> newArgs = new ArrayList<>(instruction.getArgs().subList(1, instruction.getArgs().size()));
-        newArgs.add(0, addresses.get(label).toString());
-        result.add(new LogicInstruction("jump", newArgs));
+    private final List<LogicInstruction> program;
+
+    // Instructions of the resolved program, and their arguments wherever a label was replaced by its address
+    private final LogicInstruction[] instructions;
+    private final String[][] patchedArgs;
+    private int size;
+
+    // Address of each label, and the same address as it is printed, indexed by the label's number
+    private final int labelCount;
+    private final int[] addresses;
+    private final String[] addressArgs;
+
+    // References to labels not reached yet, chained per label: fixupNext links the references to the same label.
+    // A label a jump refers to must be defined, while other references to a label never defined stay as they are
+    private final int[] firstFixup;
+    private final boolean[] jumpedTo;
+    private int fixupCount;
+    private int[] fixupNext = new int[64];
+    private int[] fixupInstructions = new int[64];
+    private int[] fixupPositions = new int[64];
+
+    private LogicInstructionLabelResolver(List<LogicInstruction> program) {
+        this.program = program;
+        this.instructions = new LogicInstruction[program.size()];
+        this.patchedArgs = new String[program.size()][];
+        this.labelCount = countLabels(program);
+        this.addresses = new int[labelCount];
+        this.addressArgs = new String[labelCount];
+        this.firstFixup = new int[labelCount];
+        this.jumpedTo = new boolean[labelCount];
+        Arrays.fill(addresses, UNRESOLVED);
+        Arrays.fill(firstFixup, -1);
     }
 
-    private static Map<String, Integer> calculateAddresses(List<LogicInstruction> program) {
-        final Map<String, Integer> result = new HashMap<>();
-        int instructionPointer = 0;
-        for (int i = 0; i < program.size(); i++) {
-            final LogicInstruction instruction = program.get(i);
-            if (!instruction.getOpcode().equals("label")) {
-                instructionPointer++;
-                continue;
+    private List<LogicInstruction> resolve() {
+        for (final LogicInstruction instruction : program) {
+            CompilationCancelledException.throwIfInterrupted();
+            if (instruction.isLabel()) {
+                defineLabel(instruction.getArgs().get(0));
+            } else {
+                resolveOperands(instruction);
+                instructions[size++] = instruction;
             }
+        }
 
-            final String label = instruction.getArgs().get(0);
-            if (result.containsKey(label)) {
-                throw new GenerationException("Duplicate label detected: [" + label + "] reused at least twice in " + program);
+        for (int id = 0; id < labelCount; id++) {
+            if (jumpedTo[id] && addresses[id] == UNRESOLVED) {
+                throw new GenerationException("Unknown jump label target: [" + LogicInstructionGenerator.LABEL_PREFIX + id + "] was not previously discovered in " + program);
             }
+        }
 
-            result.put(label, instructionPointer);
+        final List<LogicInstruction> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(patchedArgs[i] == null ? instructions[i] : new LogicInstruction(instructions[i].getOpcode(), patchedArgs[i]));
         }
 
         return result;
     }
+
+    private void defineLabel(String label) {
+        final int id = labelNumber(label);
+        if (id == -1) {
+            throw new GenerationException("Invalid label: [" + label + "] in " + program);
+        }
+
+        if (addresses[id] != UNRESOLVED) {
+            throw new GenerationException("Duplicate label detected: [" + label + "] reused at least twice in " + program);
+        }
+
+        addresses[id] = size;
+        addressArgs[id] = Integer.toString(size);
+        for (int fixup = firstFixup[id]; fixup != -1; fixup = fixupNext[fixup]) {
+            patchedArgs[fixupInstructions[fixup]][fixupPositions[fixup]] = addressArgs[id];
+        }
+        firstFixup[id] = -1;
+    }
+
+    private void resolveOperands(LogicInstruction instruction) {
+        final List<String> args = instruction.getArgs();
+        switch (instruction.getOpcode()) {
+            case JUMP:
+                final int target = labelId(args.get(0));
+                if (target == -1) {
+                    throw new GenerationException("Unknown jump label target: [" + args.get(0) + "] was not previously discovered in " + program);
+                }
+                jumpedTo[target] = true;
+                resolveOperand(instruction, 0, target);
+                break;
+
+            case SET:
+                resolveIfLabel(instruction, 1);
+                break;
+
+            case WRITE:
+                resolveIfLabel(instruction, 0);
+                break;
+
+            case OP:
+                if (args.size() == 4 && "@counter".equals(args.get(1))) {
+                    resolveIfLabel(instruction, 2);
+                    resolveIfLabel(instruction, 3);
+                }
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private void resolveIfLabel(LogicInstruction instruction, int position) {
+        final String arg = instruction.getArgs().get(position);
+        final int id = labelId(arg);
+        if (id != -1) resolveOperand(instruction, position, id);
+    }
+
+    /**
+     * @return the number of the label the argument names, or -1 when it names no label the program could define
+     */
+    private int labelId(String arg) {
+        final int number = labelNumber(arg);
+        return number < labelCount ? number : -1;
+    }
+
+    private void resolveOperand(LogicInstruction instruction, int position, int id) {
+        if (patchedArgs[size] == null) {
+            patchedArgs[size] = instruction.getArgs().toArray(new String[0]);
+        }
+
+        if (addresses[id] != UNRESOLVED) {
+            patchedArgs[size][position] = addressArgs[id];
+            return;
+        }
+
+        if (fixupCount == fixupNext.length) {
+            fixupNext = Arrays.copyOf(fixupNext, fixupCount * 2);
+            fixupInstructions = Arrays.copyOf(fixupInstructions, fixupCount * 2);
+            fixupPositions = Arrays.copyOf(fixupPositions, fixupCount * 2);
+        }
+
+        fixupNext[fixupCount] = firstFixup[id];
+        fixupInstructions[fixupCount] = size;
+        fixupPositions[fixupCount] = position;
+        firstFixup[id] = fixupCount++;
+    }
 }
@@ -0,0 +1,89 @@
+package info.teksol.mindcode.mindustry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static info.teksol.mindcode.mindustry.Opcode.Role.*;
+
+/**
+ * The Mindustry Logic instructions Mindcode generates, with the role each of their operands plays.
+ * <p>
+ * The number of roles is the number of operands Mindustry expects: the printer pads shorter instructions with zeroes.
+ * {@code ucontrol} and {@code ulocate} read and write different operands depending on their first operand, so their
+ * roles past the first one are {@link Role#VARIES}.
+ */
+public enum Opcode {
+    SET("set", OUT, IN),
+    OP("op", KEYWORD, OUT, IN, IN),
+    JUMP("jump", TARGET, KEYWORD, IN, IN),
+    PRINT("print", IN),
+    END("end"),
+    SENSOR("sensor", OUT, IN, IN),
+    CONTROL("control", KEYWORD, IN, IN, IN, IN, IN),
+    DRAW("draw", KEYWORD, IN, IN, IN, IN, IN, IN),
+    WRITE("write", IN, IN, IN),
+    READ("read", OUT, IN, IN),
+    DRAWFLUSH("drawflush", IN),
+    UBIND("ubind", IN),
+    UCONTROL("ucontrol", KEYWORD, VARIES, VARIES, VARIES, VARIES, VARIES),
+    GETLINK("getlink", OUT, IN),
+    PRINTFLUSH("printflush", IN),
+    URADAR("uradar", KEYWORD, KEYWORD, KEYWORD, KEYWORD, IN, IN, OUT),
+    LABEL("label", TARGET),
+    ULOCATE("ulocate", KEYWORD, VARIES, VARIES, VARIES, VARIES, VARIES, VARIES, VARIES);
+
+    private static final Map<String, Opcode> BY_MNEMONIC = new HashMap<>();
+
+    static {
+        for (Opcode opcode : values()) {
+            BY_MNEMONIC.put(opcode.mnemonic, opcode);
+        }
+    }
+
+    private final String mnemonic;
+    private final List<Role> roles;
+
+    Opcode(String mnemonic, Role... roles) {
+        this.mnemonic = mnemonic;
+        this.roles = List.of(roles);
+    }
+
+    public static Opcode fromMnemonic(String mnemonic) {
+        final Opcode opcode = BY_MNEMONIC.get(mnemonic);
+        if (opcode == null) {
+            throw new GenerationException("Unknown opcode [" + mnemonic + "]");
+        }
+
+        return opcode;
+    }
+
+    public String getMnemonic() {
+        return mnemonic;
+    }
+
+    public int getArity() {
+        return roles.size();
+    }
+
+    public List<Role> getRoles() {
+        return roles;
+    }
+
+    public enum Role {
+        /** A value the instruction reads: a variable, a literal or a building */
+        IN,
+
+        /** A variable the instruction assigns */
+        OUT,
+
+        /** A label, or an instruction address once labels are resolved */
+        TARGET,
+
+        /** A fixed word selecting what the instruction does, such as the operation of {@code op} */
+        KEYWORD,
+
+        /** Depends on the instruction's first operand */
+        VARIES
+    }
+}
@@ -0,0 +1,97 @@
+package info.teksol.mindcode.mindustry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * The operations of {@code op}, and the conditions of {@code jump}, computed as Mindustry computes them: angles are
+ * in degrees, bitwise operations work on the integer part of their operands, and comparisons answer 1 or 0.
+ * <p>
+ * {@code equal}, {@code notEqual} and {@code strictEqual} also compare objects: callers that know about objects handle
+ * those themselves. {@code rand} and {@code noise} aren't {@linkplain #isDeterministic() deterministic}, and callers
+ * that want repeatable runs compute {@code rand} from a generator of their own.
+ */
+public enum Operation {
+    ADD("add", (a, b) -> a + b),
+    SUB("sub", (a, b) -> a - b),
+    MUL("mul", (a, b) -> a * b),
+    DIV("div", (a, b) -> a / b),
+    IDIV("idiv", (a, b) -> Math.floor(a / b)),
+    MOD("mod", (a, b) -> a % b),
+    POW("pow", Math::pow),
+    EQUAL("equal", (a, b) -> Math.abs(a - b) < 0.000001 ? 1 : 0),
+    NOT_EQUAL("notEqual", (a, b) -> Math.abs(a - b) < 0.000001 ? 0 : 1),
+    LAND("land", (a, b) -> a != 0 && b != 0 ? 1 : 0),
+    LESS_THAN("lessThan", (a, b) -> a < b ? 1 : 0),
+    LESS_THAN_EQ("lessThanEq", (a, b) -> a <= b ? 1 : 0),
+    GREATER_THAN("greaterThan", (a, b) -> a > b ? 1 : 0),
+    GREATER_THAN_EQ("greaterThanEq", (a, b) -> a >= b ? 1 : 0),
+    STRICT_EQUAL("strictEqual", (a, b) -> a == b ? 1 : 0),
+    SHL("shl", (a, b) -> (long) a << (long) b),
+    SHR("shr", (a, b) -> (long) a >> (long) b),
+    OR("or", (a, b) -> (long) a | (long) b),
+    AND("and", (a, b) -> (long) a & (long) b),
+    XOR("xor", (a, b) -> (long) a ^ (long) b),
+    NOT("not", (a, b) -> ~(long) a),
+    MAX("max", Math::max),
+    MIN("min", Math::min),
+    ANGLE("angle", (a, b) -> {
+        final double angle = Math.toDegrees(Math.atan2(b, a));
+        return angle < 0 ? angle + 360 : angle;
+    }),
+    LEN("len", Math::hypot),
+    // There is no simplex noise here; programs get a flat world
+    NOISE("noise", false, (a, b) -> 0),
+    ABS("abs", (a, b) -> Math.abs(a)),
+    LOG("log", (a, b) -> Math.log(a)),
+    LOG10("log10", (a, b) -> Math.log10(a)),
+    SIN("sin", (a, b) -> Math.sin(Math.toRadians(a))),
+    COS("cos", (a, b) -> Math.cos(Math.toRadians(a))),
+    TAN("tan", (a, b) -> Math.tan(Math.toRadians(a))),
+    FLOOR("floor", (a, b) -> Math.floor(a)),
+    CEIL("ceil", (a, b) -> Math.ceil(a)),
+    SQRT("sqrt", (a, b) -> Math.sqrt(a)),
+    RAND("rand", false, (a, b) -> ThreadLocalRandom.current().nextDouble() * a),
+    ALWAYS("always", (a, b) -> 1);
+
+    private static final Map<String, Operation> BY_NAME = new HashMap<>();
+
+    static {
+        for (Operation operation : values()) {
+            BY_NAME.put(operation.name, operation);
+        }
+    }
+
+    private final String name;
+    private final boolean deterministic;
+    private final DoubleBinaryOperator function;
+
+    Operation(String name, DoubleBinaryOperator function) {
+        this(name, true, function);
+    }
+
+    Operation(String name, boolean deterministic, DoubleBinaryOperator function) {
+        this.name = name;
+        this.deterministic = deterministic;
+        this.function = function;
+    }
+
+    public static Operation fromName(String name) {
+        final Operation operation = BY_NAME.get(name);
+        if (operation == null) throw new IllegalArgumentException("Unknown operation: " + name);
+        return operation;
+    }
+
+    /**
+     * @return whether the operation always gives the same result for the same operands, as at compile time
+     */
+    public boolean isDeterministic() {
+        return deterministic;
+    }
+
+    public double apply(double a, double b) {
+        return function.applyAsDouble(a, b);
+    }
+}
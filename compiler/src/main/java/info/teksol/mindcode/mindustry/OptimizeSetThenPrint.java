@@ -79,7 +79,7 @@ class OptimizeSetThenPrint implements LogicInstructionPipeline {
                     //
                     // The Mindcode compiler does not generate something like this at the moment (Apr 2021), but
                     // things may change and we need to be conservative.
-                    sets.forEach((k, v) -> next.emit(new LogicInstruction("set", k, v)));
+                    sets.forEach((k, v) -> next.emit(new LogicInstruction(Opcode.SET, k, v)));
                     prints.forEach(next::emit);
                     next.emit(instruction);
                     return new EmptyState();
@@ -88,7 +88,7 @@ class OptimizeSetThenPrint implements LogicInstructionPipeline {
                     return this;
                 } else {
                     // this was a set, but not for a static string -- flush everything
-                    sets.forEach((k, v) -> next.emit(new LogicInstruction("set", k, v)));
+                    sets.forEach((k, v) -> next.emit(new LogicInstruction(Opcode.SET, k, v)));
                     prints.forEach(next::emit);
                     next.emit(instruction);
                     return new EmptyState();
@@ -96,7 +96,7 @@ class OptimizeSetThenPrint implements LogicInstructionPipeline {
             }
 
             if (!instruction.isPrint()) {
-                sets.forEach((k, v) -> next.emit(new LogicInstruction("set", k, v)));
+                sets.forEach((k, v) -> next.emit(new LogicInstruction(Opcode.SET, k, v)));
                 prints.forEach(next::emit);
                 next.emit(instruction);
                 return new EmptyState();
@@ -119,7 +119,7 @@ class OptimizeSetThenPrint implements LogicInstructionPipeline {
 
         @Override
         public State flush() {
-            sets.forEach((k, v) -> next.emit(new LogicInstruction("set", k, v)));
+            sets.forEach((k, v) -> next.emit(new LogicInstruction(Opcode.SET, k, v)));
             prints.forEach(next::emit);
             return new EmptyState();
         }
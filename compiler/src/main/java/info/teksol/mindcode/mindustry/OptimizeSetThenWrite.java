@@ -119,7 +119,7 @@ class OptimizeSetThenWrite implements LogicInstructionPipeline {
         @Override
         public State flush() {
             for (Map.Entry<String, String> entry : sets.entrySet()) {
-                next.emit(new LogicInstruction("set", entry.getKey(), entry.getValue()));
+                next.emit(new LogicInstruction(Opcode.SET, entry.getKey(), entry.getValue()));
             }
 
             return new EmptyState();
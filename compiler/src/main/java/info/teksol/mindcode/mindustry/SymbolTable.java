@@ -0,0 +1,32 @@
+package info.teksol.mindcode.mindustry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Numbers the operands of one compilation densely from zero, so that passes can index arrays and bit sets by symbol
+ * instead of hashing strings.
+ */
+class SymbolTable {
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    int id(String name) {
+        final Integer id = ids.get(name);
+        if (id != null) return id;
+
+        ids.put(name, names.size());
+        names.add(name);
+        return names.size() - 1;
+    }
+
+    String name(int id) {
+        return names.get(id);
+    }
+
+    int size() {
+        return names.size();
+    }
+}
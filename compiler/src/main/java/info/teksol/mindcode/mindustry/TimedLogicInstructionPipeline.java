@@ -0,0 +1,44 @@
+package info.teksol.mindcode.mindustry;
+
+/**
+ * Measures the time a pipeline stage spends handling instructions, and counts the instructions it receives.
+ * <p>
+ * Stages call the next stage from within their own {@code emit} and {@code flush}, so the time measured here includes
+ * the time spent downstream: subtract the next stage's time to get the stage's own.
+ */
+class TimedLogicInstructionPipeline implements LogicInstructionPipeline {
+    private final LogicInstructionPipeline stage;
+    private long elapsedNanos;
+    private int received;
+
+    TimedLogicInstructionPipeline(LogicInstructionPipeline stage) {
+        this.stage = stage;
+    }
+
+    @Override
+    public void emit(LogicInstruction instruction) {
+        received++;
+        final long start = System.nanoTime();
+        stage.emit(instruction);
+        elapsedNanos += System.nanoTime() - start;
+    }
+
+    @Override
+    public void flush() {
+        final long start = System.nanoTime();
+        stage.flush();
+        elapsedNanos += System.nanoTime() - start;
+    }
+
+    String getPhase() {
+        return stage.getClass().getSimpleName();
+    }
+
+    long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    int getReceived() {
+        return received;
+    }
+}
@@ -0,0 +1,13 @@
+package info.teksol.mindcode;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompilerVersionTest {
+    @Test
+    void fingerprintsTheCompilersClasses() {
+        assertTrue(CompilerVersion.VERSION.matches("\\d+\\.\\d+\\.\\d+(-SNAPSHOT)?\\+[0-9a-f]{12}"),
+                CompilerVersion.VERSION);
+    }
+}
@@ -0,0 +1,125 @@
+package info.teksol.mindcode;
+
+import info.teksol.mindcode.grammar.MindcodeLexer;
+import info.teksol.mindcode.grammar.MindcodeParser;
+import org.antlr.v4.runtime.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MindcodeCompilerTest {
+    @Test
+    void compilesPrograms() {
+        final Tuple2<String, List<String>> result = MindcodeCompiler.compile("print(\"hello\")");
+
+        assertEquals("print \"hello\"\nend\n", result._1);
+        assertEquals(List.of(), result._2);
+    }
+
+    @Test
+    void compilesVariablesNamedLikeLabels() {
+        final Tuple2<String, List<String>> result = MindcodeCompiler.compile(
+                "x = __label7\nprint(x)\ny = __label300000000\nprint(y)");
+
+        assertEquals(List.of(), result._2);
+        assertTrue(result._1.contains("__label7"), result._1);
+        assertTrue(result._1.contains("__label300000000"), result._1);
+    }
+
+    @Test
+    void abandonsCompilationWhenInterrupted() {
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CompilationCancelledException.class, () -> MindcodeCompiler.compile("print(\"hello\")"));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void reportsEveryPhaseToTheObserver() {
+        final List<String> phases = new ArrayList<>();
+        final List<int[]> sizes = new ArrayList<>();
+        final Tuple2<String, List<String>> result = MindcodeCompiler.compile("n = 0\nwhile n < 10\n  n += 1\nend\nprint(n)\n",
+                (phase, elapsedNanos, inputSize, outputSize) -> {
+                    assertTrue(elapsedNanos >= 0, phase);
+                    phases.add(phase);
+                    sizes.add(new int[]{inputSize, outputSize});
+                });
+
+        assertEquals(List.of("lex", "parse", "build_ast", "generate",
+                "ConstantFolder", "CommonSubexpressionEliminator", "DeadCodeEliminator", "OptimizeSensorThenSet",
+                "OptimizeOpThenSet", "OptimizeSetThenWrite", "OptimizeReadThenSet", "OptimizeSetThenRead", "OptimizeSetThenOp", "OptimizeSetThenSet",
+                "OptimizeSetThenPrint", "OptimizeGetlinkThenSet", "ImproveConditionalJumps",
+                "resolve_labels", "print"), phases);
+
+        // Each phase from generation onwards takes in the instructions the previous one gave out
+        for (int i = phases.indexOf("generate") + 1; i < phases.size(); i++) {
+            assertEquals(sizes.get(i - 1)[1], sizes.get(i)[0], phases.get(i));
+        }
+        assertEquals(result._1.split("\n").length, sizes.get(sizes.size() - 1)[1]);
+    }
+
+    @Test
+    void reportsEverySyntaxErrorAfterFallingBackToFullParse() {
+        final String program = "while\nx = (1 + \n";
+
+        assertEquals(fullParse(program)._2, MindcodeCompiler.parse(program)._2);
+        assertFalse(MindcodeCompiler.compile(program)._2.isEmpty());
+    }
+
+    @Test
+    void producesTheSameTreeAsAFullParse() {
+        final String program = "" +
+                "allocate heap in cell1[0 ... 32]\n" +
+                "def delay(n)\n" +
+                "  n * 2 + 1\n" +
+                "end\n" +
+                "n = foundation1.copper < foundation1.itemCapacity ? 1 : 2 ** 3\n" +
+                "for i = 0 ; i < 10 ; i += 1\n" +
+                "  cell3[i] = cell2[i] + delay(i)\n" +
+                "end\n" +
+                "case n\n" +
+                "  when 1\n" +
+                "    print(\"low\")\n" +
+                "  else\n" +
+                "    printflush(message1)\n" +
+                "end\n";
+
+        final Tuple2<MindcodeParser.ProgramContext, List<String>> expected = fullParse(program);
+        final Tuple2<MindcodeParser.ProgramContext, List<String>> actual = MindcodeCompiler.parse(program);
+
+        assertEquals(List.of(), actual._2);
+        assertEquals(expected._1.toStringTree(), actual._1.toStringTree());
+    }
+
+    @Test
+    void compilesLongProgramsWithoutDeepRecursion() {
+        final StringBuilder program = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            program.append("print(").append(i).append(")\n");
+        }
+
+        final Tuple2<String, List<String>> result = MindcodeCompiler.compile(program.toString());
+
+        assertEquals(List.of(), result._2);
+        assertEquals(5000, result._1.lines().filter((line) -> line.startsWith("print ")).count());
+    }
+
+    private Tuple2<MindcodeParser.ProgramContext, List<String>> fullParse(String program) {
+        final MindcodeLexer lexer = new MindcodeLexer(CharStreams.fromString(program));
+        final MindcodeParser parser = new MindcodeParser(new BufferedTokenStream(lexer));
+        final List<String> errors = new ArrayList<>();
+        parser.addErrorListener(new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+                errors.add("Syntax error: " + offendingSymbol + " on line " + line + ":" + charPositionInLine + ": " + msg);
+            }
+        });
+
+        return new Tuple2<>(parser.program(), errors);
+    }
+}
@@ -211,21 +211,15 @@ class AstNodeBuilderTest extends AbstractAstTest {
     void parsesFunctionCalls() {
         assertEquals(
                 new Seq(
-                        new Seq(
-                                new Seq(
-                                        new Seq(
-                                                new FunctionCall(
-                                                        "print",
-                                                        List.of(
-                                                                new StringLiteral("\"a\": "),
-                                                                new VarRef("a")
-                                                        )
-                                                )
-                                        ),
-                                        new FunctionCall("random", List.of())
-                                ),
-                                new FunctionCall("print", List.of(new VarRef("r")))
+                        new FunctionCall(
+                                "print",
+                                List.of(
+                                        new StringLiteral("\"a\": "),
+                                        new VarRef("a")
+                                )
                         ),
+                        new FunctionCall("random", List.of()),
+                        new FunctionCall("print", List.of(new VarRef("r"))),
                         new FunctionCall(
                                 "print",
                                 List.of(
@@ -249,19 +243,15 @@ class AstNodeBuilderTest extends AbstractAstTest {
     void parsesUnaryMinus() {
         assertEquals(
                 new Seq(
-                        new Seq(
-                                new Seq(
-                                        new Assignment(
-                                                new VarRef("dx"),
-                                                new BinaryOp(
-                                                        new VarRef("dx"),
-                                                        "*",
-                                                        new NumericLiteral("-1")
-                                                )
-                                        )
-                                ),
-                                new Assignment(new VarRef("dy"), new NumericLiteral("-1"))
+                        new Assignment(
+                                new VarRef("dx"),
+                                new BinaryOp(
+                                        new VarRef("dx"),
+                                        "*",
+                                        new NumericLiteral("-1")
+                                )
                         ),
+                        new Assignment(new VarRef("dy"), new NumericLiteral("-1")),
                         new Assignment(
                                 new VarRef("dz"),
                                 new BinaryOp(
@@ -295,12 +285,10 @@ class AstNodeBuilderTest extends AbstractAstTest {
     void parsesGlobalReferences() {
         assertEquals(
                 new Seq(
-                        new Seq(
-                                new Seq(new NoOp(), new NoOp()),
-                                new Assignment(
-                                        new HeapAccess("cell2", new NumericLiteral("4")),
-                                        new NumericLiteral("1")
-                                )
+                        new NoOp(),
+                        new Assignment(
+                                new HeapAccess("cell2", new NumericLiteral("4")),
+                                new NumericLiteral("1")
                         ),
                         new Assignment(
                                 new HeapAccess(
@@ -434,7 +422,6 @@ class AstNodeBuilderTest extends AbstractAstTest {
     void parsesFlagAssignment() {
         assertEquals(
                 new Seq(
-                        new NoOp(),
                         new FunctionCall(
                                 "flag",
                                 List.of(new VarRef("FLAG"))
@@ -513,12 +500,10 @@ class AstNodeBuilderTest extends AbstractAstTest {
     void parsesPropertyAccesses() {
         assertEquals(
                 new Seq(
-                        new Seq(
-                                new BinaryOp(
-                                        new PropertyAccess(new VarRef("foundation1"), new Ref("copper")),
-                                        "<",
-                                        new PropertyAccess(new VarRef("foundation1"), new Ref("itemCapacity"))
-                                )
+                        new BinaryOp(
+                                new PropertyAccess(new VarRef("foundation1"), new Ref("copper")),
+                                "<",
+                                new PropertyAccess(new VarRef("foundation1"), new Ref("itemCapacity"))
                         ),
                         new BinaryOp(
                                 new PropertyAccess(new VarRef("reactor1"), new Ref("cryofluid")),
@@ -551,9 +536,7 @@ class AstNodeBuilderTest extends AbstractAstTest {
     void parsesUsefulWhileLoop() {
         assertEquals(
                 new Seq(
-                        new Seq(
-                                new Assignment(new VarRef("n"), new NumericLiteral("5"))
-                        ),
+                        new Assignment(new VarRef("n"), new NumericLiteral("5")),
                         new WhileExpression(
                                 new BinaryOp(new VarRef("n"), ">", new NumericLiteral("0")),
                                 new Seq(
@@ -680,7 +663,6 @@ class AstNodeBuilderTest extends AbstractAstTest {
     void parsesRefs() {
         assertEquals(
                 new Seq(
-                        new NoOp(),
                         new WhileExpression(
                                 new BinaryOp(
                                         new Ref("unit"),
@@ -744,14 +726,12 @@ class AstNodeBuilderTest extends AbstractAstTest {
                                         ),
                                         new Seq(new BooleanLiteral(false)),
                                         new Seq(
-                                                new Seq(
-                                                        new Assignment(
-                                                                new HeapAccess(
-                                                                        "cell1",
-                                                                        new NumericLiteral("4")
-                                                                ),
-                                                                new BooleanLiteral(true)
-                                                        )
+                                                new Assignment(
+                                                        new HeapAccess(
+                                                                "cell1",
+                                                                new NumericLiteral("4")
+                                                        ),
+                                                        new BooleanLiteral(true)
                                                 ),
                                                 new Assignment(
                                                         new VarRef("n"),
@@ -856,9 +836,7 @@ class AstNodeBuilderTest extends AbstractAstTest {
     void acceptsSemicolonAsStatementSeparator() {
         assertEquals(
                 new Seq(
-                        new Seq(
-                                new Assignment(new VarRef("a"), new NumericLiteral("0"))
-                        ),
+                        new Assignment(new VarRef("a"), new NumericLiteral("0")),
                         new Assignment(new VarRef("b"), new NumericLiteral("1"))
                 ),
                 translateToAst("a=0;b=1")
@@ -930,19 +908,15 @@ class AstNodeBuilderTest extends AbstractAstTest {
                                         "delay",
                                         List.of(),
                                         new Seq(
-                                                new Seq(
-                                                        new Seq(
-                                                                new Assignment(
-                                                                        new VarRef("n"), new NumericLiteral("0")
-                                                                )
-                                                        ),
-                                                        new Assignment(
-                                                                new VarRef("deadline"),
-                                                                new BinaryOp(
-                                                                        new Ref("tick"),
-                                                                        "+",
-                                                                        new NumericLiteral("60")
-                                                                )
+                                                new Assignment(
+                                                        new VarRef("n"), new NumericLiteral("0")
+                                                ),
+                                                new Assignment(
+                                                        new VarRef("deadline"),
+                                                        new BinaryOp(
+                                                                new Ref("tick"),
+                                                                "+",
+                                                                new NumericLiteral("60")
                                                         )
                                                 ),
                                                 new WhileExpression(
@@ -984,14 +958,12 @@ class AstNodeBuilderTest extends AbstractAstTest {
         assertEquals(
                 prettyPrint(
                         new Seq(
-                                new Seq(
-                                        new FunctionDeclaration(
-                                                "foo",
-                                                List.of(),
-                                                new Seq(
-                                                        new Assignment(new VarRef("n"),
-                                                                new BinaryOp(new VarRef("n"), "+", new NumericLiteral("1"))
-                                                        )
+                                new FunctionDeclaration(
+                                        "foo",
+                                        List.of(),
+                                        new Seq(
+                                                new Assignment(new VarRef("n"),
+                                                        new BinaryOp(new VarRef("n"), "+", new NumericLiteral("1"))
                                                 )
                                         )
                                 ),
@@ -1014,13 +986,11 @@ class AstNodeBuilderTest extends AbstractAstTest {
         assertEquals(
                 prettyPrint(
                         new Seq(
-                                new Seq(
-                                        new FunctionDeclaration(
-                                                "foo",
-                                                List.of(new VarRef("s")),
-                                                new Seq(
-                                                        new BinaryOp(new VarRef("s"), "+", new NumericLiteral("1"))
-                                                )
+                                new FunctionDeclaration(
+                                        "foo",
+                                        List.of(new VarRef("s")),
+                                        new Seq(
+                                                new BinaryOp(new VarRef("s"), "+", new NumericLiteral("1"))
                                         )
                                 ),
                                 new FunctionCall("foo", new NumericLiteral("1"))
@@ -1042,16 +1012,14 @@ class AstNodeBuilderTest extends AbstractAstTest {
         assertEquals(
                 prettyPrint(
                         new Seq(
-                                new Seq(
-                                        new FunctionDeclaration(
-                                                "foo",
-                                                List.of(new VarRef("s"), new VarRef("r")),
-                                                new Seq(
-                                                        new BinaryOp(
-                                                                new BinaryOp(new VarRef("s"), "+", new NumericLiteral("1")),
-                                                                "+",
-                                                                new VarRef("r")
-                                                        )
+                                new FunctionDeclaration(
+                                        "foo",
+                                        List.of(new VarRef("s"), new VarRef("r")),
+                                        new Seq(
+                                                new BinaryOp(
+                                                        new BinaryOp(new VarRef("s"), "+", new NumericLiteral("1")),
+                                                        "+",
+                                                        new VarRef("r")
                                                 )
                                         )
                                 ),
@@ -1149,9 +1117,7 @@ class AstNodeBuilderTest extends AbstractAstTest {
     void correctlyParsesIndirectPropertyReference() {
         assertEquals(
                 new Seq(
-                        new Seq(
-                                new Assignment(new VarRef("resource"), new Ref("silicon"))
-                        ),
+                        new Assignment(new VarRef("resource"), new Ref("silicon")),
                         new IfExpression(
                                 new BinaryOp(
                                         new PropertyAccess(new VarRef("vault1"), new VarRef("resource")),
@@ -153,10 +153,10 @@ public class AstPrettyPrinter extends BaseAstVisitor<String> {
 
     @Override
     public String visitSeq(Seq seq) {
-        visit(seq.getRest());
-        buffer.append("\n");
-        visit(seq.getLast());
-        buffer.append("\n");
+        for (AstNode node : seq.getExpressions()) {
+            visit(node);
+            buffer.append("\n");
+        }
         return null;
     }
 
@@ -1,43 +1,21 @@
 package info.teksol.mindcode.grammar;
 
+import info.teksol.mindcode.MindcodeCompiler;
 import info.teksol.mindcode.ParsingException;
 import info.teksol.mindcode.Tuple2;
-import org.antlr.v4.runtime.*;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public abstract class AbstractParserTest {
     protected MindcodeParser.ProgramContext parse(String program) {
-        final MindcodeLexer lexer = new MindcodeLexer(CharStreams.fromString(program));
-        final MindcodeParser parser = new MindcodeParser(new BufferedTokenStream(lexer));
-        final List<String> errors = new ArrayList<>();
-        parser.addErrorListener(new BaseErrorListener() {
-            @Override
-            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
-                errors.add("Syntax error: " + offendingSymbol + " on line " + line + ":" + charPositionInLine + ": " + msg);
-            }
-        });
-
-        final MindcodeParser.ProgramContext context = parser.program();
-        if (!errors.isEmpty()) {
-            throw new ParsingException(errors.toString());
+        final Tuple2<MindcodeParser.ProgramContext, List<String>> parsed = MindcodeCompiler.parse(program);
+        if (!parsed._2.isEmpty()) {
+            throw new ParsingException(parsed._2.toString());
         }
-        return context;
+        return parsed._1;
     }
 
     Tuple2<MindcodeParser.ProgramContext, List<String>> parseWithErrors(String program) {
-        final MindcodeLexer lexer = new MindcodeLexer(CharStreams.fromString(program));
-        final MindcodeParser parser = new MindcodeParser(new BufferedTokenStream(lexer));
-        final List<String> errors = new ArrayList<>();
-        parser.addErrorListener(new BaseErrorListener() {
-            @Override
-            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
-                errors.add("Syntax error: " + offendingSymbol + " on line " + line + ":" + charPositionInLine + ": " + msg);
-            }
-        });
-
-        final MindcodeParser.ProgramContext context = parser.program();
-        return new Tuple2<>(context, errors);
+        return MindcodeCompiler.parse(program);
     }
 }
@@ -0,0 +1,155 @@
+package info.teksol.mindcode.mindustry;
+
+import info.teksol.mindcode.ast.Seq;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class CommonSubexpressionEliminatorTest extends AbstractGeneratorTest {
+    private final LogicInstructionPipeline sut = new CommonSubexpressionEliminator(terminus);
+
+    @Test
+    void reusesSensedValues() {
+        LogicInstructionGenerator.generateInto(sut,
+                (Seq) translateToAst(
+                        "a = reactor1.heat + reactor1.heat\n"
+                )
+        );
+
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("sensor", var(0), "reactor1", "@heat"),
+                        new LogicInstruction("set", var(1), var(0)),
+                        new LogicInstruction("op", "add", var(2), var(0), var(0)),
+                        new LogicInstruction("set", "a", var(2)),
+                        new LogicInstruction("end")
+                ),
+                terminus.getResult()
+        );
+    }
+
+    @Test
+    void reusesOperationsUntilAnOperandChanges() {
+        LogicInstructionGenerator.generateInto(sut,
+                (Seq) translateToAst(
+                        "a = x * y\nb = x * y\nx = y\nc = x * y\n"
+                )
+        );
+
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("op", "mul", var(0), "x", "y"),
+                        new LogicInstruction("set", "a", var(0)),
+                        new LogicInstruction("set", var(1), var(0)),
+                        new LogicInstruction("set", "b", var(0)),
+                        new LogicInstruction("set", "x", "y"),
+                        new LogicInstruction("op", "mul", var(2), "x", "y"),
+                        new LogicInstruction("set", "c", var(2)),
+                        new LogicInstruction("end")
+                ),
+                terminus.getResult()
+        );
+    }
+
+    @Test
+    void sensesAgainAfterActingOnTheWorld() {
+        LogicInstructionGenerator.generateInto(sut,
+                (Seq) translateToAst(
+                        "a = reactor1.heat\nreactor1.enabled = a\nb = reactor1.heat\n" +
+                                "ubind(@poly)\nc = @unit.x\nubind(@poly)\nd = @unit.x\n"
+                )
+        );
+
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("sensor", var(0), "reactor1", "@heat"),
+                        new LogicInstruction("set", "a", var(0)),
+                        new LogicInstruction("control", "enabled", "reactor1", "a"),
+                        new LogicInstruction("sensor", var(1), "reactor1", "@heat"),
+                        new LogicInstruction("set", "b", var(1)),
+                        new LogicInstruction("ubind", "@poly"),
+                        new LogicInstruction("sensor", var(2), "@unit", "@x"),
+                        new LogicInstruction("set", "c", var(2)),
+                        new LogicInstruction("ubind", "@poly"),
+                        new LogicInstruction("sensor", var(3), "@unit", "@x"),
+                        new LogicInstruction("set", "d", var(3)),
+                        new LogicInstruction("end")
+                ),
+                terminus.getResult()
+        );
+    }
+
+    @Test
+    void readsAgainAfterWritingToMemory() {
+        LogicInstructionGenerator.generateInto(sut,
+                (Seq) translateToAst(
+                        "a = cell1[n]\nb = cell1[n]\ncell1[m] = a\nc = cell1[n]\n"
+                )
+        );
+
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("read", var(0), "cell1", "n"),
+                        new LogicInstruction("set", "a", var(0)),
+                        new LogicInstruction("set", var(1), var(0)),
+                        new LogicInstruction("set", "b", var(0)),
+                        new LogicInstruction("write", "a", "cell1", "m"),
+                        new LogicInstruction("read", var(2), "cell1", "n"),
+                        new LogicInstruction("set", "c", var(2)),
+                        new LogicInstruction("end")
+                ),
+                terminus.getResult()
+        );
+    }
+
+    @Test
+    void computesTimeAndRandomNumbersAgain() {
+        LogicInstructionGenerator.generateInto(sut,
+                (Seq) translateToAst(
+                        "a = @tick + x\nb = @tick + x\nc = rand(x)\nd = rand(x)\n"
+                )
+        );
+
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("op", "add", var(0), "@tick", "x"),
+                        new LogicInstruction("set", "a", var(0)),
+                        new LogicInstruction("op", "add", var(1), "@tick", "x"),
+                        new LogicInstruction("set", "b", var(1)),
+                        new LogicInstruction("op", "rand", var(2), "x"),
+                        new LogicInstruction("set", "c", var(2)),
+                        new LogicInstruction("op", "rand", var(3), "x"),
+                        new LogicInstruction("set", "d", var(3)),
+                        new LogicInstruction("end")
+                ),
+                terminus.getResult()
+        );
+    }
+
+    @Test
+    void forgetsEverythingAtLabels() {
+        LogicInstructionGenerator.generateInto(sut,
+                (Seq) translateToAst(
+                        "while reactor1.heat > x\n  n += 1\nend\nprint(reactor1.heat)\n"
+                )
+        );
+
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("label", var(1000)),
+                        new LogicInstruction("sensor", var(0), "reactor1", "@heat"),
+                        new LogicInstruction("op", "greaterThan", var(1), var(0), "x"),
+                        new LogicInstruction("jump", var(1001), "notEqual", var(1), "true"),
+                        new LogicInstruction("set", var(2), "1"),
+                        new LogicInstruction("op", "add", var(3), "n", var(2)),
+                        new LogicInstruction("set", "n", var(3)),
+                        new LogicInstruction("jump", var(1000), "always"),
+                        new LogicInstruction("label", var(1001)),
+                        new LogicInstruction("sensor", var(4), "reactor1", "@heat"),
+                        new LogicInstruction("print", var(4)),
+                        new LogicInstruction("end")
+                ),
+                terminus.getResult()
+        );
+    }
+}
@@ -0,0 +1,170 @@
+package info.teksol.mindcode.mindustry;
+
+import info.teksol.mindcode.ast.Seq;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConstantFolderTest extends AbstractGeneratorTest {
+    private final LogicInstructionPipeline sut = new ConstantFolder(terminus);
+
+    @Test
+    void foldsOperationsOnLiterals() {
+        LogicInstructionGenerator.generateInto(sut,
+                (Seq) translateToAst(
+                        "x = 2 * 3 + 1\n"
+                )
+        );
+
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("set", var(0), "2"),
+                        new LogicInstruction("set", var(1), "3"),
+                        new LogicInstruction("set", var(2), "6"),
+                        new LogicInstruction("set", var(3), "1"),
+                        new LogicInstruction("set", var(4), "7"),
+                        new LogicInstruction("set", "x", "7"),
+                        new LogicInstruction("end")
+                ),
+                terminus.getResult()
+        );
+    }
+
+    @Test
+    void foldsMathFunctions() {
+        LogicInstructionGenerator.generateInto(sut,
+                (Seq) translateToAst(
+                        "print(sqrt(16), max(2, 5), min(2, 5), abs(1 - 4), floor(2.5), 1 / 3)\n"
+                )
+        );
+
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("set", var(0), "16"),
+                        new LogicInstruction("set", var(1), "4"),
+                        new LogicInstruction("set", var(2), "2"),
+                        new LogicInstruction("set", var(3), "5"),
+                        new LogicInstruction("set", var(4), "5"),
+                        new LogicInstruction("set", var(5), "2"),
+                        new LogicInstruction("set", var(6), "5"),
+                        new LogicInstruction("set", var(7), "2"),
+                        new LogicInstruction("set", var(8), "1"),
+                        new LogicInstruction("set", var(9), "4"),
+                        new LogicInstruction("set", var(10), "-3"),
+                        new LogicInstruction("set", var(11), "3"),
+                        new LogicInstruction("set", var(12), "2.5"),
+                        new LogicInstruction("set", var(13), "2"),
+                        new LogicInstruction("set", var(14), "1"),
+                        new LogicInstruction("set", var(15), "3"),
+                        new LogicInstruction("set", var(16), "0.3333333333333333"),
+                        new LogicInstruction("print", "4"),
+                        new LogicInstruction("print", "5"),
+                        new LogicInstruction("print", "2"),
+                        new LogicInstruction("print", "3"),
+                        new LogicInstruction("print", "2"),
+                        new LogicInstruction("print", "0.3333333333333333"),
+                        new LogicInstruction("end")
+                ),
+                terminus.getResult()
+        );
+    }
+
+    @Test
+    void leavesRandomAndDeviceValuesAlone() {
+        LogicInstructionGenerator.generateInto(sut,
+                (Seq) translateToAst(
+                        "x = rand(10) + 1\ny = reactor1.heat * 2\nz = 1 / 0\n"
+                )
+        );
+
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("set", var(0), "10"),
+                        new LogicInstruction("op", "rand", var(1), "10"),
+                        new LogicInstruction("set", var(2), "1"),
+                        new LogicInstruction("op", "add", var(3), var(1), "1"),
+                        new LogicInstruction("set", "x", var(3)),
+                        new LogicInstruction("sensor", var(4), "reactor1", "@heat"),
+                        new LogicInstruction("set", var(5), "2"),
+                        new LogicInstruction("op", "mul", var(6), var(4), "2"),
+                        new LogicInstruction("set", "y", var(6)),
+                        new LogicInstruction("set", var(7), "1"),
+                        new LogicInstruction("set", var(8), "0"),
+                        new LogicInstruction("op", "div", var(9), "1", "0"),
+                        new LogicInstruction("set", "z", var(9)),
+                        new LogicInstruction("end")
+                ),
+                terminus.getResult()
+        );
+    }
+
+    @Test
+    void forgetsConstantsAtLabels() {
+        LogicInstructionGenerator.generateInto(sut,
+                (Seq) translateToAst(
+                        "n = 0\nwhile n < 10\n  n += 1\nend\n"
+                )
+        );
+
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("set", var(0), "0"),
+                        new LogicInstruction("set", "n", "0"),
+                        new LogicInstruction("label", var(1000)),
+                        new LogicInstruction("set", var(1), "10"),
+                        new LogicInstruction("op", "lessThan", var(2), "n", "10"),
+                        new LogicInstruction("jump", var(1001), "notEqual", var(2), "true"),
+                        new LogicInstruction("set", var(3), "1"),
+                        new LogicInstruction("op", "add", var(4), "n", "1"),
+                        new LogicInstruction("set", "n", var(4)),
+                        new LogicInstruction("jump", var(1000), "always"),
+                        new LogicInstruction("label", var(1001)),
+                        new LogicInstruction("end")
+                ),
+                terminus.getResult()
+        );
+    }
+
+    @Test
+    void foldsJumpsOnConstants() {
+        LogicInstructionGenerator.generateInto(sut,
+                (Seq) translateToAst(
+                        "DEBUG = false\nif DEBUG\n  print(\"debug\")\nend\n"
+                )
+        );
+
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("set", "DEBUG", "false"),
+                        new LogicInstruction("jump", var(1000), "always"),
+                        new LogicInstruction("set", var(1), "\"debug\""),
+                        new LogicInstruction("print", var(1)),
+                        new LogicInstruction("set", var(0), var(1)),
+                        new LogicInstruction("jump", var(1001), "always"),
+                        new LogicInstruction("label", var(1000)),
+                        new LogicInstruction("set", var(0), "null"),
+                        new LogicInstruction("label", var(1001)),
+                        new LogicInstruction("end")
+                ),
+                terminus.getResult()
+        );
+    }
+
+    @Test
+    void writesResultsAsMindustryParsesThem() {
+        assertEquals("3", ConstantFolder.literalOf(3.0));
+        assertEquals("-16", ConstantFolder.literalOf(-16.0));
+        assertEquals("0.25", ConstantFolder.literalOf(0.25));
+        assertEquals("10000000000", ConstantFolder.literalOf(1e10));
+        assertNull(ConstantFolder.literalOf(1e-10));
+        assertNull(ConstantFolder.literalOf(Double.NaN));
+        assertNull(ConstantFolder.literalOf(Double.POSITIVE_INFINITY));
+        assertEquals(15.0, ConstantFolder.valueOf("0xf"));
+        assertEquals(1.0, ConstantFolder.valueOf("true"));
+        assertNull(ConstantFolder.valueOf("@tick"));
+        assertNull(ConstantFolder.valueOf("\"12\""));
+    }
+}
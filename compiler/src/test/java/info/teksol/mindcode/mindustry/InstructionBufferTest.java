@@ -0,0 +1,52 @@
+package info.teksol.mindcode.mindustry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstructionBufferTest {
+    private final InstructionBuffer buffer = new InstructionBuffer();
+    private final AccumulatingLogicInstructionPipeline terminus = new AccumulatingLogicInstructionPipeline();
+
+    @Test
+    void sharesSymbolIdsBetweenInstructions() {
+        buffer.add(new LogicInstruction("set", "x", "1"));
+        buffer.add(new LogicInstruction("op", "add", "y", "x", "1"));
+
+        assertEquals(Opcode.OP, buffer.opcode(1));
+        assertEquals(4, buffer.argCount(1));
+        assertEquals(buffer.arg(0, 0), buffer.arg(1, 2));
+        assertEquals(buffer.arg(0, 1), buffer.arg(1, 3));
+        assertEquals("y", buffer.argName(1, 1));
+    }
+
+    @Test
+    void emitsUntouchedInstructionsAsIs() {
+        final LogicInstruction set = new LogicInstruction("set", "x", "1");
+        final LogicInstruction print = new LogicInstruction("print", "x");
+        buffer.add(set);
+        buffer.add(new LogicInstruction("set", "y", "2"));
+        buffer.add(print);
+
+        buffer.remove(1);
+        buffer.setArg(2, 0, buffer.getSymbols().id("y"));
+        buffer.emitTo(terminus);
+
+        assertEquals(List.of(set, new LogicInstruction("print", "y")), terminus.getResult());
+        assertSame(set, terminus.getResult().get(0));
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void growsPastItsInitialCapacity() {
+        for (int i = 0; i < 1000; i++) {
+            buffer.add(new LogicInstruction("ulocate", "ore", "core", "true", "@copper", "x" + i, "y", "found", "building"));
+        }
+
+        assertFalse(buffer.isRemoved(999));
+        assertEquals("x999", buffer.argName(999, 4));
+        assertEquals(8, buffer.argCount(999));
+    }
+}
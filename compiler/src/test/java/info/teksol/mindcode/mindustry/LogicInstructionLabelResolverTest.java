@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 class LogicInstructionLabelResolverTest extends AbstractGeneratorTest {
     @Test
     void resolvesAbsoluteAddressesOfLabels() {
@@ -83,4 +85,119 @@ class LogicInstructionLabelResolverTest extends AbstractGeneratorTest {
                 )
         );
     }
+
+    @Test
+    void resolvesLabelsUsedInCounterArithmetic() {
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("op", "add", "@counter", "2", "index"),
+                        new LogicInstruction("end"),
+                        new LogicInstruction("set", "result", "\"zero\""),
+                        new LogicInstruction("jump", "0", "always")
+                ),
+                LogicInstructionLabelResolver.resolve(
+                        List.of(
+                                new LogicInstruction("label", "__label0"),
+                                new LogicInstruction("op", "add", "@counter", "__label1", "index"),
+                                new LogicInstruction("end"),
+                                new LogicInstruction("label", "__label1"),
+                                new LogicInstruction("set", "result", "\"zero\""),
+                                new LogicInstruction("jump", "__label0", "always")
+                        )
+                )
+        );
+    }
+
+    @Test
+    void leavesVariablesNamedLikeUndefinedLabelsAlone() {
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("set", "x", "__label7"),
+                        new LogicInstruction("write", "__label8", "cell1", "0"),
+                        new LogicInstruction("op", "add", "@counter", "__label9", "1"),
+                        new LogicInstruction("set", "y", "0"),
+                        new LogicInstruction("jump", "0", "always")
+                ),
+                LogicInstructionLabelResolver.resolve(
+                        List.of(
+                                new LogicInstruction("label", "__label0"),
+                                new LogicInstruction("set", "x", "__label7"),
+                                new LogicInstruction("write", "__label8", "cell1", "0"),
+                                new LogicInstruction("op", "add", "@counter", "__label9", "1"),
+                                new LogicInstruction("set", "y", "__label0"),
+                                new LogicInstruction("jump", "__label0", "always")
+                        )
+                )
+        );
+    }
+
+    @Test
+    void leavesVariablesNamedLikeLabelsDroppedByTheOptimizersAlone() {
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("set", "x", "__label1"),
+                        new LogicInstruction("set", "y", "__label01"),
+                        new LogicInstruction("jump", "0", "always")
+                ),
+                LogicInstructionLabelResolver.resolve(
+                        List.of(
+                                new LogicInstruction("label", "__label0"),
+                                new LogicInstruction("set", "x", "__label1"),
+                                new LogicInstruction("set", "y", "__label01"),
+                                new LogicInstruction("jump", "__label0", "always"),
+                                new LogicInstruction("label", "__label2")
+                        )
+                )
+        );
+    }
+
+    @Test
+    void leavesVariablesNamedLikeHugeLabelsAlone() {
+        final List<LogicInstruction> program = List.of(
+                new LogicInstruction("set", "x", "__label300000000"),
+                new LogicInstruction("set", "y", "__label2147483647"),
+                new LogicInstruction("set", "z", "__label99999999999999999999"),
+                new LogicInstruction("end")
+        );
+
+        assertLogicInstructionsMatch(program, LogicInstructionLabelResolver.resolve(program));
+    }
+
+    @Test
+    void rejectsDuplicateLabels() {
+        assertThrows(GenerationException.class, () ->
+                LogicInstructionLabelResolver.resolve(
+                        List.of(
+                                new LogicInstruction("label", "__label0"),
+                                new LogicInstruction("end"),
+                                new LogicInstruction("label", "__label0")
+                        )
+                )
+        );
+    }
+
+    @Test
+    void rejectsJumpsToMissingLabels() {
+        assertThrows(GenerationException.class, () ->
+                LogicInstructionLabelResolver.resolve(
+                        List.of(
+                                new LogicInstruction("jump", "__label7", "always"),
+                                new LogicInstruction("end")
+                        )
+                )
+        );
+    }
+
+    @Test
+    void rejectsJumpsToLabelsDroppedByTheOptimizers() {
+        assertThrows(GenerationException.class, () ->
+                LogicInstructionLabelResolver.resolve(
+                        List.of(
+                                new LogicInstruction("jump", "__label1", "always"),
+                                new LogicInstruction("label", "__label2"),
+                                new LogicInstruction("end")
+                        )
+                )
+        );
+    }
 }
@@ -4,6 +4,10 @@ import info.teksol.mindcode.AbstractAstTest;
 import info.teksol.mindcode.ast.Seq;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class LogicInstructionPrinterTest extends AbstractAstTest {
@@ -98,6 +102,21 @@ class LogicInstructionPrinterTest extends AbstractAstTest {
         );
     }
 
+    @Test
+    void printsToAWriterAndCountsLines() throws IOException {
+        final List<LogicInstruction> program = LogicInstructionLabelResolver.resolve(
+                LogicInstructionGenerator.generateAndOptimize(
+                        (Seq) translateToAst("n = 0\nwhile n < 10\n  n += 1\nend\nprint(n)\n")
+                )
+        );
+
+        final StringWriter out = new StringWriter();
+        final int lines = LogicInstructionPrinter.print(program, out);
+
+        assertEquals(LogicInstructionPrinter.toString(program), out.toString());
+        assertEquals(out.toString().split("\n").length, lines);
+    }
+
     @Test
     void correctlyDrawsTriangles() {
         assertEquals(
@@ -39,14 +39,13 @@ class OptimizedLogicInstructionGeneratorTest extends AbstractGeneratorTest {
         assertLogicInstructionsMatch(
                 List.of(
                         new LogicInstruction("write", "48", "cell1", "48"),
-                        new LogicInstruction("set", var(2), "4"),
                         new LogicInstruction("read", var(3), "cell1", "48"),
                         new LogicInstruction("op", "sub", var(3), var(3), "1"),
                         new LogicInstruction("write", var(1001), "cell1", var(3)),
                         new LogicInstruction("write", var(3), "cell1", "48"),
                         new LogicInstruction("read", var(9), "cell1", "48"),
                         new LogicInstruction("op", "sub", var(9), var(9), "1"),
-                        new LogicInstruction("write", var(2), "cell1", var(9)),
+                        new LogicInstruction("write", "4", "cell1", var(9)),
                         new LogicInstruction("write", var(9), "cell1", "48"),
                         new LogicInstruction("set", "@counter", var(1000)),
                         new LogicInstruction("label", var(1001)),
@@ -54,14 +53,13 @@ class OptimizedLogicInstructionGeneratorTest extends AbstractGeneratorTest {
                         new LogicInstruction("read", var(15), "cell1", var(16)),
                         new LogicInstruction("op", "add", var(16), var(16), "1"),
                         new LogicInstruction("write", var(16), "cell1", "48"),
-                        new LogicInstruction("set", var(23), "5"),
                         new LogicInstruction("read", var(24), "cell1", "48"),
                         new LogicInstruction("op", "sub", var(24), var(24), "1"),
                         new LogicInstruction("write", var(1002), "cell1", var(24)),
                         new LogicInstruction("write", var(24), "cell1", "48"),
                         new LogicInstruction("read", var(30), "cell1", "48"),
                         new LogicInstruction("op", "sub", var(30), var(30), "1"),
-                        new LogicInstruction("write", var(23), "cell1", var(30)),
+                        new LogicInstruction("write", "5", "cell1", var(30)),
                         new LogicInstruction("write", var(30), "cell1", "48"),
                         new LogicInstruction("set", "@counter", var(1000)),
                         new LogicInstruction("label", var(1002)),
@@ -114,9 +112,7 @@ class OptimizedLogicInstructionGeneratorTest extends AbstractGeneratorTest {
 
         assertLogicInstructionsMatch(
                 List.of(
-                        new LogicInstruction("set", "x", "41"),
-                        new LogicInstruction("set", "y", "72"),
-                        new LogicInstruction("op", "add", "pos", "x", "y"),
+                        new LogicInstruction("set", "pos", "113"),
                         new LogicInstruction("set", var(3), "40"),
                         new LogicInstruction("ucontrol", "move", var(3), "pos"),
                         new LogicInstruction("end")
@@ -126,7 +122,7 @@ class OptimizedLogicInstructionGeneratorTest extends AbstractGeneratorTest {
     }
 
     @Test
-    void setThenReadPrefersUserSpecifiedNames() {
+    void readsFromConstantAddresses() {
         final List<LogicInstruction> result = LogicInstructionGenerator.generateAndOptimize(
                 (Seq) translateToAst(
                         "" +
@@ -137,10 +133,32 @@ class OptimizedLogicInstructionGeneratorTest extends AbstractGeneratorTest {
 
         assertLogicInstructionsMatch(
                 List.of(
-                        new LogicInstruction("set", "addr_FLAG", "0"),
-                        new LogicInstruction("read", var(0), "cell1", "addr_FLAG"),
-                        new LogicInstruction("op", "equal", var(1), var(0), "0"),
-                        new LogicInstruction("control", "enabled", "conveyor1", var(1)),
+                        new LogicInstruction("read", var(1), "cell1", "0"),
+                        new LogicInstruction("op", "equal", var(3), var(1), "0"),
+                        new LogicInstruction("control", "enabled", "conveyor1", var(3)),
+                        new LogicInstruction("end")
+                ),
+                result
+        );
+    }
+
+    @Test
+    void sensesEachPropertyOnce() {
+        final List<LogicInstruction> result = LogicInstructionGenerator.generateAndOptimize(
+                (Seq) translateToAst(
+                        "reactor1.enabled = reactor1.cryofluid > 10 && reactor1.cryofluid / reactor1.liquidCapacity >= 0.25\n"
+                )
+        );
+
+        assertLogicInstructionsMatch(
+                List.of(
+                        new LogicInstruction("sensor", var(0), "reactor1", "@cryofluid"),
+                        new LogicInstruction("op", "greaterThan", var(2), var(0), "10"),
+                        new LogicInstruction("sensor", var(4), "reactor1", "@liquidCapacity"),
+                        new LogicInstruction("op", "div", var(5), var(0), var(4)),
+                        new LogicInstruction("op", "greaterThanEq", var(7), var(5), "0.25"),
+                        new LogicInstruction("op", "land", var(8), var(2), var(7)),
+                        new LogicInstruction("control", "enabled", "reactor1", var(8)),
                         new LogicInstruction("end")
                 ),
                 result
@@ -300,13 +318,10 @@ class OptimizedLogicInstructionGeneratorTest extends AbstractGeneratorTest {
 
         assertLogicInstructionsMatch(
                 List.of(
-                        new LogicInstruction("set", "x", "1"),
-                        new LogicInstruction("set", var(2), "\"\\nx+x: \""),
                         new LogicInstruction("print", "\"\\nx: \""),
-                        new LogicInstruction("print", "x"),
-                        new LogicInstruction("op", "add", var(3), "x", "x"),
-                        new LogicInstruction("print", var(2)),
-                        new LogicInstruction("print", var(3)),
+                        new LogicInstruction("print", "1"),
+                        new LogicInstruction("print", "\"\\nx+x: \""),
+                        new LogicInstruction("print", "2"),
                         new LogicInstruction("end")
                 ),
                 result
@@ -369,11 +384,9 @@ class OptimizedLogicInstructionGeneratorTest extends AbstractGeneratorTest {
 
         assertLogicInstructionsMatch(
                 List.of(
-                        new LogicInstruction("set", "TestVar", "0xf"),
-                        new LogicInstruction("op", "not", "Result", "TestVar"),
-                        new LogicInstruction("print", "TestVar"),
+                        new LogicInstruction("print", "0xf"),
                         new LogicInstruction("print", "\"\\n\""),
-                        new LogicInstruction("print", "Result"),
+                        new LogicInstruction("print", "-16"),
                         new LogicInstruction("end")
                 ),
                 result
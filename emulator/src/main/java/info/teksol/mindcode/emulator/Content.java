@@ -0,0 +1,39 @@
+package info.teksol.mindcode.emulator;
+
+import java.util.Objects;
+
+/**
+ * A built-in constant that is neither a number nor one of the processor's own variables, such as {@code @copper},
+ * {@code @poly} or {@code @totalItems}; two contents are equal when their names are.
+ */
+public final class Content {
+    private final String name;
+
+    public Content(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return the name, without the leading {@code @}
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return name.equals(((Content) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
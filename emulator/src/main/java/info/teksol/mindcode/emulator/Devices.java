@@ -0,0 +1,42 @@
+package info.teksol.mindcode.emulator;
+
+/**
+ * Stands in for the world around the processor: the blocks it senses and the units it binds and controls.
+ * <p>
+ * Values are answered as Mindustry holds them: a {@link Number} or {@link Boolean} is a number, anything else is an
+ * object, and null is {@code null}. Every method answers null by default, as if the processor were alone in the world.
+ */
+public interface Devices {
+    Devices NONE = new Devices() {
+    };
+
+    /**
+     * {@code sensor result target property}
+     *
+     * @param target   the block or unit being sensed, such as a {@link MemoryCell}, or null
+     * @param property what is sensed, usually a {@link Content} such as {@code @totalItems}
+     */
+    default Object sensor(Object target, Object property) {
+        return null;
+    }
+
+    /**
+     * {@code ubind type}
+     *
+     * @return the unit to assign to {@code @unit}, or null when there is no unit of that type
+     */
+    default Object ubind(Object type) {
+        return null;
+    }
+
+    /**
+     * {@code ucontrol command p1 p2 p3 p4 p5}
+     *
+     * @param unit      the value of {@code @unit}
+     * @param arguments the values of {@code p1} to {@code p5}
+     * @return the result of {@code within} or the building of {@code getBlock}, ignored for other commands
+     */
+    default Object ucontrol(Object unit, String command, Object[] arguments) {
+        return null;
+    }
+}
@@ -0,0 +1,533 @@
+package info.teksol.mindcode.emulator;
+
+import info.teksol.mindcode.mindustry.LogicInstruction;
+import info.teksol.mindcode.mindustry.LogicInstructionLabelResolver;
+import info.teksol.mindcode.mindustry.Operation;
+
+import java.util.*;
+
+/**
+ * Runs Mindustry Logic, as {@link LogicInstructionLabelResolver#resolve(List)} produces it, the way a processor does,
+ * and counts how many times each instruction executes.
+ * <p>
+ * Variables follow Mindustry's rules: a variable holds either a number or an object, and starts out as {@code null}.
+ * Objects read as numbers are 1, or 0 when null; numbers that aren't finite are stored as {@code null}. Literals,
+ * built-in constants such as {@code @copper}, and the names of linked blocks are constants, which instructions can't
+ * change. {@code @counter} holds the address of the next instruction: writing it jumps, and once it runs past the
+ * last instruction, the program starts over from the first one.
+ * <p>
+ * {@code read} and {@code write} work on linked {@link MemoryCell}s, {@code printflush} on linked
+ * {@link MessageBlock}s, and {@code getlink} answers the linked blocks in the order they were linked. {@code sensor},
+ * {@code ubind} and {@code ucontrol} ask the {@link Devices}. {@code ulocate} never finds anything and {@code uradar}
+ * never sees anything, while {@code control}, {@code draw} and {@code drawflush} do nothing. {@code @tick} and
+ * {@code @time} advance with the instructions executed, at the given number of instructions per tick, unless
+ * {@linkplain #skipWaits() waits are skipped}.
+ */
+public class LogicEmulator {
+    /**
+     * Mindustry ignores {@code print}s once the text buffer holds this many characters.
+     */
+    static final int MAX_TEXT_BUFFER = 400;
+
+    /**
+     * Instructions a micro-processor runs per game tick.
+     */
+    public static final int MICRO_PROCESSOR_INSTRUCTIONS_PER_TICK = 2;
+
+    /**
+     * Game ticks in a day, which each instruction lasts once waits are skipped.
+     */
+    private static final long TICKS_PER_DAY = 60L * 60 * 60 * 24;
+
+    private static final int COUNTER = 0;
+    private static final int TICK = 1;
+    private static final int TIME = 2;
+
+    private final Object[] links;
+    private final Devices devices;
+    private final Random random;
+    private final int instructionsPerTick;
+    private boolean skipWaits;
+
+    // Variables by slot: a slot holds a number when isObject is false, an object (possibly null) otherwise
+    private final Map<String, Integer> slots = new HashMap<>();
+    private boolean[] constant = new boolean[32];
+    private boolean[] isObject = new boolean[32];
+    private double[] numbers = new double[32];
+    private Object[] objects = new Object[32];
+    private int slotCount;
+    private int variableCount;
+    private final int unitSlot;
+
+    private final Instruction[] instructions;
+    private final long[] executions;
+    private long steps;
+    private long cellReads;
+    private long cellWrites;
+    private final StringBuilder textBuffer = new StringBuilder();
+
+    public LogicEmulator(List<LogicInstruction> program) {
+        this(program, Map.of(), Devices.NONE, MICRO_PROCESSOR_INSTRUCTIONS_PER_TICK, 0);
+    }
+
+    /**
+     * @param links               the blocks linked to the processor, by name, such as {@code cell1} or
+     *                            {@code message1}, in the order {@code getlink} answers them
+     * @param devices             answers {@code sensor}, {@code ubind} and {@code ucontrol}
+     * @param instructionsPerTick how many instructions run per game tick, which drives {@code @tick} and
+     *                            {@code @time}
+     * @param seed                seeds {@code op rand}, so that runs can be repeated
+     */
+    public LogicEmulator(List<LogicInstruction> program, Map<String, ?> links, Devices devices, int instructionsPerTick, long seed) {
+        if (instructionsPerTick < 1) throw new IllegalArgumentException("instructionsPerTick must be positive, was " + instructionsPerTick);
+        this.links = links.values().toArray();
+        this.devices = devices;
+        this.instructionsPerTick = instructionsPerTick;
+        this.random = new Random(seed);
+
+        addSlot("@counter", false, false, 0, null);
+        addSlot("@tick", true, false, 0, null);
+        addSlot("@time", true, false, 0, null);
+        unitSlot = addSlot("@unit", false, true, 0, null);
+        addSlot("@links", true, false, this.links.length, null);
+        for (final Map.Entry<String, ?> link : links.entrySet()) {
+            addSlot(link.getKey(), true, true, 0, link.getValue());
+        }
+
+        instructions = new Instruction[program.size()];
+        executions = new long[program.size()];
+        for (int i = 0; i < instructions.length; i++) {
+            instructions[i] = decode(program.get(i));
+        }
+    }
+
+    /**
+     * Executes instructions until {@code maxSteps} of them have run.
+     *
+     * @return the number of instructions executed, which is 0 for an empty program
+     */
+    public long run(long maxSteps) {
+        if (instructions.length == 0) return 0;
+
+        for (long i = 0; i < maxSteps; i++) {
+            step();
+        }
+
+        return maxSteps;
+    }
+
+    /**
+     * Executes instructions until the program reaches its end, either by running past its last instruction or by
+     * executing {@code end}, or until {@code maxSteps} of them have run, whichever comes first.
+     *
+     * @return the number of instructions executed
+     */
+    public long runUntilEnd(long maxSteps) {
+        for (long i = 0; i < maxSteps; i++) {
+            if (instructions.length == 0) return i;
+            step();
+            if (num(COUNTER) >= instructions.length) return i + 1;
+        }
+
+        return maxSteps;
+    }
+
+    /**
+     * Lets a day of game time pass with every instruction from now on, so that a program busy-waiting on
+     * {@code @tick} or {@code @time} is done waiting the first time it checks the clock: the number of instructions
+     * it executes then depends neither on how long it waits, nor on where the ticks fall.
+     */
+    public void skipWaits() {
+        skipWaits = true;
+    }
+
+    private void step() {
+        int address = (int) num(COUNTER);
+        if (address < 0 || address >= instructions.length) address = 0;
+
+        numbers[COUNTER] = address + 1;
+        isObject[COUNTER] = false;
+        // Game time only advances between ticks; a tick lasts 1/60th of a second
+        final long tick = skipWaits ? steps * TICKS_PER_DAY : steps / instructionsPerTick;
+        numbers[TICK] = tick;
+        numbers[TIME] = tick * 1000.0 / 60;
+        executions[address]++;
+        steps++;
+        instructions[address].execute();
+    }
+
+    public int getInstructionCount() {
+        return instructions.length;
+    }
+
+    /**
+     * @return how many times the instruction at each address executed
+     */
+    public long[] getExecutionCounts() {
+        return executions.clone();
+    }
+
+    public long getExecutionCount(int address) {
+        return executions[address];
+    }
+
+    /**
+     * @return the number of instructions executed since the emulator was created
+     */
+    public long getSteps() {
+        return steps;
+    }
+
+    /**
+     * @return the number of game ticks the executed instructions took
+     */
+    public double getTicks() {
+        return skipWaits ? (double) steps * TICKS_PER_DAY : (double) steps / instructionsPerTick;
+    }
+
+    /**
+     * @return the number of distinct variables the program uses, not counting literals, built-ins and linked blocks
+     */
+    public int getVariableCount() {
+        return variableCount;
+    }
+
+    /**
+     * @return the number of {@code read}s, then {@code write}s, executed against memory cells
+     */
+    public long getCellReads() {
+        return cellReads;
+    }
+
+    public long getCellWrites() {
+        return cellWrites;
+    }
+
+    /**
+     * @return what was printed since the last {@code printflush}
+     */
+    public String getTextBuffer() {
+        return textBuffer.toString();
+    }
+
+    /**
+     * @return the value of a variable: a {@link Double} when it holds a number, the object it holds otherwise
+     * @throws IllegalArgumentException if the program never mentions the variable
+     */
+    public Object getVariable(String name) {
+        final Integer slot = slots.get(name);
+        if (slot == null) throw new IllegalArgumentException("No variable named " + name);
+        return isObject[slot] ? objects[slot] : (Object) numbers[slot];
+    }
+
+    // Decoding
+
+    @FunctionalInterface
+    private interface Instruction {
+        void execute();
+    }
+
+    private Instruction decode(LogicInstruction instruction) {
+        final List<String> args = instruction.getArgs();
+        switch (instruction.getOpcode()) {
+            case SET: {
+                final int to = slot(arg(args, 0));
+                final int from = slot(arg(args, 1));
+                return () -> copy(to, from);
+            }
+
+            case OP: {
+                final Operation operation = Operation.fromName(arg(args, 0));
+                final int result = slot(arg(args, 1));
+                final int a = slot(arg(args, 2));
+                final int b = slot(arg(args, 3));
+                return () -> setNumber(result, evaluate(operation, a, b));
+            }
+
+            case JUMP: {
+                final int address = Integer.parseInt(arg(args, 0));
+                final Operation condition = Operation.fromName(arg(args, 1));
+                final int a = slot(arg(args, 2));
+                final int b = slot(arg(args, 3));
+                if (condition == Operation.ALWAYS) return () -> numbers[COUNTER] = address;
+                return () -> {
+                    if (evaluate(condition, a, b) != 0) setNumber(COUNTER, address);
+                };
+            }
+
+            case END:
+                return () -> setNumber(COUNTER, instructions.length);
+
+            case PRINT: {
+                final int value = slot(arg(args, 0));
+                return () -> print(value);
+            }
+
+            case PRINTFLUSH: {
+                final int target = slot(arg(args, 0));
+                return () -> {
+                    if (objectOf(target) instanceof MessageBlock) ((MessageBlock) objectOf(target)).flush(textBuffer.toString());
+                    textBuffer.setLength(0);
+                };
+            }
+
+            case READ: {
+                final int result = slot(arg(args, 0));
+                final int cell = slot(arg(args, 1));
+                final int index = slot(arg(args, 2));
+                return () -> read(result, cell, index);
+            }
+
+            case WRITE: {
+                final int value = slot(arg(args, 0));
+                final int cell = slot(arg(args, 1));
+                final int index = slot(arg(args, 2));
+                return () -> write(value, cell, index);
+            }
+
+            case GETLINK: {
+                final int result = slot(arg(args, 0));
+                final int index = slot(arg(args, 1));
+                return () -> {
+                    final int link = (int) num(index);
+                    setObject(result, link >= 0 && link < links.length ? links[link] : null);
+                };
+            }
+
+            case SENSOR: {
+                final int result = slot(arg(args, 0));
+                final int target = slot(arg(args, 1));
+                final int property = slot(arg(args, 2));
+                return () -> setValue(result, devices.sensor(objectOf(target), valueOf(property)));
+            }
+
+            case UBIND: {
+                final int type = slot(arg(args, 0));
+                return () -> setValue(unitSlot, devices.ubind(valueOf(type)));
+            }
+
+            case UCONTROL: {
+                final String command = arg(args, 0);
+                final int[] parameters = new int[5];
+                for (int i = 0; i < parameters.length; i++) {
+                    parameters[i] = slot(arg(args, i + 1));
+                }
+                // within answers in p4; getBlock answers the block type in p3, and the building in p4
+                final int output = command.equals("within") || command.equals("getBlock") ? parameters[3] : -1;
+                final int typeOutput = command.equals("getBlock") ? parameters[2] : -1;
+                return () -> {
+                    final Object[] values = new Object[parameters.length];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = valueOf(parameters[i]);
+                    }
+                    final Object answer = devices.ucontrol(objectOf(unitSlot), command, values);
+                    if (typeOutput >= 0) setObject(typeOutput, null);
+                    if (output >= 0) setValue(output, answer);
+                };
+            }
+
+            case ULOCATE: {
+                // ulocate kind group enemy ore outX outY found building
+                final int outX = slot(arg(args, 4));
+                final int outY = slot(arg(args, 5));
+                final int found = slot(arg(args, 6));
+                final int building = slot(arg(args, 7));
+                return () -> {
+                    setObject(outX, null);
+                    setObject(outY, null);
+                    setNumber(found, 0);
+                    setObject(building, null);
+                };
+            }
+
+            case URADAR: {
+                final int result = slot(arg(args, 6));
+                return () -> setObject(result, null);
+            }
+
+            case CONTROL:
+            case DRAW:
+            case DRAWFLUSH:
+                return () -> {
+                };
+
+            case LABEL:
+                throw new IllegalArgumentException("Labels must be resolved before emulating: " + instruction);
+
+            default:
+                throw new IllegalArgumentException("Unsupported instruction: " + instruction);
+        }
+    }
+
+    private static String arg(List<String> args, int position) {
+        // Like the printer, treat missing operands as zeroes
+        return position < args.size() ? args.get(position) : "0";
+    }
+
+    private int slot(String token) {
+        final Integer existing = slots.get(token);
+        if (existing != null) return existing;
+
+        if (token.equals("null")) return addSlot(token, true, true, 0, null);
+        if (token.equals("true")) return addSlot(token, true, false, 1, null);
+        if (token.equals("false")) return addSlot(token, true, false, 0, null);
+        if (token.length() >= 2 && token.startsWith("\"") && token.endsWith("\"")) {
+            return addSlot(token, true, true, 0, token.substring(1, token.length() - 1).replace("\\n", "\n"));
+        }
+        if (token.startsWith("@")) {
+            // @this is the processor, which the program can only pass around
+            if (token.equals("@this")) return addSlot(token, true, true, 0, null);
+            return addSlot(token, true, true, 0, new Content(token.substring(1)));
+        }
+
+        final OptionalDouble number = parseNumber(token);
+        if (number.isPresent()) return addSlot(token, true, false, number.getAsDouble(), null);
+
+        variableCount++;
+        return addSlot(token, false, true, 0, null);
+    }
+
+    private static OptionalDouble parseNumber(String token) {
+        final boolean negative = token.startsWith("-");
+        final String digits = negative ? token.substring(1) : token;
+        if (digits.isEmpty() || !(Character.isDigit(digits.charAt(0)) || digits.charAt(0) == '.')) return OptionalDouble.empty();
+
+        try {
+            final double value;
+            if (digits.startsWith("0x")) {
+                value = Long.parseLong(digits.substring(2), 16);
+            } else if (digits.startsWith("0b")) {
+                value = Long.parseLong(digits.substring(2), 2);
+            } else {
+                value = Double.parseDouble(digits);
+            }
+            return OptionalDouble.of(negative ? -value : value);
+        } catch (NumberFormatException e) {
+            return OptionalDouble.empty();
+        }
+    }
+
+    private int addSlot(String name, boolean isConstant, boolean holdsObject, double number, Object object) {
+        if (slotCount == constant.length) {
+            final int capacity = 2 * slotCount;
+            constant = Arrays.copyOf(constant, capacity);
+            isObject = Arrays.copyOf(isObject, capacity);
+            numbers = Arrays.copyOf(numbers, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+        }
+
+        final int slot = slotCount++;
+        constant[slot] = isConstant;
+        isObject[slot] = holdsObject;
+        numbers[slot] = number;
+        objects[slot] = object;
+        slots.put(name, slot);
+        return slot;
+    }
+
+    // Execution
+
+    private double num(int slot) {
+        return isObject[slot] ? (objects[slot] != null ? 1 : 0) : numbers[slot];
+    }
+
+    private Object objectOf(int slot) {
+        return isObject[slot] ? objects[slot] : null;
+    }
+
+    private Object valueOf(int slot) {
+        return isObject[slot] ? objects[slot] : (Object) numbers[slot];
+    }
+
+    private void setNumber(int slot, double value) {
+        if (constant[slot]) return;
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            isObject[slot] = true;
+            objects[slot] = null;
+        } else {
+            isObject[slot] = false;
+            numbers[slot] = value;
+        }
+    }
+
+    private void setObject(int slot, Object value) {
+        if (constant[slot]) return;
+        isObject[slot] = true;
+        objects[slot] = value;
+    }
+
+    private void setValue(int slot, Object value) {
+        if (value instanceof Number) {
+            setNumber(slot, ((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            setNumber(slot, (Boolean) value ? 1 : 0);
+        } else {
+            setObject(slot, value);
+        }
+    }
+
+    private void copy(int to, int from) {
+        if (isObject[from]) {
+            setObject(to, objects[from]);
+        } else {
+            setNumber(to, numbers[from]);
+        }
+    }
+
+    private double evaluate(Operation operation, int a, int b) {
+        switch (operation) {
+            case EQUAL:
+            case NOT_EQUAL:
+                if (isObject[a] && isObject[b]) {
+                    return Objects.equals(objects[a], objects[b]) == (operation == Operation.EQUAL) ? 1 : 0;
+                }
+                return operation.apply(num(a), num(b));
+
+            case STRICT_EQUAL:
+                if (isObject[a] != isObject[b]) return 0;
+                return (isObject[a] ? Objects.equals(objects[a], objects[b]) : numbers[a] == numbers[b]) ? 1 : 0;
+
+            case RAND:
+                return random.nextDouble() * num(a);
+
+            default:
+                return operation.apply(num(a), num(b));
+        }
+    }
+
+    private void print(int slot) {
+        if (textBuffer.length() >= MAX_TEXT_BUFFER) return;
+
+        if (isObject[slot]) {
+            textBuffer.append(objects[slot] == null ? "null" : objects[slot].toString());
+        } else {
+            final double value = numbers[slot];
+            if (Math.abs(value - (long) value) < 0.00001) {
+                textBuffer.append((long) value);
+            } else {
+                textBuffer.append(value);
+            }
+        }
+    }
+
+    private void read(int result, int cell, int index) {
+        if (!(objectOf(cell) instanceof MemoryCell)) return;
+
+        final MemoryCell memory = (MemoryCell) objectOf(cell);
+        final int address = (int) num(index);
+        memory.countRead();
+        cellReads++;
+        // Like Mindustry, reading past either end of the cell gives 0
+        setNumber(result, memory.contains(address) ? memory.get(address) : 0);
+    }
+
+    private void write(int value, int cell, int index) {
+        if (!(objectOf(cell) instanceof MemoryCell)) return;
+
+        final MemoryCell memory = (MemoryCell) objectOf(cell);
+        final int address = (int) num(index);
+        memory.countWrite();
+        cellWrites++;
+        if (memory.contains(address)) memory.set(address, num(value));
+    }
+}
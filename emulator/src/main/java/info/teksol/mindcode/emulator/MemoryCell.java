@@ -0,0 +1,57 @@
+package info.teksol.mindcode.emulator;
+
+/**
+ * A memory cell or memory bank: a fixed number of numeric slots, all zero initially, that counts how often the
+ * program reads and writes it.
+ */
+public class MemoryCell {
+    /**
+     * Capacity of a memory cell; a memory bank holds {@link #BANK_CAPACITY}.
+     */
+    public static final int CELL_CAPACITY = 64;
+    public static final int BANK_CAPACITY = 512;
+
+    private final double[] memory;
+    private long reads;
+    private long writes;
+
+    public MemoryCell() {
+        this(CELL_CAPACITY);
+    }
+
+    public MemoryCell(int capacity) {
+        this.memory = new double[capacity];
+    }
+
+    public int getCapacity() {
+        return memory.length;
+    }
+
+    public double get(int address) {
+        return memory[address];
+    }
+
+    public void set(int address, double value) {
+        memory[address] = value;
+    }
+
+    public long getReads() {
+        return reads;
+    }
+
+    public long getWrites() {
+        return writes;
+    }
+
+    boolean contains(int address) {
+        return address >= 0 && address < memory.length;
+    }
+
+    void countRead() {
+        reads++;
+    }
+
+    void countWrite() {
+        writes++;
+    }
+}
@@ -0,0 +1,22 @@
+package info.teksol.mindcode.emulator;
+
+/**
+ * A message block, holding the text of the last {@code printflush} aimed at it.
+ */
+public class MessageBlock {
+    private String text = "";
+    private long flushes;
+
+    public String getText() {
+        return text;
+    }
+
+    public long getFlushes() {
+        return flushes;
+    }
+
+    void flush(String newText) {
+        text = newText;
+        flushes++;
+    }
+}
@@ -0,0 +1,228 @@
+package info.teksol.mindcode.emulator;
+
+import info.teksol.mindcode.MindcodeCompiler;
+import info.teksol.mindcode.Tuple2;
+import info.teksol.mindcode.mindustry.LogicInstruction;
+import info.teksol.mindcode.mindustry.Opcode;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogicEmulatorTest {
+    @Test
+    void runsLoopsAndCountsEachInstruction() {
+        final MessageBlock message = new MessageBlock();
+        final LogicEmulator emulator = emulate(
+                "n = 0\n" +
+                        "while n < 10\n" +
+                        "  n += 1\n" +
+                        "end\n" +
+                        "print(\"n=\", n)\n" +
+                        "printflush(message1)\n" +
+                        "end()",
+                Map.of("message1", message), Devices.NONE);
+
+        final long steps = emulator.runUntilEnd(10_000);
+
+        assertEquals("n=10", message.getText());
+        assertEquals(10.0, emulator.getVariable("n"));
+        assertEquals(steps, emulator.getSteps());
+        assertEquals(steps, sum(emulator.getExecutionCounts()));
+        // The loop's body runs ten times, the first instruction once
+        assertEquals(1, emulator.getExecutionCount(0));
+        assertTrue(max(emulator.getExecutionCounts()) >= 10);
+    }
+
+    @Test
+    void readsAndWritesMemoryCells() {
+        final MemoryCell cell = new MemoryCell();
+        final LogicEmulator emulator = emulate(
+                "cell1[0] = 21\n" +
+                        "cell1[1] = cell1[0] * 2\n" +
+                        "cell1[99] = 1\n" +
+                        "end()",
+                Map.of("cell1", cell), Devices.NONE);
+
+        emulator.runUntilEnd(100);
+
+        assertEquals(21.0, cell.get(0));
+        assertEquals(42.0, cell.get(1));
+        assertEquals(1, emulator.getCellReads());
+        assertEquals(3, emulator.getCellWrites());
+        assertEquals(3, cell.getWrites());
+    }
+
+    @Test
+    void readsZeroPastEitherEndOfACell() {
+        final LogicEmulator emulator = new LogicEmulator(List.of(
+                new LogicInstruction(Opcode.SET, "x", "5"),
+                new LogicInstruction(Opcode.SET, "y", "5"),
+                new LogicInstruction(Opcode.READ, "x", "cell1", "99"),
+                new LogicInstruction(Opcode.READ, "y", "cell1", "-1"),
+                new LogicInstruction(Opcode.END)),
+                Map.of("cell1", new MemoryCell()), Devices.NONE, LogicEmulator.MICRO_PROCESSOR_INSTRUCTIONS_PER_TICK, 0);
+
+        emulator.runUntilEnd(10);
+
+        assertEquals(0.0, emulator.getVariable("x"));
+        assertEquals(0.0, emulator.getVariable("y"));
+        assertEquals(2, emulator.getCellReads());
+    }
+
+    @Test
+    void callsFunctionsThroughTheStack() {
+        final Map<String, Object> links = new LinkedHashMap<>();
+        links.put("bank1", new MemoryCell(MemoryCell.BANK_CAPACITY));
+        links.put("message1", new MessageBlock());
+        final LogicEmulator emulator = emulate(
+                "allocate stack in bank1[0...512]\n" +
+                        "def double(n)\n" +
+                        "  n * 2\n" +
+                        "end\n" +
+                        "def quadruple(n)\n" +
+                        "  double(double(n))\n" +
+                        "end\n" +
+                        "print(quadruple(5))\n" +
+                        "printflush(message1)\n" +
+                        "end()",
+                links, Devices.NONE);
+
+        emulator.runUntilEnd(1_000_000);
+
+        assertEquals("20", ((MessageBlock) links.get("message1")).getText());
+        assertTrue(emulator.getCellReads() > 0);
+    }
+
+    @Test
+    void asksTheDevicesAboutTheWorld() {
+        final Map<String, Object> links = new LinkedHashMap<>();
+        links.put("reactor1", "reactor");
+        links.put("message1", new MessageBlock());
+        final Devices devices = new Devices() {
+            @Override
+            public Object sensor(Object target, Object property) {
+                return target.equals("reactor") && property.equals(new Content("heat")) ? 0.5 : null;
+            }
+
+            @Override
+            public Object ubind(Object type) {
+                return "unit of " + type;
+            }
+
+            @Override
+            public Object ucontrol(Object unit, String command, Object[] arguments) {
+                return command.equals("within");
+            }
+        };
+        final LogicEmulator emulator = emulate(
+                "ubind(@poly)\n" +
+                        "print(reactor1.heat, \" \", within(10, 10, 5))\n" +
+                        "end()",
+                links, devices);
+
+        emulator.runUntilEnd(100);
+
+        assertEquals("0.5 1", emulator.getTextBuffer());
+        assertEquals("unit of poly", emulator.getVariable("@unit"));
+    }
+
+    @Test
+    void looksUpLinksByIndex() {
+        final Map<String, Object> links = new LinkedHashMap<>();
+        links.put("reactor1", "reactor");
+        links.put("message1", new MessageBlock());
+        final LogicEmulator emulator = new LogicEmulator(List.of(
+                new LogicInstruction(Opcode.GETLINK, "first", "0"),
+                new LogicInstruction(Opcode.GETLINK, "missing", "@links"),
+                new LogicInstruction(Opcode.END)), links, Devices.NONE, 1, 0);
+
+        emulator.runUntilEnd(10);
+
+        assertEquals("reactor", emulator.getVariable("first"));
+        assertNull(emulator.getVariable("missing"));
+    }
+
+    @Test
+    void wrapsAroundPastTheLastInstruction() {
+        final LogicEmulator emulator = new LogicEmulator(List.of(
+                new LogicInstruction(Opcode.OP, "add", "n", "n", "1"),
+                new LogicInstruction(Opcode.OP, "add", "@counter", "@counter", "0")));
+
+        assertEquals(10, emulator.run(10));
+
+        // null reads as 0, so n counts the passes through the program
+        assertEquals(5.0, emulator.getVariable("n"));
+        assertArrayEquals(new long[]{5, 5}, emulator.getExecutionCounts());
+        assertEquals(1, emulator.getVariableCount());
+    }
+
+    @Test
+    void advancesTimeWithTheInstructionsExecuted() {
+        final LogicEmulator emulator = emulate(
+                "deadline = @tick + 10\n" +
+                        "while @tick < deadline\n" +
+                        "  n += 1\n" +
+                        "end\n" +
+                        "end()",
+                Map.of(), Devices.NONE);
+
+        final long steps = emulator.runUntilEnd(1_000);
+
+        assertTrue(steps < 1_000, "expected the loop to end, ran " + steps + " instructions");
+        assertTrue(emulator.getTicks() >= 10);
+    }
+
+    @Test
+    void stopsWaitingAtTheFirstLookAtTheClockWhenSkippingWaits() {
+        final LogicEmulator emulator = emulate(
+                "deadline = @tick + 10\n" +
+                        "while @tick < deadline\n" +
+                        "  n += 1\n" +
+                        "end\n" +
+                        "print(n)\n" +
+                        "end()",
+                Map.of(), Devices.NONE);
+        emulator.skipWaits();
+
+        emulator.runUntilEnd(1_000);
+
+        assertEquals("null", emulator.getTextBuffer());
+    }
+
+    @Test
+    void keepsNonFiniteResultsAsNull() {
+        final LogicEmulator emulator = new LogicEmulator(List.of(
+                new LogicInstruction(Opcode.OP, "div", "x", "1", "0"),
+                new LogicInstruction(Opcode.OP, "strictEqual", "isNull", "x", "null"),
+                new LogicInstruction(Opcode.SET, "1", "2"),
+                new LogicInstruction(Opcode.END)));
+
+        emulator.runUntilEnd(10);
+
+        assertNull(emulator.getVariable("x"));
+        assertEquals(1.0, emulator.getVariable("isNull"));
+        assertEquals(1.0, emulator.getVariable("1"));
+    }
+
+    private static LogicEmulator emulate(String source, Map<String, ?> links, Devices devices) {
+        final Tuple2<List<LogicInstruction>, List<String>> compiled = MindcodeCompiler.compileToInstructions(source);
+        assertTrue(compiled._2.isEmpty(), compiled._2.toString());
+        return new LogicEmulator(compiled._1, links, devices, LogicEmulator.MICRO_PROCESSOR_INSTRUCTIONS_PER_TICK, 0);
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (final long value : values) sum += value;
+        return sum;
+    }
+
+    private static long max(long[] values) {
+        long max = 0;
+        for (final long value : values) max = Math.max(max, value);
+        return max;
+    }
+}
@@ -0,0 +1,55 @@
+package info.teksol.mindcode.webapp;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles programs for editor integrations and CI checks: nothing is stored, and the compiled Logic comes back in
+ * the response, as JSON. Programs that fail to compile still get a 200 OK, with the errors in the result.
+ */
+@RestController
+@RequestMapping(value = "/api")
+public class ApiController {
+    @Autowired
+    private MindcodeCompilerService compilerService;
+
+    @PostMapping("/compile")
+    public CompileResult compile(@Valid @RequestBody CompileRequest request) {
+        return CompileResult.of(compilerService.compile(request.getSource()));
+    }
+
+    /**
+     * Compiles up to {@value BatchCompileRequest#MAXIMUM_BATCH_SIZE} programs side by side, returning their results
+     * in the same order.
+     */
+    @PostMapping("/compile/batch")
+    public BatchCompileResult compileBatch(@Valid @RequestBody BatchCompileRequest request) {
+        return new BatchCompileResult(
+                compilerService.compileAll(request.getSources())
+                        .stream()
+                        .map(CompileResult::of)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public Map<String, String> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach((error) -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+
+        return errors;
+    }
+}
@@ -0,0 +1,28 @@
+package info.teksol.mindcode.webapp;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+public class BatchCompileRequest {
+    /**
+     * Upper bound on the number of sources in a batch, which bounds how long a single request keeps the compiler busy.
+     */
+    static final int MAXIMUM_BATCH_SIZE = 32;
+
+    @NotNull
+    @Size(max = MAXIMUM_BATCH_SIZE)
+    private final List<@NotNull String> sources;
+
+    @JsonCreator
+    public BatchCompileRequest(@JsonProperty("sources") List<String> sources) {
+        this.sources = sources;
+    }
+
+    public List<String> getSources() {
+        return sources;
+    }
+}
@@ -0,0 +1,15 @@
+package info.teksol.mindcode.webapp;
+
+import java.util.List;
+
+public class BatchCompileResult {
+    private final List<CompileResult> results;
+
+    BatchCompileResult(List<CompileResult> results) {
+        this.results = results;
+    }
+
+    public List<CompileResult> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,20 @@
+package info.teksol.mindcode.webapp;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javax.validation.constraints.NotNull;
+
+public class CompileRequest {
+    @NotNull
+    private final String source;
+
+    @JsonCreator
+    public CompileRequest(@JsonProperty("source") String source) {
+        this.source = source;
+    }
+
+    public String getSource() {
+        return source;
+    }
+}
@@ -0,0 +1,39 @@
+package info.teksol.mindcode.webapp;
+
+import info.teksol.mindcode.Tuple2;
+
+import java.util.List;
+
+public class CompileResult {
+    private final String instructions;
+    private final List<String> errors;
+    private final int instructionCount;
+
+    CompileResult(String instructions, List<String> errors, int instructionCount) {
+        this.instructions = instructions;
+        this.errors = errors;
+        this.instructionCount = instructionCount;
+    }
+
+    static CompileResult of(Tuple2<String, List<String>> compiled) {
+        // Every instruction, the last one included, ends with a newline
+        int instructionCount = 0;
+        for (int i = 0; i < compiled._1.length(); i++) {
+            if (compiled._1.charAt(i) == '\n') instructionCount++;
+        }
+
+        return new CompileResult(compiled._1, compiled._2, instructionCount);
+    }
+
+    public String getInstructions() {
+        return instructions;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public int getInstructionCount() {
+        return instructionCount;
+    }
+}
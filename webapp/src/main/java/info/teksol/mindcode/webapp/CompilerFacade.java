@@ -1,44 +1,138 @@
 package info.teksol.mindcode.webapp;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import info.teksol.mindcode.CompilerVersion;
+import info.teksol.mindcode.MindcodeCompiler;
 import info.teksol.mindcode.Tuple2;
-import info.teksol.mindcode.ast.AstNodeBuilder;
-import info.teksol.mindcode.ast.Seq;
-import info.teksol.mindcode.grammar.MindcodeLexer;
-import info.teksol.mindcode.grammar.MindcodeParser;
-import info.teksol.mindcode.mindustry.LogicInstruction;
-import info.teksol.mindcode.mindustry.LogicInstructionGenerator;
-import info.teksol.mindcode.mindustry.LogicInstructionLabelResolver;
-import info.teksol.mindcode.mindustry.LogicInstructionPrinter;
-import org.antlr.v4.runtime.*;
-
-import java.util.ArrayList;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 public class CompilerFacade {
+    /**
+     * Upper bound on the total weight of the cache, where an entry weighs as many characters as its key, compiled
+     * code and errors hold. Characters take up to 2 bytes, so the cache retains at most ~32 MiB of text.
+     */
+    private static final long MAXIMUM_CACHE_WEIGHT = 16 * 1024 * 1024;
+
+    // Compilation is deterministic: the same source text and compiler version always yield the same result, which
+    // makes the result safe to share between requests. Caffeine evicts using W-TinyLFU, which keeps the samples and
+    // the popular shared links around, even when one-off compiles stream through the cache.
+    private static final Cache<String, Tuple2<String, List<String>>> cache = Caffeine.newBuilder()
+            .maximumWeight(MAXIMUM_CACHE_WEIGHT)
+            .weigher((String key, Tuple2<String, List<String>> value) -> weigh(key, value))
+            .recordStats()
+            .build();
+
     static Tuple2<String, List<String>> compile(String sourceCode) {
-        String instructions = "";
-
-        final MindcodeLexer lexer = new MindcodeLexer(CharStreams.fromString(sourceCode));
-        final MindcodeParser parser = new MindcodeParser(new BufferedTokenStream(lexer));
-        final List<String> errors = new ArrayList<>();
-        parser.addErrorListener(new BaseErrorListener() {
-            @Override
-            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
-                errors.add("Syntax error: " + offendingSymbol + " on line " + line + ":" + charPositionInLine + ": " + msg);
-            }
-        });
+        return compile(sourceCode, MindcodeCompiler::compile);
+    }
+
+    /**
+     * The compiler runs outside the cache, so that a slow compilation doesn't hold up writes to other entries; two
+     * requests missing the same source at once may both compile it, and the last one to finish gets cached.
+     *
+     * @param compiler compiles the source on a cache miss; exceptions it throws propagate, and nothing gets cached
+     */
+    static Tuple2<String, List<String>> compile(String sourceCode, Function<String, Tuple2<String, List<String>>> compiler) {
+        final String key = cacheKey(sourceCode);
+        final Tuple2<String, List<String>> cached = cache.getIfPresent(key);
+        if (cached != null) return cached;
+
+        final Tuple2<String, List<String>> result = compiler.apply(sourceCode);
+        cache.put(key, result);
+        return result;
+    }
+
+    /**
+     * @return the cached result of compiling the source, or null if it isn't in the cache
+     */
+    static Tuple2<String, List<String>> cached(String sourceCode) {
+        return cache.getIfPresent(cacheKey(sourceCode));
+    }
+
+    static void store(String sourceCode, Tuple2<String, List<String>> result) {
+        cache.put(cacheKey(sourceCode), result);
+    }
+
+    /**
+     * @return true if output stored alongside a source was compiled by this version of the compiler
+     */
+    static boolean isCurrent(String compilerVersion) {
+        return CompilerVersion.VERSION.equals(compilerVersion);
+    }
+
+    /**
+     * Counts lines the way {@code text.split("\n").length} does, without splitting: trailing empty lines don't count,
+     * but the empty string is one line.
+     */
+    static int countLines(String text) {
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) == '\n') end--;
+        if (end == 0) return text.isEmpty() ? 1 : 0;
+
+        int lines = 1;
+        for (int i = 0; i < end; i++) {
+            if (text.charAt(i) == '\n') lines++;
+        }
 
+        return lines;
+    }
+
+    static String[] errorsToArray(List<String> errors) {
+        return errors.toArray(new String[0]);
+    }
+
+    static List<String> errorsFromArray(String[] errors) {
+        return errors == null ? List.of() : Collections.unmodifiableList(Arrays.asList(errors));
+    }
+
+    /**
+     * @return hit, miss and eviction counters of the compiled output cache, since the application started
+     */
+    static CacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    private static String cacheKey(String sourceCode) {
+        return CompilerVersion.VERSION + ':' + sha256Hex(sourceCode);
+    }
+
+    /**
+     * @return the SHA-256 of the text's UTF-8 encoding, in lowercase hexadecimal, which is what PostgreSQL's
+     * {@code encode(sha256(convert_to(text, 'UTF8')), 'hex')} computes too
+     */
+    static String sha256Hex(String text) {
+        final MessageDigest digest;
         try {
-            final MindcodeParser.ProgramContext context = parser.program();
-            final Seq prog = AstNodeBuilder.generate(context);
-
-            List<LogicInstruction> result = LogicInstructionGenerator.generateAndOptimize(prog);
-            result = LogicInstructionLabelResolver.resolve(result);
-            instructions = LogicInstructionPrinter.toString(result);
-        } catch (RuntimeException e) {
-            errors.add(e.getMessage());
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Missing algorithm: SHA-256", e);
+        }
+
+        final byte[] hash = digest.digest(text.getBytes(StandardCharsets.UTF_8));
+        final StringBuilder buffer = new StringBuilder(2 * hash.length);
+        for (final byte b : hash) {
+            buffer.append(Character.forDigit((b >> 4) & 0xf, 16));
+            buffer.append(Character.forDigit(b & 0xf, 16));
+        }
+
+        return buffer.toString();
+    }
+
+    private static int weigh(String key, Tuple2<String, List<String>> value) {
+        long weight = key.length() + value._1.length();
+        for (final String error : value._2) {
+            if (error != null) weight += error.length();
         }
 
-        return new Tuple2<>(instructions, errors);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
     }
 }
@@ -0,0 +1,70 @@
+package info.teksol.mindcode.webapp;
+
+import info.teksol.mindcode.CompilationObserver;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records each phase of every compilation as Micrometer meters, tagged with the phase's name:
+ * <ul>
+ *     <li>{@code mindcode.compiler.phase}, a timer of the time spent in the phase;</li>
+ *     <li>{@code mindcode.compiler.phase.input} and {@code mindcode.compiler.phase.output}, distributions of the number
+ *     of characters, tokens or instructions going into and out of the phase.</li>
+ * </ul>
+ * All three publish histograms, so that percentiles can be computed across instances. With the Prometheus registry,
+ * they are scraped from {@code /actuator/prometheus}.
+ */
+@Component
+public class CompilerMetrics implements CompilationObserver {
+    private final MeterRegistry registry;
+    private final Map<String, PhaseMeters> phases = new ConcurrentHashMap<>();
+
+    public CompilerMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void phaseCompleted(String phase, long elapsedNanos, int inputSize, int outputSize) {
+        final PhaseMeters meters = phases.computeIfAbsent(phase, this::register);
+        meters.time.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (inputSize >= 0) meters.input.record(inputSize);
+        if (outputSize >= 0) meters.output.record(outputSize);
+    }
+
+    private PhaseMeters register(String phase) {
+        return new PhaseMeters(
+                Timer.builder("mindcode.compiler.phase")
+                        .description("Time spent in a phase of compilation")
+                        .tag("phase", phase)
+                        .publishPercentileHistogram()
+                        .register(registry),
+                DistributionSummary.builder("mindcode.compiler.phase.input")
+                        .description("Characters, tokens or instructions a phase of compilation took in")
+                        .tag("phase", phase)
+                        .publishPercentileHistogram()
+                        .register(registry),
+                DistributionSummary.builder("mindcode.compiler.phase.output")
+                        .description("Tokens or instructions a phase of compilation gave out")
+                        .tag("phase", phase)
+                        .publishPercentileHistogram()
+                        .register(registry));
+    }
+
+    private static class PhaseMeters {
+        private final Timer time;
+        private final DistributionSummary input;
+        private final DistributionSummary output;
+
+        PhaseMeters(Timer time, DistributionSummary input, DistributionSummary output) {
+            this.time = time;
+            this.input = input;
+            this.output = output;
+        }
+    }
+}
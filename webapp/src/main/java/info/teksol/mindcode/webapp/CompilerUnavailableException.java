@@ -0,0 +1,14 @@
+package info.teksol.mindcode.webapp;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * The compiler could not compile a program in time, or had no room to even try.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class CompilerUnavailableException extends RuntimeException {
+    public CompilerUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,88 @@
+package info.teksol.mindcode.webapp;
+
+import info.teksol.mindcode.MindcodeCompiler;
+import info.teksol.mindcode.Tuple2;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiles the bundled samples and the {@link WarmupCorpus} before the application accepts requests, so that the
+ * first users after a restart do not pay for ANTLR filling its DFA cache, nor for running the generator and
+ * optimizers in the interpreter. Enable with {@code mindcode.warmup.enabled=true}.
+ * <p>
+ * Warm-up runs once every singleton is instantiated, which is before the embedded web server binds its port: until
+ * warm-up completes, the platform's router sees the node as still booting and sends it no traffic.
+ */
+@Component
+@ConditionalOnProperty(name = "mindcode.warmup.enabled", havingValue = "true")
+public class CompilerWarmup implements SmartInitializingSingleton {
+    private static final Logger logger = LoggerFactory.getLogger(CompilerWarmup.class);
+
+    private final int iterations;
+
+    public CompilerWarmup(@Value("${mindcode.warmup.iterations:20}") int iterations) {
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        final long start = System.nanoTime();
+        final List<String> samples = readSamples();
+
+        // Bypass CompilerFacade: its cache would answer every iteration after the first one.
+        int compiled = 0;
+        int withErrors = 0;
+        for (int i = 0; i < iterations; i++) {
+            for (final String program : samples) {
+                if (!compile(program)) withErrors++;
+                compiled++;
+            }
+        }
+
+        for (final String program : WarmupCorpus.generate(iterations)) {
+            if (!compile(program)) withErrors++;
+            compiled++;
+        }
+
+        final long end = System.nanoTime();
+        logger.info("warmup compiled={} with_errors={} warmed_up_in={}ms", compiled, withErrors, TimeUnit.NANOSECONDS.toMillis(end - start));
+    }
+
+    private boolean compile(String program) {
+        final Tuple2<String, List<String>> result = MindcodeCompiler.compile(program);
+        if (!result._2.isEmpty()) {
+            logger.debug("warmup program compiled with errors: {}", result._2);
+        }
+
+        return result._2.isEmpty();
+    }
+
+    private List<String> readSamples() {
+        try {
+            final Resource[] resources = new PathMatchingResourcePatternResolver().getResources("classpath:samples/*.mnd");
+            final List<String> samples = new ArrayList<>(resources.length);
+            for (final Resource resource : resources) {
+                try (final InputStream stream = resource.getInputStream()) {
+                    samples.add(new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+
+            return samples;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read samples", e);
+        }
+    }
+}
@@ -59,5 +59,63 @@ public class DbMigrator {
 
         template.execute("ALTER TABLE public.scripts DROP COLUMN IF EXISTS published");
         template.execute("ALTER TABLE public.script_versions ADD COLUMN IF NOT EXISTS published boolean not null default false");
+
+        // Compiled output, stored on write so that reads don't have to compile; stale when compiler_version changes
+        template.execute("ALTER TABLE public.sources ADD COLUMN IF NOT EXISTS compiled text null");
+        template.execute("ALTER TABLE public.sources ADD COLUMN IF NOT EXISTS compile_errors text[] null");
+        template.execute("ALTER TABLE public.sources ADD COLUMN IF NOT EXISTS compiler_version text null");
+        template.execute("ALTER TABLE public.scripts ADD COLUMN IF NOT EXISTS compiled text null");
+        template.execute("ALTER TABLE public.scripts ADD COLUMN IF NOT EXISTS compile_errors text[] null");
+        template.execute("ALTER TABLE public.scripts ADD COLUMN IF NOT EXISTS compiler_version text null");
+
+        // Sources are stored by content: the same text always maps to the same row. Duplicates saved before that are
+        // folded into their oldest copy once, with the IDs of the others kept as aliases so that their links still work.
+        template.execute("ALTER TABLE public.sources ADD COLUMN IF NOT EXISTS content_hash text null");
+        template.execute("CREATE TABLE IF NOT EXISTS public.source_aliases (\n" +
+                "  id        uuid primary key,\n" +
+                "  source_id uuid not null references public.sources on update cascade on delete cascade\n" +
+                ")");
+        template.execute("DO $$\n" +
+                "BEGIN\n" +
+                "  IF NOT EXISTS (SELECT 1 FROM pg_indexes WHERE schemaname = 'public' AND indexname = 'sources_content_hash') THEN\n" +
+                "    UPDATE public.sources SET content_hash = encode(sha256(convert_to(source, 'UTF8')), 'hex') WHERE content_hash IS NULL;\n" +
+                "    INSERT INTO public.source_aliases(id, source_id)\n" +
+                "      SELECT id, canonical_id\n" +
+                "      FROM (SELECT id, first_value(id) OVER (PARTITION BY content_hash ORDER BY created_at, id) AS canonical_id FROM public.sources) AS ranked\n" +
+                "      WHERE id <> canonical_id\n" +
+                "    ON CONFLICT (id) DO NOTHING;\n" +
+                "    DELETE FROM public.sources WHERE id IN (SELECT id FROM public.source_aliases);\n" +
+                "    CREATE UNIQUE INDEX sources_content_hash ON public.sources(content_hash);\n" +
+                "    ALTER TABLE public.sources ALTER COLUMN content_hash SET NOT NULL;\n" +
+                "  END IF;\n" +
+                "END\n" +
+                "$$");
+
+        // last_accessed_at is when the text was last saved or looked at, see SourceRepository; SourcePurger walks it in
+        // order. Rows stored before it existed start out from when they were stored, or last saved again.
+        template.execute("DO $$\n" +
+                "BEGIN\n" +
+                "  IF NOT EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = 'public' AND table_name = 'sources' AND column_name = 'last_accessed_at') THEN\n" +
+                "    ALTER TABLE public.sources ADD COLUMN last_accessed_at timestamp with time zone null;\n" +
+                "    UPDATE public.sources SET last_accessed_at = created_at;\n" +
+                "    ALTER TABLE public.sources ALTER COLUMN last_accessed_at SET NOT NULL;\n" +
+                "    ALTER TABLE public.sources ALTER COLUMN last_accessed_at SET DEFAULT current_timestamp;\n" +
+                "  END IF;\n" +
+                "END\n" +
+                "$$");
+        template.execute("CREATE INDEX IF NOT EXISTS sources_last_accessed_at ON public.sources(last_accessed_at, id)");
+        template.execute("DROP INDEX IF EXISTS public.sources_created_at");
+
+        // Searching scripts by name or source: trigram indexes serve ILIKE '%...%', and the btree serves listing a
+        // user's scripts a page at a time, in name order
+        template.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        template.execute("CREATE INDEX IF NOT EXISTS scripts_name_trgm ON public.scripts USING gin (name gin_trgm_ops)");
+        template.execute("CREATE INDEX IF NOT EXISTS scripts_source_trgm ON public.scripts USING gin (source gin_trgm_ops)");
+        template.execute("CREATE INDEX IF NOT EXISTS scripts_author_name ON public.scripts(author_id, lower(name), recorded_at, id)");
+
+        // Versions in between snapshots are stored as deltas against the latest snapshot, see ScriptVersionStore
+        template.execute("ALTER TABLE public.script_versions ALTER COLUMN source DROP NOT NULL");
+        template.execute("ALTER TABLE public.script_versions ADD COLUMN IF NOT EXISTS base_id bigint null references public.script_versions(id) on delete cascade");
+        template.execute("ALTER TABLE public.script_versions ADD COLUMN IF NOT EXISTS delta bytea null");
     }
 }
@@ -6,21 +6,42 @@ import java.util.UUID;
 public class EditScriptData extends NewScriptData {
     private final UUID id;
     private final List<ScriptVersion> versionHistory;
+    private final Integer olderVersionsBefore;
+    private final String compilerVersion;
 
-    EditScriptData(UUID id, String name, String source, int sourceLoc, String compiled, int compiledLoc, List<String> syntaxErrors, List<ScriptVersion> versionHistory) {
+    EditScriptData(UUID id, String name, String source, int sourceLoc, String compiled, int compiledLoc, List<String> syntaxErrors, List<ScriptVersion> versionHistory, Integer olderVersionsBefore, String compilerVersion) {
         super(name, source, sourceLoc, compiled, compiledLoc, syntaxErrors);
         this.id = id;
         this.versionHistory=versionHistory;
+        this.olderVersionsBefore = olderVersionsBefore;
+        this.compilerVersion = compilerVersion;
     }
 
     public UUID getId() {
         return id;
     }
 
+    /**
+     * @return one page of the script's versions, newest first
+     */
     public List<ScriptVersion> getVersionHistory() {
         return versionHistory;
     }
 
+    /**
+     * @return the version to list the next page of older versions before, or null if there are no older versions
+     */
+    public Integer getOlderVersionsBefore() {
+        return olderVersionsBefore;
+    }
+
+    /**
+     * @return the version of the compiler that produced {@link #getCompiled()}, or null if the script was never compiled
+     */
+    public String getCompilerVersion() {
+        return compilerVersion;
+    }
+
     public boolean isLoggedIn() {
         return true;
     }
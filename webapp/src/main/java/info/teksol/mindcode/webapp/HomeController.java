@@ -1,31 +1,42 @@
 package info.teksol.mindcode.webapp;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import info.teksol.mindcode.CompilerVersion;
 import info.teksol.mindcode.Tuple2;
+import info.teksol.mindcode.mindustry.LogicInstruction;
+import info.teksol.mindcode.mindustry.LogicInstructionPrinter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.ModelAndView;
 
+import javax.servlet.http.HttpServletResponse;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.StringWriter;
-import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-import static info.teksol.mindcode.webapp.CompilerFacade.compile;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 @Controller
 @RequestMapping(value = "/")
 public class HomeController {
     private static final Logger logger = LoggerFactory.getLogger(HomeController.class);
+    private static final String TEXT_PLAIN_UTF8 = "text/plain;charset=UTF-8";
+    private static final String SAMPLE_CACHE_CONTROL = "public, max-age=3600";
     private static final Map<String, String> samples;
 
     static {
@@ -68,52 +79,76 @@ public class HomeController {
     private final Random random = new Random();
     @Autowired
     private SourceRepository sourceRepository;
+    @Autowired
+    private MindcodeCompilerService compilerService;
 
+    /**
+     * Saves the source, unless the same text was saved before, and redirects to the one page holding that text. The ID
+     * of the page the source was edited from, if any, no longer matters: its text is left as is.
+     */
     @PostMapping("/compile")
     public String postCompile(@RequestParam(required = false) String id,
                               @RequestParam String source) {
-        Source sourceDto;
-        if (id != null && id.matches("\\A[a-f0-9]{8}(?:-[a-f0-9]{4}){3}-[a-f0-9]{12}\\z")) {
-            final Optional<Source> dto = sourceRepository.findById(UUID.fromString(id));
-            final Source newSource = dto
-                    .map(sdto -> sdto.withSource(source))
-                    .orElseGet(() -> new Source(source, Instant.now()));
-            sourceDto = sourceRepository.save(newSource);
-        } else {
-            sourceDto = sourceRepository.save(new Source(source, Instant.now()));
-        }
-
+        final Source sourceDto = compiledOutputOf(sourceRepository.upsert(source));
         return "redirect:/?s=" + sourceDto.getId().toString();
     }
 
+    /**
+     * Shows a sample, a stored source or a random sample. Pages other than random samples carry an ETag, and requests
+     * whose {@code If-None-Match} matches it are answered with 304 Not Modified before compiling or rendering: samples
+     * only change when a new version is deployed, and stored sources never change, since they're stored by content.
+     * Sample pages may also be cached for an hour.
+     */
     @GetMapping
-    public ModelAndView getHomePage(@RequestParam(name = "s", defaultValue = "") String id) {
+    public ModelAndView getHomePage(@RequestParam(name = "s", defaultValue = "") String id,
+                                    WebRequest request,
+                                    HttpServletResponse response) {
+        final long start = System.nanoTime();
         final String sampleName;
         final String sourceCode;
+        final Tuple2<String, List<String>> result;
         if (samples.containsKey(id)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, SAMPLE_CACHE_CONTROL);
+            if (request.checkNotModified(PageETags.of("sample", id, CompilerFacade.sha256Hex(samples.get(id))))) return null;
+
             sampleName = id;
             sourceCode = samples.get(sampleName);
+            result = compilerService.compile(sourceCode);
         } else if (id != null && id.equals("clean")) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, SAMPLE_CACHE_CONTROL);
+            if (request.checkNotModified(PageETags.of("clean"))) return null;
+
             sampleName = "";
             sourceCode = "";
+            result = compilerService.compile(sourceCode);
         } else if (id != null && id.matches("\\A[a-f0-9]{8}(?:-[a-f0-9]{4}){3}-[a-f0-9]{12}\\z")) {
             sampleName = "";
-            final Optional<Source> source = sourceRepository.findById(UUID.fromString(id));
+            final Optional<Source> source = sourceRepository.findByIdOrAlias(UUID.fromString(id));
             if (source.isPresent()) {
-                sourceCode = source.get().getSource();
+                response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+                if (request.checkNotModified(PageETags.of("source", id, source.get().getContentHash()))) return null;
+
+                final Source compiledSource = compiledOutputOf(source.get());
+                sourceCode = compiledSource.getSource();
+                result = new Tuple2<>(compiledSource.getCompiled(), CompilerFacade.errorsFromArray(compiledSource.getCompileErrors()));
             } else {
                 sourceCode = "// 404 Not Found";
+                result = compilerService.compile(sourceCode);
             }
         } else {
             final int skipCount = random.nextInt(samples.size());
             sampleName = samples.keySet().stream().skip(skipCount).findFirst().get();
             sourceCode = samples.get(sampleName);
+            result = compilerService.compile(sourceCode);
         }
-
-        final long start = System.nanoTime();
-        final Tuple2<String, List<String>> result = compile(sourceCode);
         final long end = System.nanoTime();
-        logger.info("performance compiled_in={}µs", TimeUnit.NANOSECONDS.toMicros(end - start));
+
+        final CacheStats cacheStats = CompilerFacade.cacheStats();
+        logger.info("performance compiled_in={}µs cache_hits={} cache_misses={} cache_evictions={}",
+                TimeUnit.NANOSECONDS.toMicros(end - start),
+                cacheStats.hitCount(),
+                cacheStats.missCount(),
+                cacheStats.evictionCount());
 
         final String compiledCode = result._1;
         final List<String> syntaxErrors = result._2;
@@ -124,11 +159,65 @@ public class HomeController {
                         id,
                         sampleName,
                         sourceCode,
-                        sourceCode.split("\n").length,
+                        CompilerFacade.countLines(sourceCode),
                         compiledCode,
-                        compiledCode.split("\n").length,
+                        CompilerFacade.countLines(compiledCode),
                         syntaxErrors)
         );
     }
 
+    /**
+     * Serves the compiled Logic of a sample or a stored source as plain text, writing it straight to the response.
+     * Output that isn't stored is streamed from the compiled instructions, without ever holding the whole program as a
+     * string.
+     */
+    @GetMapping(value = "/download", produces = MediaType.TEXT_PLAIN_VALUE)
+    public void downloadCompiledCode(@RequestParam(name = "s") String id, HttpServletResponse response) throws IOException {
+        final long start = System.nanoTime();
+        final int lines;
+        if (samples.containsKey(id)) {
+            lines = streamCompiledCode(samples.get(id), response);
+        } else if (id.matches("\\A[a-f0-9]{8}(?:-[a-f0-9]{4}){3}-[a-f0-9]{12}\\z")) {
+            final Source source = sourceRepository.findByIdOrAlias(UUID.fromString(id))
+                    .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "No source with this ID"));
+            if (CompilerFacade.isCurrent(source.getCompilerVersion())) {
+                rejectErrors(CompilerFacade.errorsFromArray(source.getCompileErrors()));
+                response.setContentType(TEXT_PLAIN_UTF8);
+                response.getWriter().write(source.getCompiled());
+                lines = CompilerFacade.countLines(source.getCompiled());
+            } else {
+                lines = streamCompiledCode(source.getSource(), response);
+            }
+        } else {
+            throw new ResponseStatusException(NOT_FOUND, "No source with this ID");
+        }
+        final long end = System.nanoTime();
+
+        logger.info("performance downloaded_in={}µs lines={}", TimeUnit.NANOSECONDS.toMicros(end - start), lines);
+    }
+
+    private int streamCompiledCode(String sourceCode, HttpServletResponse response) throws IOException {
+        final Tuple2<List<LogicInstruction>, List<String>> result = compilerService.compileToInstructions(sourceCode);
+        rejectErrors(result._2);
+        response.setContentType(TEXT_PLAIN_UTF8);
+        return LogicInstructionPrinter.print(result._1, response.getWriter());
+    }
+
+    private static void rejectErrors(List<String> errors) {
+        if (!errors.isEmpty()) throw new ResponseStatusException(UNPROCESSABLE_ENTITY, String.join("\n", errors));
+    }
+
+    /**
+     * Serves the output stored alongside the source, recompiling and storing it anew only when a different version of
+     * the compiler produced it.
+     */
+    private Source compiledOutputOf(Source source) {
+        if (CompilerFacade.isCurrent(source.getCompilerVersion())) return source;
+        return sourceRepository.save(withCompiledOutput(source));
+    }
+
+    private Source withCompiledOutput(Source source) {
+        final Tuple2<String, List<String>> result = compilerService.compile(source.getSource());
+        return source.withCompiled(result._1, CompilerFacade.errorsToArray(result._2), CompilerVersion.VERSION);
+    }
 }
@@ -1,14 +1,17 @@
 package info.teksol.mindcode.webapp;
 
 import java.util.List;
+import java.util.UUID;
 
 public class ListScriptData {
     private final List<Script> scripts;
     private final String query;
+    private final UUID nextPageAfter;
 
-    public ListScriptData(List<Script> scripts, String query) {
+    public ListScriptData(List<Script> scripts, String query, UUID nextPageAfter) {
         this.scripts = scripts;
         this.query = query;
+        this.nextPageAfter = nextPageAfter;
     }
 
     public List<Script> getScripts() {
@@ -19,6 +22,13 @@ public class ListScriptData {
         return query;
     }
 
+    /**
+     * @return the script to list the next page after, or null if this is the last page
+     */
+    public UUID getNextPageAfter() {
+        return nextPageAfter;
+    }
+
     public boolean isLoggedIn() {
         return true;
     }
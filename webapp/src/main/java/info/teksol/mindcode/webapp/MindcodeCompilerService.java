@@ -0,0 +1,191 @@
+package info.teksol.mindcode.webapp;
+
+import info.teksol.mindcode.CompilationObserver;
+import info.teksol.mindcode.MindcodeCompiler;
+import info.teksol.mindcode.Tuple2;
+import info.teksol.mindcode.mindustry.LogicInstruction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs compilations on a pool of worker threads, rather than on the request threads, so that a pathological program
+ * cannot pin the web server's workers.
+ * <p>
+ * Compilations that don't finish within the timeout are cancelled: their worker thread is interrupted, which the
+ * compiler notices and bails out of. When every worker is busy and the queue is full, compilations are rejected
+ * outright. Either way, the caller gets a {@link CompilerUnavailableException}, which Spring answers with a
+ * 503 Service Unavailable.
+ * <p>
+ * Configure with {@code mindcode.compiler.threads} (defaults to one per processor),
+ * {@code mindcode.compiler.queue-capacity} and {@code mindcode.compiler.timeout-millis}. Every phase of every
+ * compilation is reported to the {@link CompilationObserver}, which is {@link CompilerMetrics} in the application.
+ */
+@Service
+public class MindcodeCompilerService implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(MindcodeCompilerService.class);
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final CompilationObserver observer;
+
+    public MindcodeCompilerService(@Value("${mindcode.compiler.threads:0}") int threads,
+                                   @Value("${mindcode.compiler.queue-capacity:64}") int queueCapacity,
+                                   @Value("${mindcode.compiler.timeout-millis:5000}") long timeoutMillis,
+                                   CompilationObserver observer) {
+        final int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                (runnable) -> {
+                    final Thread thread = new Thread(runnable, "mindcode-compiler-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        this.observer = observer;
+    }
+
+    /**
+     * Compiles a program down to printed Logic, answering from {@link CompilerFacade}'s cache when possible. Neither
+     * timeouts nor rejections are cached.
+     */
+    public Tuple2<String, List<String>> compile(String sourceCode) {
+        return CompilerFacade.compile(sourceCode, (source) -> withinBudget(() -> MindcodeCompiler.compile(source, observer)));
+    }
+
+    /**
+     * Compiles many programs down to printed Logic, in parallel on the pool. Programs in the cache aren't compiled
+     * again, the others are cached once compiled, and a program the batch holds more than once is compiled once.
+     * <p>
+     * A batch keeps no more compilations in flight than the pool has workers, since more couldn't run side by side
+     * anyway: the rest of the queue stays available to other requests. When the queue is full nonetheless, the batch
+     * waits for one of its own compilations to complete before submitting the next, and is only rejected when it has
+     * none in flight.
+     *
+     * @return the results, in the order of the programs
+     */
+    public List<Tuple2<String, List<String>>> compileAll(List<String> sourceCodes) {
+        final Map<String, Tuple2<String, List<String>>> compiled = new HashMap<>();
+        final Deque<Map.Entry<String, Future<Tuple2<String, List<String>>>>> inFlight = new ArrayDeque<>();
+        try {
+            for (final String sourceCode : new LinkedHashSet<>(sourceCodes)) {
+                final Tuple2<String, List<String>> cached = CompilerFacade.cached(sourceCode);
+                if (cached != null) {
+                    compiled.put(sourceCode, cached);
+                    continue;
+                }
+
+                if (inFlight.size() == executor.getMaximumPoolSize()) completeOldest(inFlight, compiled);
+
+                Future<Tuple2<String, List<String>>> future;
+                while ((future = trySubmit(() -> MindcodeCompiler.compile(sourceCode, observer))) == null) {
+                    if (inFlight.isEmpty()) throw busy(null);
+                    completeOldest(inFlight, compiled);
+                }
+                inFlight.addLast(Map.entry(sourceCode, future));
+            }
+
+            while (!inFlight.isEmpty()) {
+                completeOldest(inFlight, compiled);
+            }
+        } finally {
+            // Only has an effect on what's left when a compilation was rejected or timed out
+            for (final Map.Entry<String, Future<Tuple2<String, List<String>>>> compilation : inFlight) {
+                compilation.getValue().cancel(true);
+            }
+        }
+
+        final List<Tuple2<String, List<String>>> results = new ArrayList<>(sourceCodes.size());
+        for (final String sourceCode : sourceCodes) {
+            results.add(compiled.get(sourceCode));
+        }
+        return results;
+    }
+
+    /**
+     * Waits for the batch's oldest compilation in flight, then caches its result; it stays in flight when this throws.
+     */
+    private void completeOldest(Deque<Map.Entry<String, Future<Tuple2<String, List<String>>>>> inFlight,
+                                Map<String, Tuple2<String, List<String>>> compiled) {
+        final Map.Entry<String, Future<Tuple2<String, List<String>>>> compilation = inFlight.getFirst();
+        final Tuple2<String, List<String>> result = await(compilation.getValue());
+        inFlight.removeFirst();
+        CompilerFacade.store(compilation.getKey(), result);
+        compiled.put(compilation.getKey(), result);
+    }
+
+    /**
+     * Compiles a program down to resolved Logic instructions, bypassing the cache.
+     */
+    public Tuple2<List<LogicInstruction>, List<String>> compileToInstructions(String sourceCode) {
+        return withinBudget(() -> MindcodeCompiler.compileToInstructions(sourceCode, observer));
+    }
+
+    private <T> T withinBudget(Callable<T> compilation) {
+        final Future<T> future = submit(compilation);
+        try {
+            return await(future);
+        } finally {
+            future.cancel(true);
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> compilation) {
+        try {
+            return executor.submit(compilation);
+        } catch (RejectedExecutionException e) {
+            throw busy(e);
+        }
+    }
+
+    /**
+     * @return the compilation's future, or null when the queue is full
+     */
+    private <T> Future<T> trySubmit(Callable<T> compilation) {
+        try {
+            return executor.submit(compilation);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    private CompilerUnavailableException busy(RejectedExecutionException cause) {
+        logger.warn("compiler rejected_compilation active={} queued={}", executor.getActiveCount(), executor.getQueue().size());
+        return new CompilerUnavailableException("The compiler is busy, please try again in a moment", cause);
+    }
+
+    /**
+     * Waits for a compilation to complete; the caller is responsible for cancelling it when this throws.
+     */
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("compiler timed_out_after={}ms", timeoutMillis);
+            throw new CompilerUnavailableException("Compilation took longer than " + timeoutMillis + "ms and was abandoned", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompilerUnavailableException("Interrupted while waiting for the compiler", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException("Compilation failed", cause);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,56 @@
+package info.teksol.mindcode.webapp;
+
+import info.teksol.mindcode.CompilerVersion;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Computes the ETags of rendered pages, so that controllers can answer {@code If-None-Match} with 304 Not Modified
+ * before compiling or rendering anything.
+ * <p>
+ * A page's ETag covers whatever the controller says the page depends on, typically the hash of the source it shows,
+ * together with the version of the compiler, which decides the compiled output, and the version of the templates,
+ * which decides the markup. Deploying a new compiler or new templates thus changes every ETag.
+ */
+final class PageETags {
+    /**
+     * Hash of every FreeMarker template, computed once at startup.
+     */
+    static final String TEMPLATES_VERSION = hashTemplates();
+
+    private PageETags() {
+    }
+
+    /**
+     * @return a strong ETag, unquoted as {@link org.springframework.web.context.request.WebRequest#checkNotModified(String)}
+     * expects
+     */
+    static String of(String... parts) {
+        return CompilerFacade.sha256Hex(CompilerVersion.VERSION + '\n' + TEMPLATES_VERSION + '\n' + String.join("\n", parts));
+    }
+
+    private static String hashTemplates() {
+        try {
+            final Resource[] templates = new PathMatchingResourcePatternResolver().getResources("classpath:templates/**/*.ftlh");
+            Arrays.sort(templates, Comparator.comparing(Resource::getDescription));
+            final StringBuilder contents = new StringBuilder();
+            for (final Resource template : templates) {
+                try (final InputStream stream = template.getInputStream()) {
+                    contents.append(template.getFilename()).append('\n');
+                    contents.append(new String(stream.readAllBytes(), StandardCharsets.UTF_8)).append('\n');
+                }
+            }
+
+            return CompilerFacade.sha256Hex(contents.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the templates", e);
+        }
+    }
+}
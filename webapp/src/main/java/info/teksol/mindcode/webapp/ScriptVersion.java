@@ -2,19 +2,21 @@ package info.teksol.mindcode.webapp;
 
 import java.time.Instant;
 
+/**
+ * A version in a script's history, without its source, which is only loaded when the version is opened or rolled
+ * back to.
+ */
 public class ScriptVersion {
     private final long id;
     private final int version;
     private final String name;
-    private final String source;
     private final String slug;
     private final Instant committedAt;
 
-    public ScriptVersion(long id, int version, String name, String source, String slug, Instant committedAt) {
+    public ScriptVersion(long id, int version, String name, String slug, Instant committedAt) {
         this.id = id;
         this.version = version;
         this.name = name;
-        this.source = source;
         this.slug = slug;
         this.committedAt = committedAt;
     }
@@ -31,10 +33,6 @@ public class ScriptVersion {
         return name;
     }
 
-    public String getSource() {
-        return source;
-    }
-
     public String getSlug() {
         return slug;
     }
@@ -0,0 +1,143 @@
+package info.teksol.mindcode.webapp;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Stores and reads back the sources of script versions.
+ * <p>
+ * Every {@code mindcode.versions.snapshot-interval}th version of a script (16 by default) is stored in full, in
+ * {@code source}. The versions in between are stored as a {@link VersionDelta} against the latest full version, in
+ * {@code delta}, with {@code base_id} pointing at that version. Setting the interval to 1 stores every version in full.
+ * Reading a version back takes at most two rows, and reconstructed sources are cached, so that opening the same
+ * versions again, or versions sharing a base, doesn't go back to the database for the base.
+ */
+@Component
+public class ScriptVersionStore {
+    /**
+     * Upper bound on the total number of characters of the cached sources; characters take up to 2 bytes, so the
+     * cache retains at most ~8 MiB of text.
+     */
+    private static final long MAXIMUM_CACHE_WEIGHT = 4 * 1024 * 1024;
+
+    // Versions never change once committed, so entries never go stale
+    private final Cache<Long, String> sources = Caffeine.newBuilder()
+            .maximumWeight(MAXIMUM_CACHE_WEIGHT)
+            .weigher((Long id, String source) -> source.length())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int snapshotInterval;
+
+    public ScriptVersionStore(JdbcTemplate jdbcTemplate,
+                              @Value("${mindcode.versions.snapshot-interval:16}") int snapshotInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+    }
+
+    /**
+     * Records a new version of the script, numbered one past its latest version. The caller is responsible for
+     * checking that the script belongs to the user.
+     * <p>
+     * The script's row stays locked until the version is inserted, so that concurrent commits to the same script
+     * take turns, rather than numbering their versions alike and failing on {@code unique(script_id, version)}.
+     */
+    @Transactional
+    public void commit(UUID scriptId, String name, String source, String versionSlug) {
+        jdbcTemplate.queryForList("SELECT 1 FROM scripts WHERE id = ?::uuid FOR UPDATE", Integer.class, scriptId);
+
+        final int latestVersion = jdbcTemplate.queryForObject(
+                "SELECT coalesce(max(version), 0) FROM script_versions WHERE script_id = ?::uuid",
+                Integer.class,
+                scriptId);
+
+        final List<Snapshot> snapshots = jdbcTemplate.query(
+                "SELECT id, version FROM script_versions WHERE script_id = ?::uuid AND delta IS NULL ORDER BY version DESC LIMIT 1",
+                (rs, rowNum) -> new Snapshot(rs.getLong("id"), rs.getInt("version")),
+                scriptId);
+
+        final int version = latestVersion + 1;
+        byte[] delta = null;
+        Long baseId = null;
+        if (!snapshots.isEmpty() && version - snapshots.get(0).version < snapshotInterval) {
+            baseId = snapshots.get(0).id;
+            delta = VersionDelta.encode(source(baseId), source);
+            // A rewrite shares too little with the base to be worth a delta; start over from a fresh snapshot
+            if (2 * delta.length > source.getBytes(StandardCharsets.UTF_8).length) {
+                baseId = null;
+                delta = null;
+            }
+        }
+
+        final Long id = jdbcTemplate.queryForObject(
+                "INSERT INTO script_versions(script_id, name, source, base_id, delta, version_slug, version)\n" +
+                        "VALUES (?::uuid, ?, ?, ?, ?, ?, ?)\n" +
+                        "RETURNING id",
+                Long.class,
+                scriptId, name, delta == null ? source : null, baseId, delta, versionSlug, version);
+        sources.put(id, source);
+    }
+
+    /**
+     * @return the source of the script's version with this slug, if the version exists and the script belongs to the
+     * user
+     */
+    public Optional<String> source(UUID scriptId, String versionSlug, UUID authorId) {
+        final List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT v.id\n" +
+                        "FROM script_versions AS v\n" +
+                        "  JOIN scripts ON scripts.id = v.script_id\n" +
+                        "WHERE v.version_slug = ?\n" +
+                        "  AND v.script_id = ?::uuid\n" +
+                        "  AND scripts.author_id = ?::uuid",
+                Long.class,
+                versionSlug, scriptId, authorId);
+        return ids.isEmpty() ? Optional.empty() : Optional.of(source(ids.get(0)));
+    }
+
+    private String source(long id) {
+        final String cached = sources.getIfPresent(id);
+        if (cached != null) return cached;
+
+        final StoredVersion stored = jdbcTemplate.queryForObject(
+                "SELECT source, base_id, delta FROM script_versions WHERE id = ?",
+                (rs, rowNum) -> new StoredVersion(rs.getString("source"), rs.getLong("base_id"), rs.getBytes("delta")),
+                id);
+
+        // Bases are always stored in full, so this recurses at most once
+        final String source = stored.delta == null ? stored.source : VersionDelta.decode(source(stored.baseId), stored.delta);
+        sources.put(id, source);
+        return source;
+    }
+
+    private static class Snapshot {
+        private final long id;
+        private final int version;
+
+        Snapshot(long id, int version) {
+            this.id = id;
+            this.version = version;
+        }
+    }
+
+    private static class StoredVersion {
+        private final String source;
+        private final long baseId;
+        private final byte[] delta;
+
+        StoredVersion(String source, long baseId, byte[] delta) {
+            this.source = source;
+            this.baseId = baseId;
+            this.delta = delta;
+        }
+    }
+}
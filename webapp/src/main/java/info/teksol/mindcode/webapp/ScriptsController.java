@@ -1,20 +1,28 @@
 package info.teksol.mindcode.webapp;
 
+import info.teksol.mindcode.CompilerVersion;
 import info.teksol.mindcode.Tuple2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.ModelAndView;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import java.security.SecureRandom;
+import java.sql.Array;
 import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
-import static info.teksol.mindcode.webapp.CompilerFacade.compile;
 import static org.springframework.http.HttpStatus.*;
 
 @Controller
@@ -22,9 +30,15 @@ import static org.springframework.http.HttpStatus.*;
 public class ScriptsController {
     private static final String slugSource = "abcdefghijklmnopqrstuvwxyz0123456789";
     private static final SecureRandom random = new SecureRandom();
+    private static final int SCRIPTS_PER_PAGE = 50;
+    private static final int VERSIONS_PER_PAGE = 20;
 
     @Autowired
     private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MindcodeCompilerService compilerService;
+    @Autowired
+    private ScriptVersionStore versionStore;
 
     private static String generateVersionSlug() {
         final StringBuilder buffer = new StringBuilder();
@@ -37,21 +51,66 @@ public class ScriptsController {
         return buffer.toString();
     }
 
+    /**
+     * Lists the user's scripts a page at a time, optionally only those whose name or source contains the query. Scripts
+     * whose name matches come first, then by name. Pages are keyed by the last script of the previous page: without a
+     * query, a page is a range of the {@code scripts_author_name} index, so that every page costs the same to fetch,
+     * however deep into the list it is. A key that isn't one of the user's scripts starts over from the first page.
+     */
     @GetMapping
-    public ModelAndView listScripts(@RequestParam(required = false, name = "q") String query, HttpSession session) {
+    public ModelAndView listScripts(@RequestParam(required = false, name = "q") String query,
+                                    @RequestParam(required = false, name = "after") UUID after,
+                                    HttpSession session) {
         final User user = authenticate(session);
 
         if (query == null) query = "";
-        query = query
-                .replaceAll("%", "")
-                .replaceFirst("^", "%")
-                .replaceFirst("$", "%");
+        query = query.trim();
+
+        // Both ILIKE predicates are served by the trigram indexes on name and source; see DbMigrator
+        final String pattern = "%" + query.replaceAll("[\\\\%_]", "\\\\$0") + "%";
+        // Without a query there is nothing to rank by, and leaving the rank out lets the keyset match the index
+        final String keyset = (query.isEmpty() ? "" : "(name NOT ILIKE ?), ") + "lower(name), recorded_at, scripts.id";
+
+        final List<Object[]> cursors = after == null ? List.of() : jdbcTemplate.query(
+                "SELECT " + keyset + " FROM scripts WHERE scripts.id = ?::uuid AND author_id = ?::uuid",
+                (ResultSet rs, int rowNum) -> {
+                    final Object[] key = new Object[rs.getMetaData().getColumnCount()];
+                    for (int i = 0; i < key.length; i++) {
+                        key[i] = rs.getObject(i + 1);
+                    }
+                    return key;
+                },
+                query.isEmpty()
+                        ? new Object[]{after.toString(), user.getId()}
+                        : new Object[]{pattern, after.toString(), user.getId()});
+
+        final List<Object> params = new ArrayList<>();
+        final StringBuilder sql = new StringBuilder()
+                .append("SELECT scripts.id, name, recorded_at, username AS author_name\n")
+                .append("FROM scripts\n")
+                .append("  JOIN users ON users.id = scripts.author_id\n")
+                .append("WHERE author_id = ?::uuid\n");
+        params.add(user.getId());
+        if (!query.isEmpty()) {
+            sql.append("  AND (name ILIKE ? OR source ILIKE ?)\n");
+            params.add(pattern);
+            params.add(pattern);
+        }
+        if (!cursors.isEmpty()) {
+            final Object[] cursor = cursors.get(0);
+            sql.append("  AND (").append(keyset).append(") > (")
+                    .append(String.join(", ", Collections.nCopies(cursor.length, "?"))).append(")\n");
+            if (!query.isEmpty()) params.add(pattern);
+            params.addAll(Arrays.asList(cursor));
+        }
+        sql.append("ORDER BY ").append(keyset).append("\n")
+                .append("LIMIT ?");
+        if (!query.isEmpty()) params.add(pattern);
+        // One more than a page, to know whether there is a next page
+        params.add(SCRIPTS_PER_PAGE + 1);
+
         final List<Script> scripts = jdbcTemplate.query(
-                "SELECT scripts.id, name, recorded_at, username AS author_name\n" +
-                        "FROM scripts\n" +
-                        "  JOIN users ON users.id = scripts.author_id\n" +
-                        "WHERE author_id = ?::uuid AND (name || source ilike ?)\n" +
-                        "ORDER BY lower(name), recorded_at",
+                sql.toString(),
                 (ResultSet rs, int rowNum) -> new Script(
                         UUID.fromString(rs.getString("id")),
                         rs.getString("name"),
@@ -59,12 +118,21 @@ public class ScriptsController {
                         rs.getString("author_name"),
                         rs.getTimestamp("recorded_at").toInstant()
                 ),
-                user.getId(), query
+                params.toArray()
         );
+
+        final UUID nextPageAfter;
+        if (scripts.size() > SCRIPTS_PER_PAGE) {
+            scripts.subList(SCRIPTS_PER_PAGE, scripts.size()).clear();
+            nextPageAfter = scripts.get(SCRIPTS_PER_PAGE - 1).getId();
+        } else {
+            nextPageAfter = null;
+        }
+
         return new ModelAndView(
                 "scripts/index",
                 "model",
-                new ListScriptData(scripts, query.replaceAll("%", ""))
+                new ListScriptData(scripts, query, nextPageAfter)
         );
     }
 
@@ -93,50 +161,96 @@ public class ScriptsController {
         final User user = authenticate(session);
 
         final UUID id = UUID.randomUUID();
+        final String normalizedSource = source.replaceAll("\r\n", "\n");
+        final Tuple2<String, List<String>> compiled = compilerService.compile(normalizedSource);
         jdbcTemplate.update(
-                "INSERT INTO public.scripts(id, name, author_id, source) VALUES (?::uuid, ?, ?::uuid, ?)",
-                id.toString(), name, user.getId(), source.replaceAll("\r\n", "\n"));
+                "INSERT INTO public.scripts(id, name, author_id, source, compiled, compile_errors, compiler_version) VALUES (?::uuid, ?, ?::uuid, ?, ?, ?, ?)",
+                id.toString(), name, user.getId(), normalizedSource,
+                compiled._1, CompilerFacade.errorsToArray(compiled._2), CompilerVersion.VERSION);
         return "redirect:/scripts/" + id.toString() + "/edit";
     }
 
+    /**
+     * Shows the script with one page of its version history, newest first, or only the versions older than
+     * {@code before}. Versions are listed without their source: see {@link #versionSource}.
+     */
     @GetMapping(value = "/{id}/edit")
-    public ModelAndView editScript(@PathVariable(value = "id") UUID id, HttpSession session) {
+    public ModelAndView editScript(@PathVariable(value = "id") UUID id,
+                                   @RequestParam(required = false, name = "before") Integer before,
+                                   HttpSession session,
+                                   WebRequest request,
+                                   HttpServletResponse response) {
         final User user = authenticate(session);
 
+        // Answer reloads of an unchanged script before loading its history, compiling or rendering
+        final List<String> etags = jdbcTemplate.query(
+                "SELECT name, encode(sha256(convert_to(source, 'UTF8')), 'hex') AS source_hash,\n" +
+                        "  (SELECT coalesce(max(version), 0) FROM script_versions WHERE script_id = scripts.id) AS latest_version\n" +
+                        "FROM scripts\n" +
+                        "WHERE author_id = ?::uuid AND id = ?::uuid",
+                (rs, rowNum) -> PageETags.of("script", id.toString(), String.valueOf(before), rs.getString("name"),
+                        rs.getString("source_hash"), String.valueOf(rs.getInt("latest_version"))),
+                user.getId(), id);
+        if (!etags.isEmpty()) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+            if (request.checkNotModified(etags.get(0))) return null;
+        }
+
         final List<ScriptVersion> versionHistory = jdbcTemplate.query(
-                "SELECT id, version, name, source, version_slug, committed_at\n" +
-                        "FROM script_versions\n" +
-                        "WHERE script_id = ?\n" +
-                        "ORDER BY version DESC",
+                "SELECT v.id, v.version, v.name, v.version_slug, v.committed_at\n" +
+                        "FROM script_versions AS v\n" +
+                        "  JOIN scripts ON scripts.id = v.script_id\n" +
+                        "WHERE v.script_id = ?::uuid\n" +
+                        "  AND scripts.author_id = ?::uuid\n" +
+                        "  AND v.version < ?\n" +
+                        "ORDER BY v.version DESC\n" +
+                        "LIMIT ?",
                 (rs, rowNum) -> new ScriptVersion(
                         rs.getLong("id"),
                         rs.getInt("version"),
                         rs.getString("name"),
-                        rs.getString("source"),
                         rs.getString("version_slug"),
                         rs.getTimestamp("committed_at").toInstant()),
-                id);
+                id, user.getId(), before == null ? Integer.MAX_VALUE : before,
+                // One more than a page, to know whether there are older versions
+                VERSIONS_PER_PAGE + 1);
+
+        final Integer olderVersionsBefore;
+        if (versionHistory.size() > VERSIONS_PER_PAGE) {
+            versionHistory.subList(VERSIONS_PER_PAGE, versionHistory.size()).clear();
+            olderVersionsBefore = versionHistory.get(VERSIONS_PER_PAGE - 1).getVersion();
+        } else {
+            olderVersionsBefore = null;
+        }
 
         final EditScriptData data = jdbcTemplate.queryForObject(
                 "SELECT\n" +
                         "  scripts.name\n" +
                         ", scripts.source\n" +
+                        ", scripts.compiled\n" +
+                        ", scripts.compile_errors\n" +
+                        ", scripts.compiler_version\n" +
                         "FROM scripts\n" +
                         "WHERE (author_id = ?::uuid)\n" +
                         "  AND id = ?::uuid",
                 (rs, rowNum) -> {
                     final String source = rs.getString("source");
-                    final Tuple2<String, List<String>> compiled = compile(source);
+                    final Array compileErrors = rs.getArray("compile_errors");
+                    final Tuple2<String, List<String>> compiled = new Tuple2<>(
+                            rs.getString("compiled"),
+                            CompilerFacade.errorsFromArray(compileErrors == null ? null : (String[]) compileErrors.getArray()));
 
                     return new EditScriptData(
                             id,
                             rs.getString("name"),
                             source,
-                            source.split("\n").length,
+                            CompilerFacade.countLines(source),
                             compiled._1,
-                            compiled._1.split("\n").length,
+                            compiled._1 == null ? 0 : CompilerFacade.countLines(compiled._1),
                             compiled._2,
-                            versionHistory
+                            versionHistory,
+                            olderVersionsBefore,
+                            rs.getString("compiler_version")
                     );
                 },
                 user.getId(), id
@@ -147,37 +261,51 @@ public class ScriptsController {
         return new ModelAndView(
                 "scripts/edit",
                 "model",
-                data
+                CompilerFacade.isCurrent(data.getCompilerVersion()) ? data : recompile(user, data)
         );
     }
 
+    /**
+     * Serves the source of one version, which the edit page links to rather than embeds.
+     */
+    @GetMapping(value = "/{id}/version/{slug}", produces = MediaType.TEXT_PLAIN_VALUE)
+    @ResponseBody
+    public String versionSource(@PathVariable(value = "id") UUID id,
+                                @PathVariable(value = "slug") String slug,
+                                HttpSession session) {
+        final User user = authenticate(session);
+
+        return versionStore.source(id, slug, user.getId())
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "No version with this slug"));
+    }
+
     @PostMapping("/{id}/version/{slug}/rollback")
     public String rollbackScript(@PathVariable(value = "id") UUID id,
                                  @PathVariable(value = "slug") String slug,
                                  HttpSession session) {
         final User user = authenticate(session);
 
-        int affectedRows;
+        final String source = versionStore.source(id, slug, user.getId())
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "No script with this ID"));
+        final List<Tuple2<String, String>> current = jdbcTemplate.query(
+                "SELECT name, source FROM scripts WHERE id = ?::uuid AND author_id = ?::uuid",
+                (rs, rowNum) -> new Tuple2<>(rs.getString("name"), rs.getString("source")),
+                id, user.getId());
+        if (current.isEmpty()) throw new ResponseStatusException(NOT_FOUND, "No script with this ID");
 
         // In order to never lose work, commit the current version and then rollback
-        affectedRows = jdbcTemplate.update("INSERT INTO script_versions(script_id, name, source, version_slug, version)\n" +
-                        "  SELECT scripts.id, scripts.name, scripts.source, ?, (SELECT coalesce(max(version), 0) FROM script_versions WHERE script_id = ?::uuid) + 1\n" +
-                        "  FROM scripts\n" +
-                        "  WHERE id = ?::uuid" +
-                        "    AND author_id = ?::uuid",
-                generateVersionSlug(), id, id, user.getId());
-        if (affectedRows == 0) throw new ResponseStatusException(NOT_FOUND, "No script with this ID");
+        versionStore.commit(id, current.get(0)._1, current.get(0)._2, generateVersionSlug());
 
-        affectedRows = jdbcTemplate.update(
+        final int affectedRows = jdbcTemplate.update(
                 "UPDATE scripts\n" +
-                        "SET name = v.name, source = v.source\n" +
+                        "SET name = v.name, source = ?, compiled = NULL, compile_errors = NULL, compiler_version = NULL\n" +
                         "FROM script_versions AS v\n" +
                         "WHERE v.script_id = scripts.id\n" +
                         "  AND v.version_slug = ?\n" +
                         "  AND v.script_id = ?\n" +
                         "  AND scripts.id = ?\n" +
                         "  AND scripts.author_id = ?",
-                slug, id, id, user.getId());
+                source, slug, id, id, user.getId());
         if (affectedRows == 0) throw new ResponseStatusException(NOT_FOUND, "No script with this ID");
 
         return "redirect:/scripts/" + id + "/edit";
@@ -194,24 +322,15 @@ public class ScriptsController {
         final int affectedRows;
         switch (action) {
             case "compile":
-                affectedRows = jdbcTemplate.update(
-                        "UPDATE scripts SET name = ?, source = ? \n" +
-                                "WHERE author_id = ?::uuid AND id = ?::uuid",
-                        name, source, user.getId(), id);
+                affectedRows = updateScript(user, id, name, source);
                 if (affectedRows == 0) throw new ResponseStatusException(NOT_FOUND, "No script with this ID");
                 return "redirect:/scripts/" + id.toString() + "/edit";
 
             case "commit":
-                affectedRows = jdbcTemplate.update(
-                        "UPDATE scripts SET name = ?, source = ? \n" +
-                                "WHERE author_id = ?::uuid AND id = ?::uuid",
-                        name, source, user.getId(), id);
+                affectedRows = updateScript(user, id, name, source);
                 if (affectedRows == 0) throw new ResponseStatusException(NOT_FOUND, "No script with this ID");
 
-                final String versionSlug = generateVersionSlug();
-                jdbcTemplate.update("INSERT INTO script_versions(script_id, name, source, version_slug, version)\n" +
-                                "    VALUES (?::uuid, ?, ?, ?, (SELECT coalesce(max(version), 0) FROM script_versions WHERE script_id = ?::uuid) + 1)",
-                        id, name, source, versionSlug, id);
+                versionStore.commit(id, name, source, generateVersionSlug());
                 return "redirect:/scripts/" + id.toString() + "/edit";
 
             case "delete":
@@ -226,6 +345,41 @@ public class ScriptsController {
 
     }
 
+    private int updateScript(User user, UUID id, String name, String source) {
+        final Tuple2<String, List<String>> compiled = compilerService.compile(source);
+        return jdbcTemplate.update(
+                "UPDATE scripts SET name = ?, source = ?, compiled = ?, compile_errors = ?, compiler_version = ? \n" +
+                        "WHERE author_id = ?::uuid AND id = ?::uuid",
+                name, source, compiled._1, CompilerFacade.errorsToArray(compiled._2), CompilerVersion.VERSION,
+                user.getId(), id);
+    }
+
+    /**
+     * Compiles a script whose stored output is missing, or was produced by a different version of the compiler, and
+     * stores the output so that the next read doesn't have to compile again.
+     */
+    private EditScriptData recompile(User user, EditScriptData data) {
+        final Tuple2<String, List<String>> compiled = compilerService.compile(data.getSource());
+        jdbcTemplate.update(
+                "UPDATE scripts SET compiled = ?, compile_errors = ?, compiler_version = ? \n" +
+                        "WHERE author_id = ?::uuid AND id = ?::uuid AND source = ?",
+                compiled._1, CompilerFacade.errorsToArray(compiled._2), CompilerVersion.VERSION,
+                user.getId(), data.getId(), data.getSource());
+
+        return new EditScriptData(
+                data.getId(),
+                data.getName(),
+                data.getSource(),
+                data.getSourceLoc(),
+                compiled._1,
+                CompilerFacade.countLines(compiled._1),
+                compiled._2,
+                data.getVersionHistory(),
+                data.getOlderVersionsBefore(),
+                CompilerVersion.VERSION
+        );
+    }
+
     private User authenticate(HttpSession session) {
         final String userId = (String) session.getAttribute("userId");
         if (userId == null) throw new ResponseStatusException(UNAUTHORIZED, "Not authorized");
@@ -8,6 +8,7 @@ import org.springframework.data.relational.core.mapping.Table;
 
 import javax.persistence.GeneratedValue;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.UUID;
 
 @Table("sources")
@@ -17,20 +18,26 @@ public class Source {
     @GeneratedValue
     private final UUID id;
     private final String source;
+    private final String contentHash;
     @CreatedDate
     private final Instant createdAt;
+    private final String compiled;
+    private final String[] compileErrors;
+    private final String compilerVersion;
 
     public Source(String source, Instant createdAt) {
-        this.id = null;
-        this.source = source;
-        this.createdAt = createdAt;
+        this(null, source, contentHashOf(source), createdAt, null, null, null);
     }
 
     @PersistenceConstructor
-    public Source(UUID id, String source, Instant createdAt) {
+    public Source(UUID id, String source, String contentHash, Instant createdAt, String compiled, String[] compileErrors, String compilerVersion) {
         this.id = id;
         this.source = source;
+        this.contentHash = contentHash;
         this.createdAt = createdAt;
+        this.compiled = compiled;
+        this.compileErrors = compileErrors;
+        this.compilerVersion = compilerVersion;
     }
 
     public UUID getId() {
@@ -41,16 +48,42 @@ public class Source {
         return source;
     }
 
+    /**
+     * @return the key sources are stored under: no two rows hold the same text
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
 
+    public String getCompiled() {
+        return compiled;
+    }
+
+    public String[] getCompileErrors() {
+        return compileErrors;
+    }
+
+    /**
+     * @return the version of the compiler that produced {@link #getCompiled()}, or null if the source was never compiled
+     */
+    public String getCompilerVersion() {
+        return compilerVersion;
+    }
+
     public Source withId(UUID newId) {
-        return new Source(newId, source, createdAt);
+        return new Source(newId, source, contentHash, createdAt, compiled, compileErrors, compilerVersion);
+    }
+
+    public Source withCompiled(String newCompiled, String[] newCompileErrors, String newCompilerVersion) {
+        return new Source(id, source, contentHash, createdAt, newCompiled, newCompileErrors, newCompilerVersion);
     }
 
-    public Source withSource(String newSource) {
-        return new Source(id, newSource, createdAt);
+    public static String contentHashOf(String source) {
+        return CompilerFacade.sha256Hex(source);
     }
 
     @Override
@@ -58,7 +91,11 @@ public class Source {
         return "Source{" +
                 "id=" + id +
                 ", source='" + source + '\'' +
+                ", contentHash='" + contentHash + '\'' +
                 ", createdAt=" + createdAt +
+                ", compiled='" + compiled + '\'' +
+                ", compileErrors=" + Arrays.toString(compileErrors) +
+                ", compilerVersion='" + compilerVersion + '\'' +
                 '}';
     }
 }
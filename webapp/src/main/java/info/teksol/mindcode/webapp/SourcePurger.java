@@ -0,0 +1,134 @@
+package info.teksol.mindcode.webapp;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes the anonymous sources that nobody saved or looked at for longer than {@code mindcode.purge.max-age-days}, so
+ * that {@code sources} stops growing forever. Enable with {@code mindcode.purge.enabled=true}.
+ * <p>
+ * Each run walks the expired rows in {@code (last_accessed_at, id)} order, deleting at most
+ * {@code mindcode.purge.batch-size} of them per statement and pausing {@code mindcode.purge.pause-millis} between
+ * statements: every batch commits on its own, so no lock is held for long and the WAL grows in small steps. A source
+ * saved or looked at while a run is under way has a fresh {@code last_accessed_at}, and is skipped.
+ * <p>
+ * Rows purged per run are recorded as the {@code mindcode.sources.purged} distribution, and the time each run took as
+ * the {@code mindcode.sources.purge} timer.
+ */
+@Component
+@ConditionalOnProperty(name = "mindcode.purge.enabled", havingValue = "true")
+public class SourcePurger {
+    private static final Logger logger = LoggerFactory.getLogger(SourcePurger.class);
+
+    // Answers no row once there's nothing left to look at; deleted may count fewer rows than batch when some were
+    // saved again in the meantime
+    private static final String PURGE_BATCH = "WITH batch AS (\n" +
+            "  SELECT id, last_accessed_at\n" +
+            "  FROM public.sources\n" +
+            "  WHERE (last_accessed_at, id) > (?, ?) AND last_accessed_at < ?\n" +
+            "  ORDER BY last_accessed_at, id\n" +
+            "  LIMIT ?\n" +
+            "), deleted AS (\n" +
+            "  DELETE FROM public.sources WHERE id IN (SELECT id FROM batch) AND last_accessed_at < ?\n" +
+            "  RETURNING id\n" +
+            ")\n" +
+            "SELECT last.last_accessed_at, last.id, (SELECT count(*) FROM batch) AS scanned, (SELECT count(*) FROM deleted) AS purged\n" +
+            "FROM (SELECT last_accessed_at, id FROM batch ORDER BY last_accessed_at DESC, id DESC LIMIT 1) AS last";
+
+    private static final ResultSetExtractor<BatchOutcome> BATCH_OUTCOME = (rs) -> rs.next()
+            ? new BatchOutcome(rs.getTimestamp("last_accessed_at"), rs.getObject("id", UUID.class), rs.getInt("scanned"), rs.getInt("purged"))
+            : null;
+
+    private final JdbcTemplate template;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final DistributionSummary purgedPerRun;
+    private final Timer runTime;
+
+    public SourcePurger(JdbcTemplate template,
+                        MeterRegistry registry,
+                        @Value("${mindcode.purge.max-age-days:365}") int maxAgeDays,
+                        @Value("${mindcode.purge.batch-size:500}") int batchSize,
+                        @Value("${mindcode.purge.pause-millis:100}") long pauseMillis) {
+        this.template = template;
+        this.maxAge = Duration.ofDays(maxAgeDays);
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.purgedPerRun = DistributionSummary.builder("mindcode.sources.purged")
+                .description("Anonymous sources deleted by a purge run")
+                .baseUnit("rows")
+                .register(registry);
+        this.runTime = Timer.builder("mindcode.sources.purge")
+                .description("Time taken by a purge run, pauses between batches included")
+                .register(registry);
+    }
+
+    @Scheduled(initialDelayString = "${mindcode.purge.initial-delay-millis:60000}",
+            fixedDelayString = "${mindcode.purge.interval-millis:3600000}")
+    public void purge() {
+        purge(Instant.now().minus(maxAge));
+    }
+
+    /**
+     * Deletes the sources last accessed before the cutoff.
+     */
+    void purge(Instant accessedBefore) {
+        final long start = System.nanoTime();
+        final Timestamp cutoff = Timestamp.from(accessedBefore);
+        int batches = 0;
+        int purged = 0;
+        try {
+            BatchOutcome outcome = new BatchOutcome(new Timestamp(0), new UUID(0, 0), 0, 0);
+            do {
+                if (batches > 0) Thread.sleep(pauseMillis);
+
+                final BatchOutcome previous = outcome;
+                outcome = template.query(PURGE_BATCH, BATCH_OUTCOME,
+                        previous.lastAccessedAt, previous.lastId, cutoff, batchSize, cutoff);
+                if (outcome == null) break;
+
+                batches++;
+                purged += outcome.purged;
+            } while (outcome.scanned == batchSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.info("purge interrupted, resuming at the next run");
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            purgedPerRun.record(purged);
+            runTime.record(elapsed, TimeUnit.NANOSECONDS);
+            logger.info("purge sources_purged={} batches={} accessed_before={} purged_in={}ms",
+                    purged, batches, cutoff.toInstant(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    private static class BatchOutcome {
+        private final Timestamp lastAccessedAt;
+        private final UUID lastId;
+        private final int scanned;
+        private final int purged;
+
+        BatchOutcome(Timestamp lastAccessedAt, UUID lastId, int scanned, int purged) {
+            this.lastAccessedAt = lastAccessedAt;
+            this.lastId = lastId;
+            this.scanned = scanned;
+            this.purged = purged;
+        }
+    }
+}
@@ -1,8 +1,63 @@
 package info.teksol.mindcode.webapp;
 
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Sources are stored by content: each distinct text has exactly one row, whose ID every link to that text resolves to.
+ * Rows folded into another when duplicates were merged keep resolving through {@code source_aliases}.
+ */
 public interface SourceRepository extends CrudRepository<Source, UUID> {
+    /**
+     * Stores the source unless a row with the same text already exists, in which case that row is
+     * {@linkplain #refresh(UUID) refreshed}. Safe to call concurrently with the same text.
+     *
+     * @return true if a row was inserted or refreshed
+     */
+    @Modifying
+    @Query("INSERT INTO public.sources(source, content_hash) VALUES (:source, :contentHash)\n" +
+            "ON CONFLICT (content_hash) DO UPDATE SET last_accessed_at = current_timestamp\n" +
+            "WHERE sources.last_accessed_at < current_timestamp - interval '1 day'")
+    boolean insertOrRefresh(@Param("source") String source, @Param("contentHash") String contentHash);
+
+    /**
+     * Brings the source's {@code last_accessed_at} forward, at most once a day, so that {@link SourcePurger} leaves it
+     * be.
+     *
+     * @return true if the row was brought forward
+     */
+    @Modifying
+    @Query("UPDATE public.sources SET last_accessed_at = current_timestamp\n" +
+            "WHERE id = :id AND last_accessed_at < current_timestamp - interval '1 day'")
+    boolean refresh(@Param("id") UUID id);
+
+    Optional<Source> findByContentHash(String contentHash);
+
+    @Query("SELECT sources.* FROM public.sources JOIN public.source_aliases ON source_aliases.source_id = sources.id WHERE source_aliases.id = :id")
+    Optional<Source> findByAlias(@Param("id") UUID id);
+
+    /**
+     * @return the row holding the text with this content hash, inserting it first if there is none
+     */
+    default Source upsert(String source) {
+        final String contentHash = Source.contentHashOf(source);
+        insertOrRefresh(source, contentHash);
+        return findByContentHash(contentHash)
+                .orElseThrow(() -> new IllegalStateException("Source vanished right after being stored: " + contentHash));
+    }
+
+    /**
+     * Looks up the source a link points to, and {@linkplain #refresh(UUID) refreshes} it: a link that is still used
+     * keeps its source from being purged.
+     */
+    default Optional<Source> findByIdOrAlias(UUID id) {
+        final Optional<Source> source = findById(id).or(() -> findByAlias(id));
+        source.ifPresent((found) -> refresh(found.getId()));
+        return source;
+    }
 }
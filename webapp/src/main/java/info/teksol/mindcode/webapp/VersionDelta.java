@@ -0,0 +1,67 @@
+package info.teksol.mindcode.webapp;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes a version of a script as the difference with an earlier version, its base.
+ * <p>
+ * The difference is the version compressed with DEFLATE, with the base as preset dictionary: whatever the version
+ * shares with the base becomes back-references into it, which take a few bytes each, and only what changed is stored
+ * literally. DEFLATE only looks 32 KiB back, so scripts larger than that share less with their base, but are still
+ * encoded correctly. The zlib wrapper records a checksum of the dictionary, so decoding against the wrong base fails
+ * rather than answering garbage.
+ */
+final class VersionDelta {
+    private VersionDelta() {
+    }
+
+    static byte[] encode(String base, String version) {
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setDictionary(base.getBytes(StandardCharsets.UTF_8));
+            deflater.setInput(version.getBytes(StandardCharsets.UTF_8));
+            deflater.finish();
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static String decode(String base, byte[] delta) {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(delta);
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                final int length = inflater.inflate(buffer);
+                if (length == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(base.getBytes(StandardCharsets.UTF_8));
+                    } else if (inflater.needsInput() && !inflater.finished()) {
+                        throw new IllegalStateException("Truncated version delta");
+                    }
+                }
+                out.write(buffer, 0, length);
+            }
+
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException | IllegalArgumentException e) {
+            throw new IllegalStateException("Version delta doesn't apply to its base", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
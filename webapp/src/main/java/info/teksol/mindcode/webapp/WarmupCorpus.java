@@ -0,0 +1,114 @@
+package info.teksol.mindcode.webapp;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the programs {@link CompilerWarmup} compiles, besides the samples. Between them, the snippets exercise
+ * every alternative of every rule in {@code Mindcode.g4}, so that the parser's DFA cache holds a state for each of
+ * them once warm-up completes. Variants differ in their identifiers and literals only, which gives the JIT compiler
+ * enough distinct, realistic work to compile the generator and optimizers too.
+ */
+final class WarmupCorpus {
+    private static final List<String> SNIPPETS = List.of(
+            // Allocations, function declarations with and without parameters, and calls
+            "" +
+                    "allocate heap in cell1[0 ... 32], stack in cell2[0 .. 63]\n" +
+                    "def scale%1$d(value, factor)\n" +
+                    "  value * factor + %1$d\n" +
+                    "end\n" +
+                    "def tick%1$d\n" +
+                    "  $ticks += 1\n" +
+                    "end\n" +
+                    "$result = scale%1$d($ticks, 0x1f)\n" +
+                    "tick%1$d()\n" +
+                    "end()\n",
+
+            // Property accesses, indirect sensors, controls and unit references
+            "" +
+                    "// Keep the reactor cool\n" +
+                    "reactor%1$d.enabled = reactor%1$d.cryofluid / reactor%1$d.liquidCapacity >= 0.25\n" +
+                    "amount%1$d = vault1.sensor(@copper)\n" +
+                    "ubind(@poly)\n" +
+                    "@unit.flag = %1$d\n" +
+                    "turret%1$d.shoot(@unit.x, @unit.y, true)\n" +
+                    "move(@thisx, @thisy); approach(10, 20, 5)\n",
+
+            // Every operator, literal and assignment
+            "" +
+                    "a%1$d = (1 + 2 - 3) * 4 / 5 \\ 6 %% 7 ** 2\n" +
+                    "b%1$d = a%1$d << 1 >> 2 & 3 | 4 ^ 5\n" +
+                    "c%1$d = a%1$d < b%1$d and a%1$d <= 2 or a%1$d > 3 && b%1$d >= 4 || not (a%1$d == 1)\n" +
+                    "d%1$d = a%1$d != b%1$d ? a%1$d === 1 : !false\n" +
+                    "e%1$d = -%1$d.5 + -%1$d\n" +
+                    "f%1$d = \"label \\\"%1$d\\\"\"\n" +
+                    "g%1$d = null\n" +
+                    "h%1$d = true\n" +
+                    "a%1$d **= 2\n" +
+                    "a%1$d *= 3\n" +
+                    "a%1$d /= 4\n" +
+                    "a%1$d += 5\n" +
+                    "a%1$d -= 6\n",
+
+            // Conditionals
+            "" +
+                    "n%1$d = rand(10)\n" +
+                    "if n%1$d == 1\n" +
+                    "  print(\"one\")\n" +
+                    "elsif n%1$d == 2\n" +
+                    "  print(\"two\")\n" +
+                    "else if n%1$d == 3\n" +
+                    "  print(\"three\")\n" +
+                    "else\n" +
+                    "  print(\"many\")\n" +
+                    "end\n" +
+                    "if n%1$d > 5\n" +
+                    "end\n" +
+                    "state%1$d = case n%1$d\n" +
+                    "  when 1\n" +
+                    "    \"low\"\n" +
+                    "  when 2\n" +
+                    "  else\n" +
+                    "    \"high\"\n" +
+                    "end\n" +
+                    "printflush(message1)\n",
+
+            // Loops
+            "" +
+                    "for i%1$d in 0 ... 8\n" +
+                    "  cell3[i%1$d] = cell3[i%1$d] + %1$d\n" +
+                    "end\n" +
+                    "for k%1$d = 0, l%1$d = 1 ; k%1$d < 10 ; k%1$d += 1, l%1$d *= 2\n" +
+                    "  print(k%1$d, l%1$d)\n" +
+                    "end\n" +
+                    "while @unit == null\n" +
+                    "  ubind(@poly)\n" +
+                    "end\n",
+
+            // The generator does not support break and continue yet: this snippet only warms the parser up
+            "" +
+                    "for j%1$d in 0 .. 7\n" +
+                    "  continue\n" +
+                    "end\n" +
+                    "while true\n" +
+                    "  break\n" +
+                    "end\n"
+    );
+
+    private WarmupCorpus() {
+    }
+
+    /**
+     * @return {@code variants} copies of each snippet, each one using distinct identifiers
+     */
+    static List<String> generate(int variants) {
+        final List<String> programs = new ArrayList<>(variants * SNIPPETS.size());
+        for (int i = 0; i < variants; i++) {
+            for (final String snippet : SNIPPETS) {
+                programs.add(String.format(snippet, i));
+            }
+        }
+
+        return programs;
+    }
+}
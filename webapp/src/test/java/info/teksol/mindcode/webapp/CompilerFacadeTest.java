@@ -0,0 +1,58 @@
+package info.teksol.mindcode.webapp;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import info.teksol.mindcode.Tuple2;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompilerFacadeTest {
+    @Test
+    void servesRepeatedCompilesFromTheCache() {
+        final String source = "n = 0\nwhile n < 10\n  n += 1\nend\n// " + getClass().getName() + "#servesRepeatedCompilesFromTheCache";
+
+        final CacheStats before = CompilerFacade.cacheStats();
+        final Tuple2<String, List<String>> first = CompilerFacade.compile(source);
+        final Tuple2<String, List<String>> second = CompilerFacade.compile(source);
+        final CacheStats after = CompilerFacade.cacheStats().minus(before);
+
+        assertSame(first, second);
+        assertEquals(1, after.missCount());
+        assertEquals(1, after.hitCount());
+    }
+
+    @Test
+    void cachesSyntaxErrorsAlongsideTheirSource() {
+        final String source = "n = = 0 // " + getClass().getName() + "#cachesSyntaxErrorsAlongsideTheirSource";
+
+        final Tuple2<String, List<String>> first = CompilerFacade.compile(source);
+        final Tuple2<String, List<String>> second = CompilerFacade.compile(source);
+
+        assertFalse(first._2.isEmpty());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void distinguishesSourcesThatDifferOnlySlightly() {
+        final Tuple2<String, List<String>> one = CompilerFacade.compile("print(1)");
+        final Tuple2<String, List<String>> two = CompilerFacade.compile("print(2)");
+
+        assertNotEquals(one._1, two._1);
+    }
+
+    @Test
+    void countsLinesLikeSplittingOnNewlines() {
+        for (final String text : List.of("", "\n", "\n\n", "end", "end\n", "set x 1\nend\n", "a\n\nb", "a\n\n\n", "\na")) {
+            assertEquals(text.split("\n").length, CompilerFacade.countLines(text), () -> "lines of [" + text + "]");
+        }
+    }
+
+    @Test
+    void hashesSourcesLikePostgres() {
+        // SELECT encode(sha256(convert_to('abc', 'UTF8')), 'hex'), encode(sha256(convert_to('é', 'UTF8')), 'hex')
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", CompilerFacade.sha256Hex("abc"));
+        assertEquals("4a99557e4033c3539de2eb65472017cad5f9557f7a0625a09f1c3f6e2ba69c4c", CompilerFacade.sha256Hex("\u00e9"));
+    }
+}
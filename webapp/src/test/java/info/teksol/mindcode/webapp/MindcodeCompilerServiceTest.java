@@ -0,0 +1,83 @@
+package info.teksol.mindcode.webapp;
+
+import info.teksol.mindcode.CompilationObserver;
+import info.teksol.mindcode.Tuple2;
+import info.teksol.mindcode.mindustry.LogicInstruction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MindcodeCompilerServiceTest {
+    private final MindcodeCompilerService service = new MindcodeCompilerService(1, 1, 2000, CompilationObserver.NONE);
+
+    @AfterEach
+    void shutDown() {
+        service.destroy();
+    }
+
+    @Test
+    void compilesPrograms() {
+        final Tuple2<String, List<String>> result = service.compile("print(\"hello\") // " + getClass().getName() + "#compilesPrograms\n");
+
+        assertEquals("print \"hello\"\nend\n", result._1);
+        assertEquals(List.of(), result._2);
+    }
+
+    @Test
+    void compilesBatchesInOrder() {
+        // More programs than the only worker and the queue's single slot can hold at once
+        final List<String> sources = List.of(
+                "print(1) // " + getClass().getName() + "#compilesBatchesInOrder\n",
+                "n = = 0 // " + getClass().getName() + "#compilesBatchesInOrder\n",
+                "print(1) // " + getClass().getName() + "#compilesBatchesInOrder\n",
+                "print(2) // " + getClass().getName() + "#compilesBatchesInOrder\n",
+                "print(3) // " + getClass().getName() + "#compilesBatchesInOrder\n",
+                "print(4) // " + getClass().getName() + "#compilesBatchesInOrder\n");
+
+        final List<Tuple2<String, List<String>>> results = service.compileAll(sources);
+
+        assertEquals(sources.size(), results.size());
+        for (int i = 0; i < sources.size(); i++) {
+            assertEquals(CompilerFacade.compile(sources.get(i)), results.get(i));
+        }
+        assertEquals(List.of(), results.get(0)._2);
+        assertFalse(results.get(1)._2.isEmpty());
+    }
+
+    @Test
+    void compilesRepeatedProgramsOnce() {
+        final AtomicInteger compilations = new AtomicInteger();
+        final MindcodeCompilerService counting = new MindcodeCompilerService(1, 1, 2000,
+                (phase, elapsedNanos, inputSize, outputSize) -> {
+                    if (phase.equals("lex")) compilations.incrementAndGet();
+                });
+        final String source = "print(1) // " + getClass().getName() + "#compilesRepeatedProgramsOnce\n";
+
+        try {
+            final List<Tuple2<String, List<String>>> results = counting.compileAll(List.of(source, source, source));
+
+            assertEquals(1, compilations.get());
+            assertEquals(List.of(results.get(0), results.get(0), results.get(0)), results);
+        } finally {
+            counting.destroy();
+        }
+    }
+
+    @Test
+    void abandonsCompilationsThatRunOutOfTime() {
+        final StringBuilder program = new StringBuilder("// " + getClass().getName() + "#abandonsCompilationsThatRunOutOfTime\n");
+        for (int i = 0; i < 20_000; i++) {
+            program.append("x").append(i).append(" = x").append(i).append(" + 1\n");
+        }
+
+        assertThrows(CompilerUnavailableException.class, () -> service.compile(program.toString()));
+
+        // The only worker must have been freed: were it still busy, this compile would time out in the queue
+        final Tuple2<List<LogicInstruction>, List<String>> result = service.compileToInstructions("print(1)");
+        assertEquals(List.of(), result._2);
+    }
+}
@@ -1,27 +1,45 @@
 package info.teksol.mindcode.webapp;
 
+import info.teksol.mindcode.MindcodeCompiler;
+import info.teksol.mindcode.Tuple2;
 import info.teksol.mindcode.ast.AstNodeBuilder;
 import info.teksol.mindcode.ast.Seq;
-import info.teksol.mindcode.grammar.MindcodeLexer;
+import info.teksol.mindcode.emulator.Devices;
+import info.teksol.mindcode.emulator.LogicEmulator;
+import info.teksol.mindcode.emulator.MemoryCell;
+import info.teksol.mindcode.emulator.MessageBlock;
 import info.teksol.mindcode.grammar.MindcodeParser;
 import info.teksol.mindcode.mindustry.LogicInstruction;
 import info.teksol.mindcode.mindustry.LogicInstructionGenerator;
 import info.teksol.mindcode.mindustry.LogicInstructionLabelResolver;
 import info.teksol.mindcode.mindustry.LogicInstructionPrinter;
-import org.antlr.v4.runtime.*;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
 
 import java.io.*;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+/**
+ * Compiles every sample, then runs it in the emulator and compares how large and how slow it is with the baseline
+ * checked in at {@code src/test/resources/samples-baseline.txt}. A sample fails when any of its numbers went up, and
+ * the numbers it got are written to {@code tmp/samples}, ready to be copied into the baseline once the change is
+ * deemed worth it. Copy them too when a change makes a sample better, so that it cannot silently get worse again.
+ */
 class SamplesTest {
     private static final boolean onWindowsPlatform = System.getProperty("os.name").toLowerCase().contains("win");
 
+    /**
+     * The samples that wait on units that never come are measured over this many instructions.
+     */
+    private static final int MAX_STEPS = 10_000;
+
+    private static final File BASELINE = new File("src/test/resources/samples-baseline.txt");
+    private static final String[] METRICS = {"instructions", "variables", "steps", "cell-reads", "cell-writes"};
+
     @TestFactory
     List<DynamicTest> validateSamples() {
         final List<DynamicTest> result = new ArrayList<>();
@@ -47,17 +65,9 @@ class SamplesTest {
     }
 
     private void compile(String program, File source) throws IOException {
-        final MindcodeLexer lexer = new MindcodeLexer(CharStreams.fromString(program));
-        final MindcodeParser parser = new MindcodeParser(new BufferedTokenStream(lexer));
-        final List<String> errors = new ArrayList<>();
-        parser.addErrorListener(new BaseErrorListener() {
-            @Override
-            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
-                errors.add("Syntax error: " + offendingSymbol + " on line " + line + ":" + charPositionInLine + ": " + msg);
-            }
-        });
-
-        final MindcodeParser.ProgramContext context = parser.program();
+        final Tuple2<MindcodeParser.ProgramContext, List<String>> parsed = MindcodeCompiler.parse(program);
+        final MindcodeParser.ProgramContext context = parsed._1;
+        final List<String> errors = parsed._2;
         final Seq prog = AstNodeBuilder.generate(context);
         List<LogicInstruction> unoptimized = LogicInstructionGenerator.generateUnoptimized(prog);
         List<LogicInstruction> optimized = LogicInstructionGenerator.generateAndOptimize(prog);
@@ -92,5 +102,98 @@ class SamplesTest {
         final String opcodes = LogicInstructionPrinter.toString(result);
         assertFalse(opcodes.isEmpty(), "Failed to generateUnoptimized a Logic program out of:\n" + program);
         assertTrue(errors.isEmpty(), errors.toString());
+
+        final long[] metrics = measure(result);
+        final String measured = format(source.getName(), metrics);
+        try (final Writer w = new FileWriter(new File(tmp, source.getName() + "-performance.txt"))) {
+            w.write(measured + "\n");
+        }
+
+        final long[] baseline = loadBaseline().get(source.getName());
+        assertNotNull(baseline, "No baseline for " + source.getName() + ", add this line to " + BASELINE + ":\n" + measured);
+
+        final List<String> regressions = new ArrayList<>();
+        for (int i = 0; i < METRICS.length; i++) {
+            if (metrics[i] > baseline[i]) {
+                regressions.add(METRICS[i] + " went from " + baseline[i] + " to " + metrics[i]);
+            }
+        }
+        assertTrue(regressions.isEmpty(), source.getName() + " got worse: " + String.join(", ", regressions) +
+                "\nIf this is intended, replace its line in " + BASELINE + " with:\n" + measured);
+    }
+
+    /**
+     * Runs the program's first pass, as a micro-processor linked to every block the samples use would. Units can
+     * be bound, and answer 0 to every sensor. The samples that loop forever are measured until their second
+     * {@code printflush} instead, which is one pass through their loop: measuring them over a fixed number of
+     * instructions would count more memory accesses as their loop gets faster. Waits on {@code @tick} are skipped:
+     * the instructions they take depend on where the ticks fall rather than on the code, and would make the steps of a
+     * sample go up or down by a few whenever its code before the wait changes.
+     *
+     * @return the number of instructions, of variables, of instructions executed and of memory cell reads and writes
+     */
+    private long[] measure(List<LogicInstruction> program) {
+        final Map<String, Object> links = new LinkedHashMap<>();
+        links.put("cell1", new MemoryCell());
+        final MessageBlock message = new MessageBlock();
+        links.put("message1", message);
+        links.put("reactor1", "reactor1");
+        links.put("vault1", "vault1");
+        links.put("foundation1", "foundation1");
+
+        final Devices devices = new Devices() {
+            @Override
+            public Object sensor(Object target, Object property) {
+                return target == null ? null : 0;
+            }
+
+            @Override
+            public Object ubind(Object type) {
+                return "unit of " + type;
+            }
+        };
+
+        final LogicEmulator emulator = new LogicEmulator(program, links, devices,
+                LogicEmulator.MICRO_PROCESSOR_INSTRUCTIONS_PER_TICK, 0);
+        emulator.skipWaits();
+        long steps = 0;
+        while (steps < MAX_STEPS && message.getFlushes() < 2) {
+            steps += emulator.runUntilEnd(1);
+            if ((Double) emulator.getVariable("@counter") >= program.size()) break;
+        }
+
+        return new long[]{
+                program.size(),
+                emulator.getVariableCount(),
+                steps,
+                emulator.getCellReads(),
+                emulator.getCellWrites()
+        };
+    }
+
+    private static String format(String sample, long[] metrics) {
+        final StringJoiner line = new StringJoiner(" ");
+        line.add(sample);
+        for (final long metric : metrics) {
+            line.add(String.valueOf(metric));
+        }
+        return line.toString();
+    }
+
+    private static Map<String, long[]> loadBaseline() throws IOException {
+        final Map<String, long[]> baseline = new HashMap<>();
+        for (final String line : Files.readAllLines(BASELINE.toPath(), StandardCharsets.UTF_8)) {
+            if (line.isBlank() || line.startsWith("#")) continue;
+
+            final String[] fields = line.trim().split("\\s+");
+            assertEquals(METRICS.length + 1, fields.length, "Malformed line in " + BASELINE + ": " + line);
+            final long[] metrics = new long[METRICS.length];
+            for (int i = 0; i < METRICS.length; i++) {
+                metrics[i] = Long.parseLong(fields[i + 1]);
+            }
+            baseline.put(fields[0], metrics);
+        }
+
+        return baseline;
     }
 }
@@ -0,0 +1,83 @@
+package info.teksol.mindcode.webapp;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the database, like {@link WebappApplicationTests}, under a user of its own that it deletes afterwards,
+ * along with the user's scripts and their versions.
+ */
+@SpringBootTest
+class ScriptVersionStoreTest {
+    private static final int COMMITS = 8;
+
+    @Autowired
+    private JdbcTemplate template;
+    @Autowired
+    private ScriptVersionStore versionStore;
+
+    private UUID authorId;
+    private UUID scriptId;
+
+    @BeforeEach
+    void createScript() {
+        final String username = "versions" + UUID.randomUUID().toString().replace("-", "");
+        authorId = template.queryForObject(
+                "INSERT INTO public.users(username, hashed_password) VALUES (?, '') RETURNING id",
+                UUID.class, username);
+        scriptId = template.queryForObject(
+                "INSERT INTO public.scripts(name, source, author_id) VALUES ('script', '', ?) RETURNING id",
+                UUID.class, authorId);
+    }
+
+    @AfterEach
+    void deleteAuthor() {
+        template.update("DELETE FROM public.users WHERE id = ?", authorId);
+    }
+
+    @Test
+    void numbersConcurrentCommitsOneAfterAnother() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(COMMITS);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<?>> commits = new ArrayList<>();
+            for (int i = 0; i < COMMITS; i++) {
+                final String source = "print(" + i + ")\n";
+                final String slug = "versions-" + UUID.randomUUID();
+                commits.add(executor.submit(() -> {
+                    start.await();
+                    versionStore.commit(scriptId, "script", source, slug);
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (final Future<?> commit : commits) {
+                commit.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final List<Integer> versions = template.queryForList(
+                "SELECT version FROM public.script_versions WHERE script_id = ? ORDER BY version",
+                Integer.class, scriptId);
+        assertEquals(IntStream.rangeClosed(1, COMMITS).boxed().collect(Collectors.toList()), versions);
+    }
+}
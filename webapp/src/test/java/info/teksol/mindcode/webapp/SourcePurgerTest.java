@@ -0,0 +1,117 @@
+package info.teksol.mindcode.webapp;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the database, like {@link WebappApplicationTests}. The sources it stores were last accessed in the
+ * previous century, and it only purges sources accessed before {@link #CUTOFF}, so that it leaves every other source
+ * alone.
+ */
+@SpringBootTest(properties = {
+        "mindcode.purge.enabled=true",
+        "mindcode.purge.initial-delay-millis=86400000",
+        "mindcode.purge.batch-size=2",
+        "mindcode.purge.pause-millis=0"
+})
+class SourcePurgerTest {
+    private static final Instant CUTOFF = Instant.parse("1999-01-01T00:00:00Z");
+
+    @Autowired
+    private JdbcTemplate template;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private SourceRepository sourceRepository;
+    @Autowired
+    private SourcePurger purger;
+
+    private final List<UUID> stored = new ArrayList<>();
+
+    @AfterEach
+    void deleteStoredSources() {
+        for (final UUID id : stored) {
+            template.update("DELETE FROM public.sources WHERE id = ?", id);
+        }
+    }
+
+    @Test
+    void purgesEveryExpiredSourceAcrossBatches() {
+        // Three sources accessed at the same instant, so that batches of two split them
+        final UUID first = store("1990-01-01T00:00:00Z");
+        final UUID second = store("1990-01-01T00:00:00Z");
+        final UUID third = store("1990-01-01T00:00:00Z");
+        final UUID fourth = store("1991-01-01T00:00:00Z");
+        final UUID fifth = store("1992-01-01T00:00:00Z");
+        final UUID fresh = store("1999-06-01T00:00:00Z");
+
+        purger.purge(CUTOFF);
+
+        for (final UUID id : List.of(first, second, third, fourth, fifth)) {
+            assertFalse(exists(id), id.toString());
+        }
+        assertTrue(exists(fresh));
+    }
+
+    @Test
+    void skipsSourcesAccessedWhilePurging() throws Exception {
+        final UUID id = store("1990-01-01T00:00:00Z");
+
+        try (final Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (final PreparedStatement refresh = connection.prepareStatement(
+                    "UPDATE public.sources SET last_accessed_at = current_timestamp WHERE id = ?")) {
+                refresh.setObject(1, id);
+                refresh.executeUpdate();
+            }
+
+            // The purge finds the source expired, then waits on the refresh's lock before deleting it
+            final Thread purge = new Thread(() -> purger.purge(CUTOFF));
+            purge.start();
+            purge.join(500);
+            assertTrue(purge.isAlive(), "expected the purge to wait on the refreshed source");
+
+            connection.commit();
+            purge.join();
+        }
+
+        assertTrue(exists(id));
+    }
+
+    @Test
+    void refreshesSourcesWhenLookedUp() {
+        final UUID id = store("1990-01-01T00:00:00Z");
+
+        assertTrue(sourceRepository.findByIdOrAlias(id).isPresent());
+
+        purger.purge(CUTOFF);
+        assertTrue(exists(id));
+    }
+
+    private UUID store(String lastAccessedAt) {
+        final String source = "// " + getClass().getName() + " " + UUID.randomUUID() + "\n";
+        final UUID id = template.queryForObject(
+                "INSERT INTO public.sources(source, content_hash, last_accessed_at) VALUES (?, ?, ?) RETURNING id",
+                UUID.class, source, Source.contentHashOf(source), Timestamp.from(Instant.parse(lastAccessedAt)));
+        stored.add(id);
+        return id;
+    }
+
+    private boolean exists(UUID id) {
+        return template.queryForObject("SELECT count(*) FROM public.sources WHERE id = ?", Integer.class, id) == 1;
+    }
+}
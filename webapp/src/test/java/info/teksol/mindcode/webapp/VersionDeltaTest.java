@@ -0,0 +1,45 @@
+package info.teksol.mindcode.webapp;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionDeltaTest {
+    @Test
+    void reconstructsTheVersionFromItsBase() {
+        final String base = "n = 0\nwhile n < 10\n  n += 1\nend\n";
+        for (final String version : new String[]{base, "", "n = 1\nwhile n < 10\n  n += 1\nend\n", "print(\"\u00e9 \u2192 \u00fc\")\n" + base}) {
+            assertEquals(version, VersionDelta.decode(base, VersionDelta.encode(base, version)));
+        }
+    }
+
+    @Test
+    void storesSmallEditsInAFewBytes() throws IOException {
+        final String base = readSample("6-upgrade-copper-conveyors-to-titanium.mnd");
+        final String version = base.replaceFirst("\\d+", "42") + "\n// one more comment\n";
+
+        final byte[] delta = VersionDelta.encode(base, version);
+
+        assertEquals(version, VersionDelta.decode(base, delta));
+        assertTrue(delta.length * 10 < version.length(), () -> delta.length + " bytes for " + version.length() + " characters");
+    }
+
+    @Test
+    void refusesToApplyToAnotherBase() {
+        final byte[] delta = VersionDelta.encode("print(1)\n", "print(2)\n");
+
+        assertThrows(IllegalStateException.class, () -> VersionDelta.decode("print(3)\n", delta));
+    }
+
+    private String readSample(String filename) throws IOException {
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(getClass().getClassLoader().getResourceAsStream("samples/" + filename), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package info.teksol.mindcode.webapp;
+
+import info.teksol.mindcode.MindcodeCompiler;
+import info.teksol.mindcode.Tuple2;
+import info.teksol.mindcode.grammar.MindcodeLexer;
+import info.teksol.mindcode.grammar.MindcodeParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WarmupCorpusTest {
+    // Tokens the lexer knows about, but that no parser rule references
+    private static final Set<String> UNUSED_TOKENS = Set.of("LEFT_CBRACKET", "RIGHT_CBRACKET", "SL_COMMENT", "WS");
+
+    @Test
+    void parsesWithoutErrors() {
+        for (final String program : WarmupCorpus.generate(2)) {
+            assertEquals(List.of(), MindcodeCompiler.parse(program)._2, program);
+        }
+    }
+
+    @Test
+    void coversEveryGrammarAlternative() {
+        final Set<String> contexts = new HashSet<>();
+        final Set<String> tokens = new HashSet<>();
+        for (final String program : WarmupCorpus.generate(1)) {
+            final Tuple2<MindcodeParser.ProgramContext, List<String>> parsed = MindcodeCompiler.parse(program);
+            collect(parsed._1, contexts, tokens);
+        }
+
+        final Set<String> expectedContexts = Arrays.stream(MindcodeParser.class.getDeclaredClasses())
+                .filter(ParserRuleContext.class::isAssignableFrom)
+                .map(Class::getSimpleName)
+                .collect(Collectors.toCollection(TreeSet::new));
+        // Rules with labelled alternatives are only ever instantiated through the label's subclass
+        for (final String context : Set.copyOf(expectedContexts)) {
+            if (expectedContexts.stream().anyMatch((other) -> isSubclass(other, context))) {
+                expectedContexts.remove(context);
+            }
+        }
+        expectedContexts.removeAll(contexts);
+        assertEquals(Set.of(), expectedContexts, "Grammar alternatives missing from the warm-up corpus");
+
+        final Set<String> expectedTokens = IntStream.rangeClosed(1, MindcodeLexer.VOCABULARY.getMaxTokenType())
+                .mapToObj(MindcodeLexer.VOCABULARY::getSymbolicName)
+                .filter((name) -> !UNUSED_TOKENS.contains(name))
+                .collect(Collectors.toCollection(TreeSet::new));
+        expectedTokens.removeAll(tokens);
+        assertEquals(Set.of(), expectedTokens, "Tokens missing from the warm-up corpus");
+    }
+
+    private static boolean isSubclass(String candidate, String parent) {
+        try {
+            final Class<?> candidateClass = Class.forName(MindcodeParser.class.getName() + "$" + candidate);
+            return candidateClass.getSuperclass().getSimpleName().equals(parent);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void collect(ParseTree tree, Set<String> contexts, Set<String> tokens) {
+        if (tree instanceof TerminalNode) {
+            tokens.add(MindcodeLexer.VOCABULARY.getSymbolicName(((TerminalNode) tree).getSymbol().getType()));
+            return;
+        }
+
+        contexts.add(tree.getClass().getSimpleName());
+        for (int i = 0; i < tree.getChildCount(); i++) {
+            collect(tree.getChild(i), contexts, tokens);
+        }
+    }
+}